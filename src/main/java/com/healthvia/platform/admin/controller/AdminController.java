@@ -24,6 +24,8 @@ import com.healthvia.platform.admin.dto.AdminPermissionDto;
 import com.healthvia.platform.admin.dto.AdminSummaryDto;
 import com.healthvia.platform.admin.entity.Admin;
 import com.healthvia.platform.admin.service.AdminService;
+import com.healthvia.platform.auth.dto.PasswordHashingStats;
+import com.healthvia.platform.auth.service.AuthService;
 import com.healthvia.platform.common.dto.ApiResponse;
 import com.healthvia.platform.common.util.SecurityUtils;
 
@@ -37,6 +39,7 @@ import lombok.RequiredArgsConstructor;
 public class AdminController {
 
     private final AdminService adminService;
+    private final AuthService authService;
 
     // === ADMIN PROFILE MANAGEMENT ===
     
@@ -68,7 +71,7 @@ public class AdminController {
     // === ADMIN MANAGEMENT (SUPER ADMIN ONLY) ===
     
     @GetMapping("/admins")
-    @PreAuthorize("hasRole('ADMIN') and @adminService.isSuperAdmin(authentication.name)")
+    @PreAuthorize("hasRole('ADMIN') and @adminService.isSuperAdmin(authentication.principal.id)")
     public ApiResponse<Page<AdminDto>> getAllAdmins(@PageableDefault(size = 20) Pageable pageable) {
         Page<Admin> admins = adminService.findAll(pageable);
         Page<AdminDto> adminDtos = admins.map(AdminDto::fromEntity);
@@ -76,7 +79,7 @@ public class AdminController {
     }
     
     @GetMapping("/admins/search")
-    @PreAuthorize("hasRole('ADMIN') and @adminService.isSuperAdmin(authentication.name)")
+    @PreAuthorize("hasRole('ADMIN') and @adminService.isSuperAdmin(authentication.principal.id)")
     public ApiResponse<Page<AdminDto>> searchAdmins(
             @RequestParam String searchTerm,
             @PageableDefault(size = 20) Pageable pageable) {
@@ -86,7 +89,7 @@ public class AdminController {
     }
     
     @PostMapping("/admins")
-    @PreAuthorize("hasRole('ADMIN') and @adminService.isSuperAdmin(authentication.name)")
+    @PreAuthorize("hasRole('ADMIN') and @principalFreshness.isCurrent() and @adminService.isSuperAdmin(authentication.principal.id)")
     public ApiResponse<AdminDto> createAdmin(@Valid @RequestBody Admin admin) {
         Admin createdAdmin = adminService.createAdmin(admin);
         return ApiResponse.success(AdminDto.fromEntity(createdAdmin), "Admin created successfully");
@@ -102,7 +105,7 @@ public class AdminController {
     }
     
     @PatchMapping("/admins/{id}/permissions")
-    @PreAuthorize("hasRole('ADMIN') and @adminService.isSuperAdmin(authentication.name)")
+    @PreAuthorize("hasRole('ADMIN') and @principalFreshness.isCurrent() and @adminService.isSuperAdmin(authentication.principal.id)")
     public ApiResponse<AdminDto> updateAdminPermissions(
             @PathVariable String id,
             @RequestBody Set<Admin.AdminPermission> permissions) {
@@ -111,7 +114,7 @@ public class AdminController {
     }
     
     @PatchMapping("/admins/{id}/capabilities")
-    @PreAuthorize("hasRole('ADMIN') and @adminService.isSuperAdmin(authentication.name)")
+    @PreAuthorize("hasRole('ADMIN') and @principalFreshness.isCurrent() and @adminService.isSuperAdmin(authentication.principal.id)")
     public ApiResponse<AdminDto> updateAdminCapabilities(
             @PathVariable String id,
             @RequestParam(required = false) Boolean canManageUsers,
@@ -126,7 +129,7 @@ public class AdminController {
     }
     
     @PostMapping("/admins/{id}/assign-supervisor")
-    @PreAuthorize("hasRole('ADMIN') and @adminService.isSuperAdmin(authentication.name)")
+    @PreAuthorize("hasRole('ADMIN') and @principalFreshness.isCurrent() and @adminService.isSuperAdmin(authentication.principal.id)")
     public ApiResponse<AdminDto> assignSupervisor(
             @PathVariable String id,
             @RequestParam String supervisorId) {
@@ -135,7 +138,7 @@ public class AdminController {
     }
     
     @DeleteMapping("/admins/{id}")
-    @PreAuthorize("hasRole('ADMIN') and @adminService.isSuperAdmin(authentication.name)")
+    @PreAuthorize("hasRole('ADMIN') and @principalFreshness.isCurrent() and @adminService.isSuperAdmin(authentication.principal.id)")
     public ApiResponse<Void> deleteAdmin(@PathVariable String id) {
         String deletedBy = SecurityUtils.getCurrentUserId();
         adminService.deleteAdmin(id, deletedBy);
@@ -272,6 +275,11 @@ public class AdminController {
         return ApiResponse.success(count);
     }
     
+    @GetMapping("/statistics/password-hashing")
+    public ApiResponse<PasswordHashingStats> getPasswordHashingStats() {
+        return ApiResponse.success(authService.getPasswordHashingStats());
+    }
+    
     @GetMapping("/statistics/high-performing")
     public ApiResponse<List<AdminSummaryDto>> getHighPerformingAdmins(
             @RequestParam(defaultValue = "50") int minTotalActions) {
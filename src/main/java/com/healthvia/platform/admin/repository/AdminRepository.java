@@ -162,9 +162,12 @@ public interface AdminRepository extends MongoRepository<Admin, String> {
     List<Admin> findAdminsWithMostClinicApprovals(Integer minApprovals);
     
     /**
-     * Performans skoruna göre adminler
+     * Performans skoruna göre adminler ($expr içindeki alan referansları
+     * eşlenmediğinden saklanan alan adları kullanılır)
      */
-    @Query("{ $expr: { $add: ['$usersManaged', '$doctorsApproved', '$clinicsApproved'] }, $gte: ?0, 'deleted': false }")
+    @Query("{ $expr: { $gte: [ { $add: [ { $ifNull: ['$users_managed', 0] }, " +
+           "{ $ifNull: ['$doctors_approved', 0] }, { $ifNull: ['$clinics_approved', 0] } ] }, ?0 ] }, " +
+           "'deleted': false }")
     List<Admin> findHighPerformingAdmins(Integer minTotalActions);
 
     // === EMPLOYMENT QUERIES ===
@@ -14,8 +14,11 @@ import org.springframework.transaction.annotation.Transactional;
 import com.healthvia.platform.admin.entity.Admin;
 import com.healthvia.platform.admin.repository.AdminRepository;
 import com.healthvia.platform.admin.service.AdminService;
+import com.healthvia.platform.auth.identity.UniquenessClaimRegistry;
 import com.healthvia.platform.common.exception.BusinessException;
 import com.healthvia.platform.common.exception.ResourceNotFoundException;
+import com.healthvia.platform.common.persistence.FieldPatch;
+import com.healthvia.platform.common.persistence.PartialUpdater;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -27,6 +30,8 @@ import lombok.extern.slf4j.Slf4j;
 public class AdminServiceImpl implements AdminService {
 
     private final AdminRepository adminRepository;
+    private final UniquenessClaimRegistry uniquenessClaimRegistry;
+    private final PartialUpdater partialUpdater;
 
     @Override
     public Admin createAdmin(Admin admin) {
@@ -47,14 +52,15 @@ public class AdminServiceImpl implements AdminService {
             admin.setHireDate(LocalDateTime.now());
         }
         
-        return adminRepository.save(admin);
+        // Email/telefon ve çalışan numarası yazmadan önce sahiplenilir
+        return uniquenessClaimRegistry.saveClaimed(UniquenessClaimRegistry.uniqueValuesOf(admin),
+            () -> adminRepository.save(admin));
     }
 
     @Override
     public Admin updateAdmin(String id, Admin admin) {
-        Admin existingAdmin = findByIdOrThrow(id);
-        updateAdminFields(existingAdmin, admin);
-        return adminRepository.save(existingAdmin);
+        // İstek version taşıyorsa okunan kopya üzerinden optimistic kontrol yapılır
+        return partialUpdater.patch(Admin.class, id, admin.getVersion(), adminFieldsPatch(admin));
     }
 
     @Override
@@ -74,6 +80,7 @@ public class AdminServiceImpl implements AdminService {
         
         admin.markAsDeleted(deletedBy);
         adminRepository.save(admin);
+        uniquenessClaimRegistry.releaseOwner(id);
     }
 
     @Override
@@ -86,31 +93,26 @@ public class AdminServiceImpl implements AdminService {
 
     @Override
     public Admin updateProfile(String adminId, String department, String jobTitle) {
-        Admin admin = findByIdOrThrow(adminId);
-        admin.setDepartment(department);
-        admin.setJobTitle(jobTitle);
-        return adminRepository.save(admin);
+        return partialUpdater.patch(Admin.class, adminId, FieldPatch.create()
+            .set("department", department)
+            .set("jobTitle", jobTitle));
     }
 
     @Override
     public Admin updatePermissions(String adminId, Set<Admin.AdminPermission> permissions) {
-        Admin admin = findByIdOrThrow(adminId);
-        admin.setPermissions(permissions);
-        return adminRepository.save(admin);
+        return partialUpdater.patch(Admin.class, adminId, FieldPatch.create()
+            .set("permissions", permissions));
     }
 
     @Override
     public Admin updateCapabilities(String adminId, Boolean canManageUsers, Boolean canManageDoctors, 
                                   Boolean canManageClinics, Boolean canViewReports, Boolean canManageSystem) {
-        Admin admin = findByIdOrThrow(adminId);
-        
-        if (canManageUsers != null) admin.setCanManageUsers(canManageUsers);
-        if (canManageDoctors != null) admin.setCanManageDoctors(canManageDoctors);
-        if (canManageClinics != null) admin.setCanManageClinics(canManageClinics);
-        if (canViewReports != null) admin.setCanViewReports(canViewReports);
-        if (canManageSystem != null) admin.setCanManageSystem(canManageSystem);
-        
-        return adminRepository.save(admin);
+        return partialUpdater.patch(Admin.class, adminId, FieldPatch.create()
+            .setIfNotNull("canManageUsers", canManageUsers)
+            .setIfNotNull("canManageDoctors", canManageDoctors)
+            .setIfNotNull("canManageClinics", canManageClinics)
+            .setIfNotNull("canViewReports", canViewReports)
+            .setIfNotNull("canManageSystem", canManageSystem));
     }
 
     // === ADMIN HIERARCHY ===
@@ -129,16 +131,14 @@ public class AdminServiceImpl implements AdminService {
 
     @Override
     public Admin assignSupervisor(String adminId, String supervisorId) {
-        Admin admin = findByIdOrThrow(adminId);
-        Admin supervisor = findByIdOrThrow(supervisorId);
-        
         // Check hierarchy validity
-        if (admin.getId().equals(supervisorId)) {
+        if (adminId.equals(supervisorId)) {
             throw new BusinessException(null, "Admin cannot be supervisor of themselves");
         }
+        findByIdOrThrow(supervisorId);
         
-        admin.setSupervisorId(supervisorId);
-        return adminRepository.save(admin);
+        return partialUpdater.patch(Admin.class, adminId, FieldPatch.create()
+            .set("supervisorId", supervisorId));
     }
 
     // === SEARCH & FILTER ===
@@ -171,9 +171,9 @@ public class AdminServiceImpl implements AdminService {
 
     @Override
     public Admin recordAdminAction(String adminId) {
-        Admin admin = findByIdOrThrow(adminId);
-        admin.recordAdminAction();
-        return adminRepository.save(admin);
+        return partialUpdater.patch(Admin.class, adminId, FieldPatch.create()
+            .set("lastAdminAction", LocalDateTime.now())
+            .inc("totalActionsPerformed", 1));
     }
 
     @Override
@@ -275,21 +275,12 @@ public class AdminServiceImpl implements AdminService {
         }
     }
 
-    private void updateAdminFields(Admin existingAdmin, Admin newAdmin) {
-        if (newAdmin.getDepartment() != null) {
-            existingAdmin.setDepartment(newAdmin.getDepartment());
-        }
-        if (newAdmin.getJobTitle() != null) {
-            existingAdmin.setJobTitle(newAdmin.getJobTitle());
-        }
-        if (newAdmin.getAdminLevel() != null) {
-            existingAdmin.setAdminLevel(newAdmin.getAdminLevel());
-        }
-        if (newAdmin.getPermissions() != null) {
-            existingAdmin.setPermissions(newAdmin.getPermissions());
-        }
-        if (newAdmin.getSupervisorId() != null) {
-            existingAdmin.setSupervisorId(newAdmin.getSupervisorId());
-        }
+    private FieldPatch adminFieldsPatch(Admin newAdmin) {
+        return FieldPatch.create()
+            .setIfNotNull("department", newAdmin.getDepartment())
+            .setIfNotNull("jobTitle", newAdmin.getJobTitle())
+            .setIfNotNull("adminLevel", newAdmin.getAdminLevel())
+            .setIfNotNull("permissions", newAdmin.getPermissions())
+            .setIfNotNull("supervisorId", newAdmin.getSupervisorId());
     }
 }
@@ -0,0 +1,115 @@
+// appointment/controller/AppointmentController.java
+package com.healthvia.platform.appointment.controller;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.healthvia.platform.appointment.dto.AppointmentDto;
+import com.healthvia.platform.appointment.dto.BookAppointmentRequest;
+import com.healthvia.platform.appointment.entity.Appointment;
+import com.healthvia.platform.appointment.service.AppointmentService;
+import com.healthvia.platform.common.dto.ApiResponse;
+import com.healthvia.platform.common.util.SecurityUtils;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/appointments")
+@RequiredArgsConstructor
+public class AppointmentController {
+
+    private final AppointmentService appointmentService;
+
+    // === PATIENT ENDPOINTS ===
+
+    @PostMapping
+    @PreAuthorize("hasRole('PATIENT')")
+    public ApiResponse<AppointmentDto> bookAppointment(@Valid @RequestBody BookAppointmentRequest request) {
+        String patientId = SecurityUtils.getCurrentUserId();
+        Appointment appointment = appointmentService.bookAppointment(patientId, request);
+        return ApiResponse.success(AppointmentDto.fromEntity(appointment), "Appointment booked successfully");
+    }
+
+    @GetMapping("/me")
+    @PreAuthorize("hasRole('PATIENT')")
+    public ApiResponse<Page<AppointmentDto>> getMyAppointments(@PageableDefault(size = 20) Pageable pageable) {
+        String patientId = SecurityUtils.getCurrentUserId();
+        Page<AppointmentDto> appointments = appointmentService.findPatientAppointments(patientId, pageable)
+            .map(AppointmentDto::fromEntity);
+        return ApiResponse.success(appointments);
+    }
+
+    // === DOCTOR ENDPOINTS ===
+
+    @GetMapping("/doctor/me")
+    @PreAuthorize("hasRole('DOCTOR')")
+    public ApiResponse<List<AppointmentDto>> getMyDoctorAppointments(
+            @RequestParam LocalDate from,
+            @RequestParam LocalDate to) {
+        String doctorId = SecurityUtils.getCurrentUserId();
+        List<AppointmentDto> appointments = appointmentService.findDoctorAppointments(doctorId, from, to).stream()
+            .map(AppointmentDto::fromEntity)
+            .toList();
+        return ApiResponse.success(appointments);
+    }
+
+    @PatchMapping("/{id}/confirm")
+    @PreAuthorize("hasRole('DOCTOR')")
+    public ApiResponse<AppointmentDto> confirmAppointment(@PathVariable String id) {
+        Appointment appointment = appointmentService.confirmAppointment(id, SecurityUtils.getCurrentUserId());
+        return ApiResponse.success(AppointmentDto.fromEntity(appointment), "Appointment confirmed");
+    }
+
+    @PatchMapping("/{id}/start")
+    @PreAuthorize("hasRole('DOCTOR')")
+    public ApiResponse<AppointmentDto> startAppointment(@PathVariable String id) {
+        Appointment appointment = appointmentService.startAppointment(id, SecurityUtils.getCurrentUserId());
+        return ApiResponse.success(AppointmentDto.fromEntity(appointment), "Appointment started");
+    }
+
+    @PatchMapping("/{id}/complete")
+    @PreAuthorize("hasRole('DOCTOR')")
+    public ApiResponse<AppointmentDto> completeAppointment(@PathVariable String id) {
+        Appointment appointment = appointmentService.completeAppointment(id, SecurityUtils.getCurrentUserId());
+        return ApiResponse.success(AppointmentDto.fromEntity(appointment), "Appointment completed");
+    }
+
+    @PatchMapping("/{id}/no-show")
+    @PreAuthorize("hasRole('DOCTOR')")
+    public ApiResponse<AppointmentDto> markNoShow(@PathVariable String id) {
+        Appointment appointment = appointmentService.markNoShow(id, SecurityUtils.getCurrentUserId());
+        return ApiResponse.success(AppointmentDto.fromEntity(appointment), "Appointment marked as no-show");
+    }
+
+    // === SHARED ENDPOINTS ===
+
+    @GetMapping("/{id}")
+    @PreAuthorize("hasRole('ADMIN') or @appointmentService.isParticipant(#id, authentication.principal.id)")
+    public ApiResponse<AppointmentDto> getAppointment(@PathVariable String id) {
+        return ApiResponse.success(AppointmentDto.fromEntity(appointmentService.findById(id)));
+    }
+
+    @PatchMapping("/{id}/cancel")
+    @PreAuthorize("hasRole('ADMIN') or @appointmentService.isParticipant(#id, authentication.principal.id)")
+    public ApiResponse<AppointmentDto> cancelAppointment(
+            @PathVariable String id,
+            @RequestParam(required = false) String reason) {
+        String userId = SecurityUtils.getCurrentUserId();
+        Appointment appointment = appointmentService.cancelAppointment(id, userId, reason);
+        return ApiResponse.success(AppointmentDto.fromEntity(appointment), "Appointment cancelled");
+    }
+}
@@ -0,0 +1,58 @@
+// appointment/dto/AppointmentDto.java
+package com.healthvia.platform.appointment.dto;
+
+import java.time.LocalDateTime;
+
+import com.healthvia.platform.appointment.entity.Appointment;
+import com.healthvia.platform.common.enums.AppointmentStatus;
+import com.healthvia.platform.doctor.entity.Doctor;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AppointmentDto {
+
+    private String id;
+    private String doctorId;
+    private String patientId;
+    private LocalDateTime slotStart;
+    private LocalDateTime slotEnd;
+    private AppointmentStatus status;
+    private Doctor.ConsultationType consultationType;
+    private String patientNotes;
+    private LocalDateTime confirmedAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime completedAt;
+    private LocalDateTime cancelledAt;
+    private String cancelledBy;
+    private String cancellationReason;
+    private LocalDateTime createdAt;
+
+    public static AppointmentDto fromEntity(Appointment appointment) {
+        if (appointment == null) return null;
+
+        return AppointmentDto.builder()
+            .id(appointment.getId())
+            .doctorId(appointment.getDoctorId())
+            .patientId(appointment.getPatientId())
+            .slotStart(appointment.getSlotStart())
+            .slotEnd(appointment.getSlotEnd())
+            .status(appointment.getStatus())
+            .consultationType(appointment.getConsultationType())
+            .patientNotes(appointment.getPatientNotes())
+            .confirmedAt(appointment.getConfirmedAt())
+            .startedAt(appointment.getStartedAt())
+            .completedAt(appointment.getCompletedAt())
+            .cancelledAt(appointment.getCancelledAt())
+            .cancelledBy(appointment.getCancelledBy())
+            .cancellationReason(appointment.getCancellationReason())
+            .createdAt(appointment.getCreatedAt())
+            .build();
+    }
+}
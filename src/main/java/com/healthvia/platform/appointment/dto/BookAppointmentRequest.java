@@ -0,0 +1,32 @@
+// appointment/dto/BookAppointmentRequest.java
+package com.healthvia.platform.appointment.dto;
+
+import java.time.LocalDateTime;
+
+import com.healthvia.platform.doctor.entity.Doctor;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookAppointmentRequest {
+
+    @NotBlank(message = "Doktor belirtilmelidir")
+    private String doctorId;
+
+    @NotNull(message = "Randevu zamanı belirtilmelidir")
+    private LocalDateTime slotStart;
+
+    private Doctor.ConsultationType consultationType;
+
+    @Size(max = 1000, message = "Randevu notu en fazla 1000 karakter olabilir")
+    private String patientNotes;
+}
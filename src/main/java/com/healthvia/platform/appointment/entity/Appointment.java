@@ -0,0 +1,109 @@
+// appointment/entity/Appointment.java
+package com.healthvia.platform.appointment.entity;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import com.healthvia.platform.common.enums.AppointmentStatus;
+import com.healthvia.platform.common.model.BaseEntity;
+import com.healthvia.platform.doctor.entity.Doctor;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+@Data
+@SuperBuilder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+@Document(collection = "appointments")
+@CompoundIndexes({
+    // Slot rezervasyonu: slotu tutan (iptal edilmemiş) tek randevu olabilir
+    @CompoundIndex(name = "doctor_slot_unique_idx",
+        def = "{'doctor_id': 1, 'slot_start': 1}",
+        unique = true,
+        partialFilter = "{'slot_held': true}"),
+    @CompoundIndex(name = "patient_slot_idx", def = "{'patient_id': 1, 'slot_start': -1}"),
+    @CompoundIndex(name = "doctor_status_slot_idx", def = "{'doctor_id': 1, 'status': 1, 'slot_start': 1}")
+})
+public class Appointment extends BaseEntity {
+
+    // === TARAFLAR ===
+    @NotBlank(message = "Doktor belirtilmelidir")
+    @Field("doctor_id")
+    private String doctorId;
+
+    @NotBlank(message = "Hasta belirtilmelidir")
+    @Field("patient_id")
+    private String patientId;
+
+    // === ZAMAN ===
+    @NotNull(message = "Randevu zamanı belirtilmelidir")
+    @Field("slot_start")
+    private LocalDateTime slotStart;
+
+    @Field("slot_end")
+    private LocalDateTime slotEnd;
+
+    /**
+     * Randevu slotu elinde tutuyorsa true; iptalde false olur ve slot
+     * benzersiz indeksten düşerek yeniden rezerve edilebilir hale gelir
+     */
+    @Field("slot_held")
+    private Boolean slotHeld;
+
+    // === DURUM ===
+    private AppointmentStatus status;
+
+    @Field("consultation_type")
+    private Doctor.ConsultationType consultationType;
+
+    @Size(max = 1000, message = "Randevu notu en fazla 1000 karakter olabilir")
+    @Field("patient_notes")
+    private String patientNotes;
+
+    @Field("confirmed_at")
+    private LocalDateTime confirmedAt;
+
+    @Field("started_at")
+    private LocalDateTime startedAt;
+
+    @Field("completed_at")
+    private LocalDateTime completedAt;
+
+    @Field("cancelled_at")
+    private LocalDateTime cancelledAt;
+
+    @Field("cancelled_by")
+    private String cancelledBy;
+
+    @Size(max = 500, message = "İptal nedeni en fazla 500 karakter olabilir")
+    @Field("cancellation_reason")
+    private String cancellationReason;
+
+    // === BUSINESS METHODS ===
+
+    public boolean isParticipant(String userId) {
+        return userId != null && (userId.equals(doctorId) || userId.equals(patientId));
+    }
+
+    // === GETTER METHODS WITH DEFAULTS ===
+
+    public AppointmentStatus getStatus() {
+        return status != null ? status : AppointmentStatus.PENDING;
+    }
+
+    public Boolean getSlotHeld() {
+        return slotHeld != null ? slotHeld : false;
+    }
+}
@@ -0,0 +1,37 @@
+// appointment/repository/AppointmentRepository.java
+package com.healthvia.platform.appointment.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import com.healthvia.platform.appointment.entity.Appointment;
+import com.healthvia.platform.common.enums.AppointmentStatus;
+
+@Repository
+public interface AppointmentRepository extends MongoRepository<Appointment, String> {
+
+    // === PARTICIPANT QUERIES ===
+
+    Page<Appointment> findByPatientIdAndDeletedFalseOrderBySlotStartDesc(String patientId, Pageable pageable);
+
+    List<Appointment> findByDoctorIdAndSlotStartBetweenAndDeletedFalseOrderBySlotStartAsc(
+        String doctorId, LocalDateTime from, LocalDateTime to);
+
+    List<Appointment> findByDoctorIdAndStatusAndDeletedFalseOrderBySlotStartAsc(
+        String doctorId, AppointmentStatus status);
+
+    // === SLOT QUERIES ===
+
+    /**
+     * Bir doktorun verilen aralıkta tuttuğu slotların sadece başlangıç zamanları
+     */
+    @Query(value = "{'doctorId': ?0, 'slotStart': {$gte: ?1, $lt: ?2}, 'slotHeld': true}",
+           fields = "{'slotStart': 1}")
+    List<Appointment> findHeldSlotStarts(String doctorId, LocalDateTime from, LocalDateTime to);
+}
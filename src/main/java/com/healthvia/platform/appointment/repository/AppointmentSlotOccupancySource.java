@@ -0,0 +1,31 @@
+// appointment/repository/AppointmentSlotOccupancySource.java
+package com.healthvia.platform.appointment.repository;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collection;
+
+import org.springframework.stereotype.Component;
+
+import com.healthvia.platform.doctor.schedule.SlotOccupancySource;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Slot motoruna, bir doktor-gün ilk hesaplanırken tutulan slotları sağlar
+ */
+@Component
+@RequiredArgsConstructor
+public class AppointmentSlotOccupancySource implements SlotOccupancySource {
+
+    private final AppointmentRepository appointmentRepository;
+
+    @Override
+    public Collection<LocalTime> findOccupiedSlotStarts(String doctorId, LocalDate date) {
+        return appointmentRepository
+            .findHeldSlotStarts(doctorId, date.atStartOfDay(), date.plusDays(1).atStartOfDay())
+            .stream()
+            .map(appointment -> appointment.getSlotStart().toLocalTime())
+            .toList();
+    }
+}
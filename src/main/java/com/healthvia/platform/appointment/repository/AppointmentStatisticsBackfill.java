@@ -0,0 +1,49 @@
+// appointment/repository/AppointmentStatisticsBackfill.java
+package com.healthvia.platform.appointment.repository;
+
+import java.util.List;
+
+import org.bson.Document;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import com.healthvia.platform.common.persistence.AppointmentCounterUpdates;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Tamamlama oranı alanı eklenmeden önce sayaçları olan doktor ve hastalara
+ * oranı uygulama açılışında yazar. Sunucu tarafında tek updateMany çalışır,
+ * yalnızca oranı eksik kayıtlara dokunur ve tekrar çalıştırılması güvenlidir.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class AppointmentStatisticsBackfill {
+
+    private static final List<String> COLLECTIONS = List.of("doctors", "patients");
+
+    private final MongoTemplate mongoTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillCompletionRatios() {
+        Document filter = new Document(AppointmentCounterUpdates.TOTAL, new Document("$gt", 0))
+            .append(AppointmentCounterUpdates.COMPLETION_RATIO, new Document("$exists", false));
+
+        for (String collection : COLLECTIONS) {
+            try {
+                long updated = mongoTemplate.getCollection(collection)
+                    .updateMany(filter, List.of(AppointmentCounterUpdates.ratioStage()))
+                    .getModifiedCount();
+                if (updated > 0) {
+                    log.info("Backfilled appointment completion ratio for {} {}", updated, collection);
+                }
+            } catch (Exception e) {
+                log.error("Completion ratio backfill failed for {}: {}", collection, e.getMessage());
+            }
+        }
+    }
+}
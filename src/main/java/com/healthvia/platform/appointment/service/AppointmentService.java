@@ -0,0 +1,49 @@
+// appointment/service/AppointmentService.java
+package com.healthvia.platform.appointment.service;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import com.healthvia.platform.appointment.dto.BookAppointmentRequest;
+import com.healthvia.platform.appointment.entity.Appointment;
+
+public interface AppointmentService {
+
+    // === BOOKING ===
+
+    /**
+     * Slotu tek koşullu insert ile rezerve eder; slot doluysa APPOINTMENT_ALREADY_BOOKED
+     */
+    Appointment bookAppointment(String patientId, BookAppointmentRequest request);
+
+    // === LIFECYCLE ===
+
+    Appointment confirmAppointment(String appointmentId, String doctorId);
+
+    Appointment startAppointment(String appointmentId, String doctorId);
+
+    Appointment completeAppointment(String appointmentId, String doctorId);
+
+    Appointment markNoShow(String appointmentId, String doctorId);
+
+    /**
+     * Randevuyu iptal eder ve slotu serbest bırakır
+     */
+    Appointment cancelAppointment(String appointmentId, String cancelledBy, String reason);
+
+    // === QUERIES ===
+
+    Appointment findById(String appointmentId);
+
+    Page<Appointment> findPatientAppointments(String patientId, Pageable pageable);
+
+    List<Appointment> findDoctorAppointments(String doctorId, LocalDate from, LocalDate to);
+
+    /**
+     * Kullanıcının randevunun doktoru veya hastası olup olmadığı (@PreAuthorize için)
+     */
+    boolean isParticipant(String appointmentId, String userId);
+}
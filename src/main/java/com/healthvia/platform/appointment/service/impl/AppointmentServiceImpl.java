@@ -0,0 +1,214 @@
+// appointment/service/impl/AppointmentServiceImpl.java
+package com.healthvia.platform.appointment.service.impl;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import com.healthvia.platform.appointment.dto.BookAppointmentRequest;
+import com.healthvia.platform.appointment.entity.Appointment;
+import com.healthvia.platform.appointment.repository.AppointmentRepository;
+import com.healthvia.platform.appointment.service.AppointmentService;
+import com.healthvia.platform.common.constants.ErrorCodes;
+import com.healthvia.platform.common.enums.AppointmentStatus;
+import com.healthvia.platform.common.exception.BusinessException;
+import com.healthvia.platform.common.exception.ResourceNotFoundException;
+import com.healthvia.platform.common.util.DateUtils;
+import com.healthvia.platform.doctor.schedule.DoctorSlotEngine;
+import com.healthvia.platform.doctor.service.DoctorService;
+import com.healthvia.platform.user.service.PatientService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service("appointmentService")
+@RequiredArgsConstructor
+@Slf4j
+public class AppointmentServiceImpl implements AppointmentService {
+
+    private final AppointmentRepository appointmentRepository;
+    private final DoctorSlotEngine doctorSlotEngine;
+    private final DoctorService doctorService;
+    private final PatientService patientService;
+
+    // === BOOKING ===
+
+    @Override
+    public Appointment bookAppointment(String patientId, BookAppointmentRequest request) {
+        LocalDateTime slotStart = request.getSlotStart();
+        if (slotStart == null || !DateUtils.isFuture(slotStart)) {
+            throw new BusinessException(ErrorCodes.INVALID_APPOINTMENT_DATE);
+        }
+
+        LocalDateTime slotEnd = doctorSlotEngine.resolveSlotEnd(request.getDoctorId(), slotStart)
+            .orElseThrow(() -> new BusinessException(ErrorCodes.APPOINTMENT_NOT_AVAILABLE));
+
+        // Bellekteki bitset dolu diyorsa veritabanına hiç gidilmez
+        if (!doctorSlotEngine.isFree(request.getDoctorId(), slotStart)) {
+            throw new BusinessException(ErrorCodes.APPOINTMENT_ALREADY_BOOKED);
+        }
+
+        Appointment appointment = Appointment.builder()
+            .doctorId(request.getDoctorId())
+            .patientId(patientId)
+            .slotStart(slotStart)
+            .slotEnd(slotEnd)
+            .slotHeld(true)
+            .status(AppointmentStatus.PENDING)
+            .consultationType(request.getConsultationType())
+            .patientNotes(request.getPatientNotes())
+            .build();
+
+        // Tek yetkili kontrol (doctor_id, slot_start) benzersiz indeksidir:
+        // yarışan isteklerden yalnızca biri insert edebilir
+        Appointment saved;
+        try {
+            saved = appointmentRepository.insert(appointment);
+        } catch (DuplicateKeyException e) {
+            doctorSlotEngine.markOccupied(request.getDoctorId(), slotStart);
+            throw new BusinessException(ErrorCodes.APPOINTMENT_ALREADY_BOOKED);
+        }
+
+        doctorSlotEngine.markOccupied(saved.getDoctorId(), saved.getSlotStart());
+        recordStatistics(saved, 1, 0, 0);
+        log.info("Appointment {} booked: doctor={}, slot={}", saved.getId(), saved.getDoctorId(), slotStart);
+        return saved;
+    }
+
+    // === LIFECYCLE ===
+
+    @Override
+    public Appointment confirmAppointment(String appointmentId, String doctorId) {
+        Appointment appointment = findDoctorAppointment(appointmentId, doctorId);
+        requireStatus(appointment, Set.of(AppointmentStatus.PENDING));
+
+        appointment.setStatus(AppointmentStatus.CONFIRMED);
+        appointment.setConfirmedAt(DateUtils.now());
+        return appointmentRepository.save(appointment);
+    }
+
+    @Override
+    public Appointment startAppointment(String appointmentId, String doctorId) {
+        Appointment appointment = findDoctorAppointment(appointmentId, doctorId);
+        requireStatus(appointment, Set.of(AppointmentStatus.CONFIRMED));
+
+        appointment.setStatus(AppointmentStatus.IN_PROGRESS);
+        appointment.setStartedAt(DateUtils.now());
+        return appointmentRepository.save(appointment);
+    }
+
+    @Override
+    public Appointment completeAppointment(String appointmentId, String doctorId) {
+        Appointment appointment = findDoctorAppointment(appointmentId, doctorId);
+        requireStatus(appointment, Set.of(AppointmentStatus.CONFIRMED, AppointmentStatus.IN_PROGRESS));
+
+        appointment.setStatus(AppointmentStatus.COMPLETED);
+        appointment.setCompletedAt(DateUtils.now());
+        Appointment saved = appointmentRepository.save(appointment);
+        recordStatistics(saved, 0, 1, 0);
+        return saved;
+    }
+
+    @Override
+    public Appointment markNoShow(String appointmentId, String doctorId) {
+        Appointment appointment = findDoctorAppointment(appointmentId, doctorId);
+        requireStatus(appointment, Set.of(AppointmentStatus.CONFIRMED));
+        if (DateUtils.isFuture(appointment.getSlotStart())) {
+            throw new BusinessException(ErrorCodes.INVALID_APPOINTMENT_STATUS);
+        }
+
+        appointment.setStatus(AppointmentStatus.NO_SHOW);
+        return appointmentRepository.save(appointment);
+    }
+
+    @Override
+    public Appointment cancelAppointment(String appointmentId, String cancelledBy, String reason) {
+        Appointment appointment = findById(appointmentId);
+        if (!appointment.getStatus().isCancellable()) {
+            throw new BusinessException(ErrorCodes.INVALID_APPOINTMENT_STATUS);
+        }
+
+        appointment.setStatus(AppointmentStatus.CANCELLED);
+        appointment.setSlotHeld(false);
+        appointment.setCancelledAt(DateUtils.now());
+        appointment.setCancelledBy(cancelledBy);
+        appointment.setCancellationReason(reason);
+
+        Appointment saved = appointmentRepository.save(appointment);
+        doctorSlotEngine.markFree(saved.getDoctorId(), saved.getSlotStart());
+        recordStatistics(saved, 0, 0, 1);
+        return saved;
+    }
+
+    // === QUERIES ===
+
+    @Override
+    public Appointment findById(String appointmentId) {
+        return appointmentRepository.findById(appointmentId)
+            .filter(appointment -> !appointment.isDeleted())
+            .orElseThrow(() -> new ResourceNotFoundException("Appointment", "id", appointmentId));
+    }
+
+    @Override
+    public Page<Appointment> findPatientAppointments(String patientId, Pageable pageable) {
+        return appointmentRepository.findByPatientIdAndDeletedFalseOrderBySlotStartDesc(patientId, pageable);
+    }
+
+    @Override
+    public List<Appointment> findDoctorAppointments(String doctorId, LocalDate from, LocalDate to) {
+        if (from == null || to == null || to.isBefore(from)) {
+            throw new BusinessException(ErrorCodes.INVALID_APPOINTMENT_DATE);
+        }
+        return appointmentRepository.findByDoctorIdAndSlotStartBetweenAndDeletedFalseOrderBySlotStartAsc(
+            doctorId, DateUtils.startOfDay(from), DateUtils.endOfDay(to));
+    }
+
+    @Override
+    public boolean isParticipant(String appointmentId, String userId) {
+        return appointmentRepository.findById(appointmentId)
+            .map(appointment -> appointment.isParticipant(userId))
+            .orElse(false);
+    }
+
+    // === PRIVATE HELPER METHODS ===
+
+    private Appointment findDoctorAppointment(String appointmentId, String doctorId) {
+        Appointment appointment = findById(appointmentId);
+        if (!appointment.getDoctorId().equals(doctorId)) {
+            throw new ResourceNotFoundException("Appointment", "id", appointmentId);
+        }
+        return appointment;
+    }
+
+    /**
+     * Doktor ve hasta randevu sayaçlarını $inc ile artırır. Sayaçlar türetilmiş
+     * veridir; güncellenemezse randevu işlemi geri alınmaz. Doktor ve hasta
+     * güncellemeleri ayrı denenir; birinin hatası diğerini atlatmaz.
+     */
+    private void recordStatistics(Appointment appointment, int total, int completed, int cancelled) {
+        try {
+            doctorService.incrementAppointmentStatistics(appointment.getDoctorId(), total, completed, cancelled);
+        } catch (RuntimeException e) {
+            log.warn("Doctor statistics could not be updated for appointment {} (doctor={}): {}",
+                appointment.getId(), appointment.getDoctorId(), e.getMessage());
+        }
+        try {
+            patientService.incrementAppointmentStatistics(appointment.getPatientId(), total, completed, cancelled);
+        } catch (RuntimeException e) {
+            log.warn("Patient statistics could not be updated for appointment {} (patient={}): {}",
+                appointment.getId(), appointment.getPatientId(), e.getMessage());
+        }
+    }
+
+    private void requireStatus(Appointment appointment, Set<AppointmentStatus> allowed) {
+        if (!allowed.contains(appointment.getStatus())) {
+            throw new BusinessException(ErrorCodes.INVALID_APPOINTMENT_STATUS);
+        }
+    }
+}
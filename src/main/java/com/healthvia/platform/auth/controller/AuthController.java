@@ -73,8 +73,9 @@ public class AuthController {
     }
 
     @PostMapping("/logout")
-    public ApiResponse<Void> logout() {
-        // JWT stateless olduğu için client-side logout
+    public ApiResponse<Void> logout(@RequestBody(required = false) String refreshToken) {
+        // Access token süresi dolana kadar geçerlidir; refresh token ailesi iptal edilir
+        authService.logout(refreshToken);
         return ApiResponse.success("Çıkış başarılı");
     }
 
@@ -0,0 +1,27 @@
+// auth/dto/PasswordHashingStats.java
+package com.healthvia.platform.auth.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PasswordHashingStats {
+
+    private int targetStrength;
+    private int poolSize;
+    private int activeThreads;
+    private int queueDepth;
+    private int queueCapacity;
+    private long completed;
+    private long rejected;
+    private long timedOut;
+    private long upgraded;
+    private double averageHashMillis;
+    private double maxHashMillis;
+    private double averageQueueWaitMillis;
+}
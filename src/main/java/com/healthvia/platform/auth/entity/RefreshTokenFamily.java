@@ -0,0 +1,59 @@
+// auth/entity/RefreshTokenFamily.java
+package com.healthvia.platform.auth.entity;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Bir girişten doğan refresh token zinciri (token ailesi).
+ *
+ * Her yenilemede currentTokenId değişir; ailenin eski bir token'ı tekrar
+ * kullanılırsa token çalınmış sayılır ve tüm aile iptal edilir. expiresAt
+ * üzerindeki TTL indeksi süresi dolan aileleri MongoDB'ye sildirir.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "refresh_token_families")
+public class RefreshTokenFamily {
+
+    @Id
+    private String id;
+
+    @Indexed
+    @Field("user_id")
+    private String userId;
+
+    @Field("current_token_id")
+    private String currentTokenId;
+
+    private int generation;
+
+    private boolean revoked;
+
+    @Field("revoked_reason")
+    private String revokedReason;
+
+    @Field("revoked_at")
+    private LocalDateTime revokedAt;
+
+    @Field("created_at")
+    private LocalDateTime createdAt;
+
+    @Field("last_rotated_at")
+    private LocalDateTime lastRotatedAt;
+
+    @Indexed(name = "expires_at_ttl", expireAfter = "0s")
+    @Field("expires_at")
+    private LocalDateTime expiresAt;
+}
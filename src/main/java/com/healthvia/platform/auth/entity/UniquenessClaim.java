@@ -0,0 +1,83 @@
+// auth/entity/UniquenessClaim.java
+package com.healthvia.platform.auth.entity;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import com.healthvia.platform.common.util.TextUtils;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Benzersiz olması gereken bir değerin (email, telefon, TC kimlik no...) sahiplik kaydı.
+ *
+ * id "TÜR:normalize değer" biçimindedir; _id indeksinin benzersizliği sayesinde
+ * bir değeri sahiplenmek tek bir atomik insert'tür ve eşzamanlı iki kayıttan
+ * yalnızca biri başarılı olur.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "uniqueness_claims")
+public class UniquenessClaim {
+
+    @Id
+    private String id;
+
+    private ClaimType type;
+
+    private String value;
+
+    @Indexed(sparse = true)
+    @Field("owner_id")
+    private String ownerId;
+
+    @Indexed
+    @Field("claimed_at")
+    private LocalDateTime claimedAt;
+
+    // === BUSINESS METHODS ===
+
+    public static String idOf(ClaimType type, String value) {
+        String normalized = type.normalize(value);
+        return normalized != null ? type.name() + ":" + normalized : null;
+    }
+
+    // === NESTED ENUMS ===
+
+    public enum ClaimType {
+        EMAIL("Email"),
+        PHONE("Phone"),
+        TC_KIMLIK_NO("TC kimlik number"),
+        DIPLOMA_NUMBER("Diploma number"),
+        MEDICAL_LICENSE_NUMBER("Medical license number"),
+        EMPLOYEE_ID("Employee ID");
+
+        private final String displayName;
+
+        ClaimType(String displayName) {
+            this.displayName = displayName;
+        }
+
+        public String getDisplayName() {
+            return displayName;
+        }
+
+        public String normalize(String value) {
+            if (value == null || value.isBlank()) return null;
+            return switch (this) {
+                case EMAIL -> TextUtils.normalizeEmail(value);
+                case PHONE -> TextUtils.normalizePhone(value);
+                default -> value.trim();
+            };
+        }
+    }
+}
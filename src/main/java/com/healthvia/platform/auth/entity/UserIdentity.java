@@ -0,0 +1,122 @@
+// auth/entity/UserIdentity.java
+package com.healthvia.platform.auth.entity;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import com.healthvia.platform.common.enums.UserRole;
+import com.healthvia.platform.common.enums.UserStatus;
+import com.healthvia.platform.common.util.TextUtils;
+import com.healthvia.platform.user.entity.User;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Giriş ve token yenileme için tekil kimlik kaydı.
+ *
+ * Her kullanıcı (users, patients, doctors, admins koleksiyonlarından hangisinde
+ * tutuluyorsa) için bir kayıt bulunur; id kullanıcı id'si ile aynıdır. Email
+ * küçük harfe, telefon E.164 biçimine normalize edilerek benzersiz indekslenir,
+ * böylece giriş tek bir indeksli okuma ile çözülür.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "user_identities")
+public class UserIdentity {
+
+    @Id
+    private String id;
+
+    // === GİRİŞ ANAHTARLARI ===
+    @Indexed(unique = true, sparse = true)
+    private String email;
+
+    @Indexed(unique = true, sparse = true)
+    private String phone;
+
+    // === KAYNAK ===
+    @Field("source_collection")
+    private String sourceCollection;
+
+    private UserRole role;
+
+    private UserStatus status;
+
+    // === KİMLİK DOĞRULAMA ===
+    @Field("password_hash")
+    private String passwordHash;
+
+    @Field("failed_login_attempts")
+    private Integer failedLoginAttempts;
+
+    @Indexed(sparse = true)
+    @Field("account_locked_until")
+    private LocalDateTime accountLockedUntil;
+
+    @Field("is_deleted")
+    private boolean deleted;
+
+    // Kaynak kayıt yazıldıktan sonra kimlik güncellenemedi (email/telefon çakışması);
+    // UserIdentityIndex.repairIdentities yeniden dener. Başarılı sync alanı siler.
+    @Indexed(sparse = true)
+    @Field("needs_repair")
+    private Boolean needsRepair;
+
+    // === TOKEN YANITI İÇİN ÖZET ===
+    @Field("first_name")
+    private String firstName;
+
+    @Field("last_name")
+    private String lastName;
+
+    @Field("email_verified")
+    private Boolean emailVerified;
+
+    @Field("phone_verified")
+    private Boolean phoneVerified;
+
+    @Field("last_login_date")
+    private LocalDateTime lastLoginDate;
+
+    // === BUSINESS METHODS ===
+
+    public static UserIdentity from(User user) {
+        return UserIdentity.builder()
+            .id(user.getId())
+            .email(TextUtils.normalizeEmail(user.getEmail()))
+            .phone(TextUtils.normalizePhone(user.getPhone()))
+            .role(user.getRole())
+            .status(user.getStatus())
+            .passwordHash(user.getPassword())
+            .failedLoginAttempts(user.getFailedLoginAttempts())
+            .accountLockedUntil(user.getAccountLockedUntil())
+            .deleted(user.isDeleted())
+            .firstName(user.getFirstName())
+            .lastName(user.getLastName())
+            .emailVerified(user.getEmailVerified())
+            .phoneVerified(user.getPhoneVerified())
+            .lastLoginDate(user.getLastLoginDate())
+            .build();
+    }
+
+    public boolean isAccountLocked() {
+        return accountLockedUntil != null && accountLockedUntil.isAfter(LocalDateTime.now());
+    }
+
+    public Boolean getEmailVerified() {
+        return emailVerified != null ? emailVerified : false;
+    }
+
+    public Boolean getPhoneVerified() {
+        return phoneVerified != null ? phoneVerified : false;
+    }
+}
@@ -0,0 +1,190 @@
+// auth/identity/LoginActivityRecorder.java
+package com.healthvia.platform.auth.identity;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.healthvia.platform.auth.entity.UserIdentity;
+import com.healthvia.platform.doctor.cache.DoctorProfileCache;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.Updates;
+import com.mongodb.client.model.WriteModel;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Giriş denemelerinin kullanıcı belgelerine kısmi ($set/$inc) yazılması.
+ *
+ * Eskiden her giriş tüm Patient/Doctor/Admin belgesini yeniden yazıyordu. Artık
+ * yalnızca ilgili alanlar hem kaynak koleksiyonda hem user_identities'te
+ * güncellenir. Başarısız denemelerde sayaç ve kilit süresi sunucu tarafında tek
+ * bir pipeline update ile hesaplanır. Yalnızca lastLoginDate değişen başarılı
+ * girişler isteğe bağlı olarak bellekte biriktirilir ve kullanıcı başına tek
+ * yazıya indirgenerek periyodik olarak yazılır.
+ */
+@Component
+@Slf4j
+public class LoginActivityRecorder {
+
+    private static final int MAX_FAILED_ATTEMPTS = 5;
+    private static final long LOCK_DURATION_MILLIS = 30 * 60 * 1000L;
+
+    private final MongoTemplate mongoTemplate;
+    private final DoctorProfileCache doctorProfileCache;
+    private final boolean writeBehind;
+
+    // userId -> bekleyen son giriş (aynı kullanıcının girişleri birleşir)
+    private final Map<String, PendingLogin> pendingLogins = new ConcurrentHashMap<>();
+
+    public LoginActivityRecorder(MongoTemplate mongoTemplate,
+                                 DoctorProfileCache doctorProfileCache,
+                                 @Value("${security.login.last-login-write-behind:true}") boolean writeBehind) {
+        this.mongoTemplate = mongoTemplate;
+        this.doctorProfileCache = doctorProfileCache;
+        this.writeBehind = writeBehind;
+    }
+
+    // === LOGIN EVENTS ===
+
+    /**
+     * Başarısız denemeyi sayar; eşik aşılırsa kilit süresi veritabanı saatine göre yazılır
+     */
+    public void recordFailure(UserIdentity identity) {
+        List<Document> pipeline = List.of(
+            new Document("$set", new Document("failed_login_attempts",
+                new Document("$add", List.of(new Document("$ifNull", List.of("$failed_login_attempts", 0)), 1)))),
+            new Document("$set", new Document("account_locked_until",
+                new Document("$cond", List.of(
+                    new Document("$gte", List.of("$failed_login_attempts", MAX_FAILED_ATTEMPTS)),
+                    new Document("$add", List.of("$$NOW", LOCK_DURATION_MILLIS)),
+                    "$account_locked_until")))));
+
+        Document filter = byId(identity.getId());
+        mongoTemplate.getCollection(identity.getSourceCollection()).updateOne(filter, pipeline);
+        mongoTemplate.getCollection(UserIdentityIndex.IDENTITY_COLLECTION).updateOne(filter, pipeline);
+        evictProfile(identity);
+    }
+
+    /**
+     * Başarılı girişi kaydeder. Sıfırlanacak sayaç/kilit veya yükseltilmiş hash
+     * varsa hemen yazılır; aksi halde yalnızca lastLoginDate tamponlanır.
+     */
+    public void recordSuccess(UserIdentity identity, LocalDateTime loginAt, String upgradedHash) {
+        boolean resetNeeded = identity.getFailedLoginAttempts() != null && identity.getFailedLoginAttempts() > 0
+            || identity.getAccountLockedUntil() != null;
+
+        if (writeBehind && !resetNeeded && upgradedHash == null) {
+            pendingLogins.merge(identity.getId(),
+                new PendingLogin(identity.getSourceCollection(), loginAt),
+                (previous, latest) -> latest.loginAt().isAfter(previous.loginAt()) ? latest : previous);
+            return;
+        }
+
+        Document set = new Document("last_login_date", toDate(loginAt));
+        Document unset = new Document();
+        if (resetNeeded) {
+            set.append("failed_login_attempts", 0);
+            unset.append("account_locked_until", "");
+        }
+
+        Document sourceSet = new Document(set);
+        Document identitySet = new Document(set);
+        if (upgradedHash != null) {
+            sourceSet.append("password", upgradedHash);
+            identitySet.append("password_hash", upgradedHash);
+        }
+
+        Document filter = byId(identity.getId());
+        mongoTemplate.getCollection(identity.getSourceCollection()).updateOne(filter, toUpdate(sourceSet, unset));
+        mongoTemplate.getCollection(UserIdentityIndex.IDENTITY_COLLECTION).updateOne(filter, toUpdate(identitySet, unset));
+        pendingLogins.remove(identity.getId());
+        evictProfile(identity);
+    }
+
+    // === WRITE-BEHIND ===
+
+    /**
+     * Bekleyen lastLoginDate değerlerini koleksiyon başına tek bulk yazı ile uygular.
+     * $max sayesinde daha yeni bir değerin üzerine eski değer yazılmaz.
+     */
+    @Scheduled(fixedDelayString = "${security.login.last-login-flush-interval-ms:5000}")
+    @PreDestroy
+    public void flush() {
+        if (pendingLogins.isEmpty()) return;
+
+        Map<String, List<WriteModel<Document>>> writes = new HashMap<>();
+        List<String> doctorIds = new ArrayList<>();
+        int flushed = 0;
+        for (String userId : List.copyOf(pendingLogins.keySet())) {
+            PendingLogin pending = pendingLogins.remove(userId);
+            if (pending == null) continue;
+            flushed++;
+
+            UpdateOneModel<Document> write = new UpdateOneModel<>(
+                Filters.eq("_id", idValue(userId)),
+                Updates.max("last_login_date", toDate(pending.loginAt())));
+            writes.computeIfAbsent(pending.collection(), key -> new ArrayList<>()).add(write);
+            writes.computeIfAbsent(UserIdentityIndex.IDENTITY_COLLECTION, key -> new ArrayList<>()).add(write);
+            if ("doctors".equals(pending.collection())) {
+                doctorIds.add(userId);
+            }
+        }
+
+        writes.forEach((collection, models) -> {
+            try {
+                mongoTemplate.getCollection(collection).bulkWrite(models);
+            } catch (Exception e) {
+                log.error("Last login dates could not be written to {}: {}", collection, e.getMessage());
+            }
+        });
+        doctorIds.forEach(doctorProfileCache::evict);
+        log.debug("Flushed {} buffered last login dates", flushed);
+    }
+
+    // === PRIVATE HELPERS ===
+
+    private void evictProfile(UserIdentity identity) {
+        if ("doctors".equals(identity.getSourceCollection())) {
+            doctorProfileCache.evict(identity.getId());
+        }
+    }
+
+    private static Document toUpdate(Document set, Document unset) {
+        Document update = new Document("$set", set);
+        if (!unset.isEmpty()) {
+            update.append("$unset", unset);
+        }
+        return update;
+    }
+
+    private static Document byId(String id) {
+        return new Document("_id", idValue(id));
+    }
+
+    // Spring, ObjectId biçimindeki String id'leri ObjectId olarak saklar
+    private static Object idValue(String id) {
+        return ObjectId.isValid(id) ? new ObjectId(id) : id;
+    }
+
+    private static Date toDate(LocalDateTime dateTime) {
+        return Date.from(dateTime.atZone(ZoneId.systemDefault()).toInstant());
+    }
+
+    private record PendingLogin(String collection, LocalDateTime loginAt) {
+    }
+}
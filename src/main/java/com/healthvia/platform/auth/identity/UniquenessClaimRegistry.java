@@ -0,0 +1,458 @@
+// auth/identity/UniquenessClaimRegistry.java
+package com.healthvia.platform.auth.identity;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.healthvia.platform.admin.entity.Admin;
+import com.healthvia.platform.auth.entity.UniquenessClaim;
+import com.healthvia.platform.auth.entity.UniquenessClaim.ClaimType;
+import com.healthvia.platform.auth.repository.UniquenessClaimRepository;
+import com.healthvia.platform.common.constants.ErrorCodes;
+import com.healthvia.platform.common.exception.BusinessException;
+import com.healthvia.platform.doctor.entity.Doctor;
+import com.healthvia.platform.user.entity.Patient;
+import com.healthvia.platform.user.entity.User;
+import com.mongodb.ErrorCategory;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Kayıt sırasında benzersiz alanların atomik olarak sahiplenilmesi.
+ *
+ * Her değer için uniqueness_claims koleksiyonuna bir insert yapılır; çakışma
+ * DuplicateKeyException olarak döner. Kaydın herhangi bir adımı başarısız olursa
+ * bu çağrıda alınan sahiplikler geri bırakılır. Silinen kullanıcıların
+ * claim'leri bırakılır; değer değiştiğinde yeni değer yazmadan önce alınır, eski
+ * değer yazmadan sonra bırakılır. Çökme nedeniyle sahipsiz kalanları reaper toplar.
+ */
+@Component
+@Slf4j
+public class UniquenessClaimRegistry {
+
+    private static final int BACKFILL_BATCH_SIZE = 1000;
+    private static final int REAP_BATCH_SIZE = 1000;
+
+    // Reaper'ın sahip belgelerinden okuduğu alanlar (koleksiyon türüne göre)
+    private static final Map<Class<? extends User>, String[]> OWNER_FIELDS = Map.of(
+        User.class, new String[] {"email", "phone"},
+        Patient.class, new String[] {"email", "phone", "tcKimlikNo"},
+        Doctor.class, new String[] {"email", "phone", "diplomaNumber", "medicalLicenseNumber"},
+        Admin.class, new String[] {"email", "phone", "employeeId"});
+
+    private final UniquenessClaimRepository uniquenessClaimRepository;
+    private final MongoTemplate mongoTemplate;
+    private final Duration reapGrace;
+
+    public UniquenessClaimRegistry(UniquenessClaimRepository uniquenessClaimRepository,
+                                   MongoTemplate mongoTemplate,
+                                   @Value("${uniqueness-claims.reap-grace-minutes:15}") long reapGraceMinutes) {
+        this.uniquenessClaimRepository = uniquenessClaimRepository;
+        this.mongoTemplate = mongoTemplate;
+        this.reapGrace = Duration.ofMinutes(reapGraceMinutes);
+    }
+
+    // === CLAIMS ===
+
+    /**
+     * Verilen değerleri sırayla sahiplenir ve alınan claim id'lerini döner.
+     * Değerlerden biri başkasına aitse o ana kadar alınanlar bırakılır ve
+     * USER_ALREADY_EXISTS fırlatılır. Boş değerler atlanır.
+     */
+    public List<String> claim(Map<ClaimType, String> values) {
+        return claim(null, values);
+    }
+
+    /**
+     * Değerleri doğrudan verilen kullanıcı adına sahiplenir (kullanıcı id'si
+     * önceden bilinen güncelleme ve geri yükleme yolları). Zaten bu kullanıcıya
+     * ait olan değerler çakışma sayılmaz ve dönen listeye girmez; böylece hata
+     * durumunda yalnızca bu çağrıda alınanlar bırakılır.
+     */
+    public List<String> claim(String ownerId, Map<ClaimType, String> values) {
+        List<String> claimed = new ArrayList<>(values.size());
+        LocalDateTime now = LocalDateTime.now();
+
+        for (Map.Entry<ClaimType, String> entry : values.entrySet()) {
+            String id = UniquenessClaim.idOf(entry.getKey(), entry.getValue());
+            if (id == null) continue;
+
+            try {
+                uniquenessClaimRepository.insert(UniquenessClaim.builder()
+                    .id(id)
+                    .type(entry.getKey())
+                    .value(entry.getKey().normalize(entry.getValue()))
+                    .ownerId(ownerId)
+                    .claimedAt(now)
+                    .build());
+                claimed.add(id);
+            } catch (DuplicateKeyException e) {
+                if (ownerId != null && isOwnedBy(id, ownerId)) continue;
+
+                release(claimed);
+                throw new BusinessException(ErrorCodes.USER_ALREADY_EXISTS,
+                    entry.getKey().getDisplayName() + " already exists: " + entry.getValue());
+            }
+        }
+        return claimed;
+    }
+
+    /**
+     * Yeni kullanıcının benzersiz değerlerini sahiplenip kaydeder; değerlerden biri
+     * başkasına aitse USER_ALREADY_EXISTS fırlatılır ve yazma yapılmaz. Kayıt
+     * başarısız olursa sahiplikler bırakılır.
+     */
+    public <T extends User> T saveClaimed(Map<ClaimType, String> values, Supplier<T> saver) {
+        List<String> claims = claim(values);
+        try {
+            T saved = saver.get();
+            assignOwner(claims, saved.getId());
+            return saved;
+        } catch (RuntimeException e) {
+            release(claims);
+            throw e;
+        }
+    }
+
+    /**
+     * Benzersiz değerleri değişen bir kullanıcıyı kaydeder. Yeni değerler yazmadan
+     * önce sahiplenilir (başkasına aitse USER_ALREADY_EXISTS, yazma yapılmaz);
+     * yazma başarısız olursa yeni claim'ler bırakılır, başarılı olursa eski
+     * değerlerin claim'leri bırakılır. Aradaki bir çökme reaper tarafından toplanır.
+     */
+    public <T> T saveWithChangedValues(String ownerId, Map<ClaimType, String> before,
+                                       Map<ClaimType, String> after, Supplier<T> saver) {
+        Map<ClaimType, String> added = changedValues(after, before);
+        Map<ClaimType, String> removed = changedValues(before, after);
+
+        List<String> claims = claim(ownerId, added);
+        T saved;
+        try {
+            saved = saver.get();
+        } catch (RuntimeException e) {
+            release(claims);
+            throw e;
+        }
+        if (!removed.isEmpty()) {
+            releaseAll(Map.of(ownerId, removed));
+        }
+        return saved;
+    }
+
+    /**
+     * Kayıt tamamlandığında sahiplikleri oluşturulan kullanıcıya bağlar
+     */
+    public void assignOwner(List<String> claimIds, String ownerId) {
+        if (claimIds.isEmpty()) return;
+
+        mongoTemplate.updateMulti(
+            new Query(Criteria.where("id").in(claimIds)),
+            new Update().set("ownerId", ownerId),
+            UniquenessClaim.class);
+    }
+
+    /**
+     * Birden çok kullanıcının değerlerini tek bir sırasız bulk insert ile sahiplenir
+     * (toplu aktarım). Değerlerinden biri başkasına (veya aynı batch'te daha önce
+     * gelen bir kullanıcıya) ait olan kullanıcıların bu çağrıda alınan claim'leri
+     * bırakılır; çakışan kullanıcı id'leri ve nedenleri döner. Aynı kullanıcıya
+     * zaten ait olan claim'ler (sürdürülen aktarımda önceki deneme) çakışma sayılmaz.
+     */
+    public Map<String, String> claimAll(Map<String, Map<ClaimType, String>> valuesByOwner) {
+        List<UniquenessClaim> claims = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        valuesByOwner.forEach((ownerId, values) -> values.forEach((type, value) -> {
+            String id = UniquenessClaim.idOf(type, value);
+            if (id != null) {
+                claims.add(UniquenessClaim.builder()
+                    .id(id)
+                    .type(type)
+                    .value(type.normalize(value))
+                    .ownerId(ownerId)
+                    .claimedAt(now)
+                    .build());
+            }
+        }));
+        if (claims.isEmpty()) return Map.of();
+
+        Map<String, String> conflicts = new LinkedHashMap<>();
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, UniquenessClaim.class)
+                .insert(claims)
+                .execute();
+        } catch (BulkOperationException e) {
+            Map<String, String> existingOwners = ownersOf(e.getErrors().stream()
+                .filter(error -> error.getCategory() == ErrorCategory.DUPLICATE_KEY)
+                .map(error -> claims.get(error.getIndex()).getId())
+                .toList());
+            e.getErrors().forEach(error -> {
+                UniquenessClaim claim = claims.get(error.getIndex());
+                if (error.getCategory() == ErrorCategory.DUPLICATE_KEY) {
+                    if (claim.getOwnerId().equals(existingOwners.get(claim.getId()))) return;
+                    conflicts.putIfAbsent(claim.getOwnerId(),
+                        claim.getType().getDisplayName() + " already exists: " + claim.getValue());
+                } else {
+                    conflicts.putIfAbsent(claim.getOwnerId(), error.getMessage());
+                }
+            });
+            Map<String, Map<ClaimType, String>> conflicting = new LinkedHashMap<>();
+            conflicts.keySet().forEach(ownerId -> conflicting.put(ownerId, valuesByOwner.get(ownerId)));
+            releaseAll(conflicting);
+        }
+        return conflicts;
+    }
+
+    /**
+     * claimAll ile alınan claim'leri bırakır. Yalnızca ilgili kullanıcıya ait
+     * olanlar silinir; aynı değerin başka sahibi etkilenmez.
+     */
+    public void releaseAll(Map<String, Map<ClaimType, String>> valuesByOwner) {
+        if (valuesByOwner.isEmpty()) return;
+
+        List<String> claimIds = new ArrayList<>();
+        valuesByOwner.values().forEach(values -> values.forEach((type, value) -> {
+            String id = UniquenessClaim.idOf(type, value);
+            if (id != null) claimIds.add(id);
+        }));
+        try {
+            mongoTemplate.remove(new Query(Criteria.where("id").in(claimIds)
+                .and("ownerId").in(valuesByOwner.keySet())), UniquenessClaim.class);
+        } catch (Exception e) {
+            log.error("Uniqueness claims of {} users could not be released: {}", valuesByOwner.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * Kullanıcının tüm claim'lerini bırakır (soft delete, kalıcı silme). Bırakma
+     * başarısız olursa claim'ler reaper tarafından toplanır.
+     */
+    public void releaseOwner(String ownerId) {
+        if (ownerId == null) return;
+
+        try {
+            mongoTemplate.remove(new Query(Criteria.where("ownerId").is(ownerId)), UniquenessClaim.class);
+        } catch (Exception e) {
+            log.error("Uniqueness claims of user {} could not be released: {}", ownerId, e.getMessage());
+        }
+    }
+
+    public void release(List<String> claimIds) {
+        if (claimIds.isEmpty()) return;
+
+        try {
+            uniquenessClaimRepository.deleteAllById(claimIds);
+        } catch (Exception e) {
+            log.error("Uniqueness claims {} could not be released: {}", claimIds, e.getMessage());
+        }
+    }
+
+    // === VALUES ===
+
+    /**
+     * Kullanıcının benzersiz olması gereken değerleri (kayıt, güncelleme ve
+     * geri yükleme yollarının sahiplendiği değerlerle aynı küme)
+     */
+    public static Map<ClaimType, String> uniqueValuesOf(User user) {
+        Map<ClaimType, String> values = new EnumMap<>(ClaimType.class);
+        values.put(ClaimType.EMAIL, user.getEmail());
+        values.put(ClaimType.PHONE, user.getPhone());
+        if (user instanceof Patient patient) {
+            values.put(ClaimType.TC_KIMLIK_NO, patient.getTcKimlikNo());
+        } else if (user instanceof Doctor doctor) {
+            values.put(ClaimType.DIPLOMA_NUMBER, doctor.getDiplomaNumber());
+            values.put(ClaimType.MEDICAL_LICENSE_NUMBER, doctor.getMedicalLicenseNumber());
+        } else if (user instanceof Admin admin) {
+            values.put(ClaimType.EMPLOYEE_ID, admin.getEmployeeId());
+        }
+        return values;
+    }
+
+    // === BACKFILL ===
+
+    /**
+     * Koleksiyon boşsa (ilk kurulum) mevcut kullanıcıların değerlerini sahiplenir
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        try {
+            if (uniquenessClaimRepository.count() > 0) return;
+
+            List<UniquenessClaim> batch = new ArrayList<>(BACKFILL_BATCH_SIZE);
+            for (Class<? extends User> type : List.of(User.class, Patient.class, Doctor.class, Admin.class)) {
+                try (Stream<? extends User> users = mongoTemplate.stream(new Query(), type)) {
+                    users.forEach(user -> {
+                        batch.addAll(claimsOf(user));
+                        if (batch.size() >= BACKFILL_BATCH_SIZE) {
+                            insertIgnoringDuplicates(batch);
+                        }
+                    });
+                }
+            }
+            insertIgnoringDuplicates(batch);
+            log.info("Uniqueness claims backfilled, {} claims in total", uniquenessClaimRepository.count());
+        } catch (Exception e) {
+            log.error("Uniqueness claims could not be backfilled: {}", e.getMessage());
+        }
+    }
+
+    // === REAPER ===
+
+    /**
+     * Sahibi olmayan claim'leri siler: sahibi atanmamış (claim ile kayıt arasında
+     * çökme, claim'in yarıda kalan geri bırakması), sahibi silinmiş veya sahibin
+     * güncel değeri artık claim'deki değer olmayan (güncellemede eski değerin
+     * bırakılmasından önce çökme) kayıtlar. Devam eden kayıtlarla yarışmamak için
+     * yalnızca grace süresinden eski claim'lere bakılır; silme claim'in okunan
+     * sahibi ve zamanı ile koşullanır.
+     */
+    @Scheduled(fixedDelayString = "${uniqueness-claims.reap-interval-ms:3600000}",
+               initialDelayString = "${uniqueness-claims.reap-interval-ms:3600000}")
+    public void reapOrphanedClaims() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(reapGrace);
+        int reaped = 0;
+        try {
+            Query query = new Query(Criteria.where("claimedAt").lt(cutoff));
+            query.cursorBatchSize(REAP_BATCH_SIZE);
+
+            List<UniquenessClaim> batch = new ArrayList<>(REAP_BATCH_SIZE);
+            try (Stream<UniquenessClaim> claims = mongoTemplate.stream(query, UniquenessClaim.class)) {
+                for (UniquenessClaim claim : (Iterable<UniquenessClaim>) claims::iterator) {
+                    batch.add(claim);
+                    if (batch.size() >= REAP_BATCH_SIZE) {
+                        reaped += reapBatch(batch);
+                    }
+                }
+            }
+            reaped += reapBatch(batch);
+        } catch (Exception e) {
+            log.error("Orphaned uniqueness claims could not be reaped: {}", e.getMessage());
+        }
+        if (reaped > 0) {
+            log.warn("{} orphaned uniqueness claims reaped", reaped);
+        }
+    }
+
+    // === PRIVATE HELPERS ===
+
+    private int reapBatch(List<UniquenessClaim> batch) {
+        if (batch.isEmpty()) return 0;
+
+        Set<String> ownerIds = new HashSet<>();
+        batch.forEach(claim -> {
+            if (claim.getOwnerId() != null) ownerIds.add(claim.getOwnerId());
+        });
+
+        // Sahiplerin güncel değerlerinden türeyen "claimId:ownerId" anahtarları
+        Set<String> live = new HashSet<>();
+        if (!ownerIds.isEmpty()) {
+            OWNER_FIELDS.forEach((type, fields) -> {
+                Query owners = new Query(Criteria.where("id").in(ownerIds).and("deleted").is(false));
+                owners.fields().include(fields);
+                mongoTemplate.find(owners, type).forEach(owner ->
+                    claimsOf(owner).forEach(claim -> live.add(claim.getId() + ":" + owner.getId())));
+            });
+        }
+
+        BulkOperations removals = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, UniquenessClaim.class);
+        int orphaned = 0;
+        for (UniquenessClaim claim : batch) {
+            if (claim.getOwnerId() != null && live.contains(claim.getId() + ":" + claim.getOwnerId())) continue;
+
+            removals.remove(new Query(Criteria.where("id").is(claim.getId())
+                .and("ownerId").is(claim.getOwnerId())
+                .and("claimedAt").is(claim.getClaimedAt())));
+            orphaned++;
+        }
+        batch.clear();
+        return orphaned > 0 ? removals.execute().getDeletedCount() : 0;
+    }
+
+    private Map<String, String> ownersOf(List<String> claimIds) {
+        Map<String, String> owners = new HashMap<>();
+        if (claimIds.isEmpty()) return owners;
+
+        Query query = new Query(Criteria.where("id").in(claimIds));
+        query.fields().include("ownerId");
+        mongoTemplate.find(query, UniquenessClaim.class).forEach(claim -> {
+            if (claim.getOwnerId() != null) owners.put(claim.getId(), claim.getOwnerId());
+        });
+        return owners;
+    }
+
+    private boolean isOwnedBy(String claimId, String ownerId) {
+        return uniquenessClaimRepository.findById(claimId)
+            .map(existing -> ownerId.equals(existing.getOwnerId()))
+            .orElse(false);
+    }
+
+    /**
+     * from içinde olup to'da aynı normalize değere sahip olmayan değerler
+     */
+    private static Map<ClaimType, String> changedValues(Map<ClaimType, String> from, Map<ClaimType, String> to) {
+        Map<ClaimType, String> changed = new EnumMap<>(ClaimType.class);
+        from.forEach((type, value) -> {
+            String normalized = type.normalize(value);
+            if (normalized != null && !normalized.equals(type.normalize(to.get(type)))) {
+                changed.put(type, value);
+            }
+        });
+        return changed;
+    }
+
+    private static List<UniquenessClaim> claimsOf(User user) {
+        Map<ClaimType, String> values = uniqueValuesOf(user);
+
+        List<UniquenessClaim> claims = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        values.forEach((type, value) -> {
+            String id = UniquenessClaim.idOf(type, value);
+            if (id != null) {
+                claims.add(UniquenessClaim.builder()
+                    .id(id)
+                    .type(type)
+                    .value(type.normalize(value))
+                    .ownerId(user.getId())
+                    .claimedAt(now)
+                    .build());
+            }
+        });
+        return claims;
+    }
+
+    private void insertIgnoringDuplicates(List<UniquenessClaim> batch) {
+        if (batch.isEmpty()) return;
+
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, UniquenessClaim.class)
+                .insert(batch)
+                .execute();
+        } catch (BulkOperationException e) {
+            // Aynı değere sahip eski kayıtlar: ilk gelen sahiplenir
+            log.warn("{} duplicate values skipped during claim backfill", e.getErrors().size());
+        }
+        batch.clear();
+    }
+}
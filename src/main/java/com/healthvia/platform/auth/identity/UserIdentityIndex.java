@@ -0,0 +1,241 @@
+// auth/identity/UserIdentityIndex.java
+package com.healthvia.platform.auth.identity;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.healthvia.platform.admin.entity.Admin;
+import com.healthvia.platform.auth.entity.UserIdentity;
+import com.healthvia.platform.auth.repository.UserIdentityRepository;
+import com.healthvia.platform.common.enums.UserRole;
+import com.healthvia.platform.common.util.TextUtils;
+import com.healthvia.platform.doctor.entity.Doctor;
+import com.healthvia.platform.user.entity.Patient;
+import com.healthvia.platform.user.entity.User;
+import com.mongodb.bulk.BulkWriteError;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * user_identities koleksiyonunun bakımı ve giriş aramaları.
+ *
+ * Kullanıcı kayıtları dört ayrı koleksiyonda tutulduğundan giriş ve token
+ * yenileme eskiden her koleksiyonu sırayla sorguluyordu. Bu sınıf her kayıt ve
+ * profil değişikliğinde ({@link UserIdentitySyncListener}) kimlik kaydını
+ * günceller; aramalar tek bir indeksli okuma ile yapılır.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class UserIdentityIndex {
+
+    // Kaynak koleksiyon -> entity sınıfı (_class alanı yazılmadığı için gerekli)
+    private static final Map<String, Class<? extends User>> SOURCE_TYPES = new LinkedHashMap<>();
+
+    static {
+        SOURCE_TYPES.put("users", User.class);
+        SOURCE_TYPES.put("patients", Patient.class);
+        SOURCE_TYPES.put("doctors", Doctor.class);
+        SOURCE_TYPES.put("admins", Admin.class);
+    }
+
+    public static final String IDENTITY_COLLECTION = "user_identities";
+
+    private static final int REPAIR_BATCH_SIZE = 500;
+
+    private final UserIdentityRepository userIdentityRepository;
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * Kullanıcı kayıtlarını tutan koleksiyonların adları
+     */
+    public static Set<String> sourceCollections() {
+        return Collections.unmodifiableSet(SOURCE_TYPES.keySet());
+    }
+
+    /**
+     * Kaynak koleksiyonun entity sınıfı; bilinmeyen koleksiyonlarda User
+     */
+    public static Class<? extends User> sourceType(String collection) {
+        return SOURCE_TYPES.getOrDefault(collection, User.class);
+    }
+
+    // === INDEX MAINTENANCE ===
+
+    /**
+     * Kimlik koleksiyonu boşsa (ilk kurulum) mevcut kullanıcılardan doldurur
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        try {
+            if (userIdentityRepository.count() > 0) return;
+
+            long total = 0;
+            for (Class<? extends User> type : SOURCE_TYPES.values()) {
+                try (Stream<? extends User> users = mongoTemplate.stream(new Query(), type)) {
+                    total += users.filter(this::sync).count();
+                }
+            }
+            log.info("User identity index backfilled with {} users", total);
+        } catch (Exception e) {
+            log.error("User identity index could not be backfilled: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Kullanıcının kimlik kaydını oluşturur veya günceller.
+     *
+     * Kaynak kayıt bu noktada yazılmıştır; email/telefon benzersizliği yazmadan
+     * önce UniquenessClaimRegistry ile sağlanır. Yine de başka bir kullanıcının
+     * kimliğiyle çakışırsa hata fırlatılmaz: kimlik onarım için işaretlenir ve
+     * repairIdentities tarafından yeniden denenir.
+     */
+    public boolean sync(User user) {
+        if (user == null || user.getId() == null) return false;
+
+        if (write(user)) {
+            return true;
+        }
+        markForRepair(user);
+        log.warn("Identity of user {} conflicts with another user's email/phone, queued for repair", user.getId());
+        return false;
+    }
+
+    /**
+     * Yeni oluşturulan kullanıcıların kimlik kayıtlarını tek bir sırasız bulk
+     * insert ile ekler (kayıt dinleyicisini tetiklemeyen toplu aktarımlar için).
+     * Eklenemeyenler tek tek sync ile yazılır: önceki bir denemede eklenmiş kendi
+     * kimliği güncellenir, başka kullanıcıyla çakışanlar onarım için işaretlenir.
+     */
+    public void syncAll(List<? extends User> users) {
+        if (users.isEmpty()) return;
+
+        List<UserIdentity> identities = new ArrayList<>(users.size());
+        for (User user : users) {
+            identities.add(toIdentity(user));
+        }
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, UserIdentity.class)
+                .insert(identities)
+                .execute();
+        } catch (BulkOperationException e) {
+            for (BulkWriteError error : e.getErrors()) {
+                sync(users.get(error.getIndex()));
+            }
+        }
+    }
+
+    /**
+     * Onarım için işaretlenmiş kimlikleri kaynak kayıtlarından yeniden yazar;
+     * çakışma sürüyorsa işaret kalır, kaynak kayıt silinmişse kimlik kaldırılır
+     */
+    @Scheduled(fixedDelayString = "${identity-index.repair-interval-ms:60000}")
+    public void repairIdentities() {
+        Query query = new Query(Criteria.where("needsRepair").is(true)).limit(REPAIR_BATCH_SIZE);
+        for (UserIdentity identity : mongoTemplate.find(query, UserIdentity.class)) {
+            try {
+                Optional<User> user = loadUser(identity);
+                if (user.isEmpty()) {
+                    remove(identity.getId());
+                } else if (write(user.get())) {
+                    log.info("Identity of user {} repaired", identity.getId());
+                }
+            } catch (Exception e) {
+                log.error("Identity of user {} could not be repaired: {}", identity.getId(), e.getMessage());
+            }
+        }
+    }
+
+    public void remove(String userId) {
+        userIdentityRepository.deleteById(userId);
+    }
+
+    // Tam kimlik yazılır (needs_repair alanı yazılmadığından işaret de kalkar)
+    private boolean write(User user) {
+        try {
+            userIdentityRepository.save(toIdentity(user));
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    // Mevcut kimlik eski değerleriyle kalır; yoksa yalnızca kaynak bilgisiyle oluşturulur
+    private void markForRepair(User user) {
+        mongoTemplate.upsert(
+            new Query(Criteria.where("id").is(user.getId())),
+            new Update()
+                .set("needsRepair", true)
+                .setOnInsert("sourceCollection", mongoTemplate.getCollectionName(user.getClass()))
+                .setOnInsert("role", user.getRole())
+                .setOnInsert("deleted", user.isDeleted()),
+            UserIdentity.class);
+    }
+
+    private UserIdentity toIdentity(User user) {
+        UserIdentity identity = UserIdentity.from(user);
+        identity.setSourceCollection(mongoTemplate.getCollectionName(user.getClass()));
+        return identity;
+    }
+
+    // === LOOKUPS ===
+
+    /**
+     * Email veya telefon ile kimlik bulur; '@' içeren değerler email sayılır
+     */
+    public Optional<UserIdentity> findByUsername(String username) {
+        if (username == null || username.isBlank()) return Optional.empty();
+
+        if (username.contains("@")) {
+            return userIdentityRepository.findByEmail(TextUtils.normalizeEmail(username));
+        }
+        String phone = TextUtils.normalizePhone(username);
+        return phone != null ? userIdentityRepository.findByPhone(phone) : Optional.empty();
+    }
+
+    public Optional<UserIdentity> findById(String userId) {
+        return userIdentityRepository.findById(userId);
+    }
+
+    /**
+     * Kullanıcıyı token'daki rolüne karşılık gelen koleksiyondan id ile yükler;
+     * bulunamazsa ortak users koleksiyonuna bakılır
+     */
+    public Optional<User> loadUser(String userId, UserRole role) {
+        String collection = switch (role) {
+            case PATIENT -> "patients";
+            case DOCTOR -> "doctors";
+            case ADMIN -> "admins";
+            default -> "users";
+        };
+        return Optional.<User>ofNullable(mongoTemplate.findById(userId, SOURCE_TYPES.get(collection), collection))
+            .or(() -> Optional.ofNullable(mongoTemplate.findById(userId, User.class, "users")));
+    }
+
+    /**
+     * Kimliğin ait olduğu tam kullanıcı belgesini kendi koleksiyonundan yükler
+     */
+    public Optional<User> loadUser(UserIdentity identity) {
+        Class<? extends User> type = sourceType(identity.getSourceCollection());
+        return Optional.ofNullable(mongoTemplate.findById(identity.getId(), type, identity.getSourceCollection()));
+    }
+}
@@ -0,0 +1,38 @@
+// auth/identity/UserIdentitySyncListener.java
+package com.healthvia.platform.auth.identity;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.stereotype.Component;
+
+import com.healthvia.platform.user.entity.User;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * User ve alt sınıflarının (Patient, Doctor, Admin) her kaydedilişinde kimlik
+ * kaydını günceller; servislerin ayrıca senkronizasyon yapmasına gerek kalmaz.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserIdentitySyncListener extends AbstractMongoEventListener<User> {
+
+    private final UserIdentityIndex userIdentityIndex;
+
+    @Override
+    public void onAfterSave(AfterSaveEvent<User> event) {
+        userIdentityIndex.sync(event.getSource());
+    }
+
+    @Override
+    public void onAfterDelete(AfterDeleteEvent<User> event) {
+        Document source = event.getSource();
+        Object id = source.get("_id");
+        if (id instanceof String || id instanceof ObjectId) {
+            userIdentityIndex.remove(id.toString());
+        }
+    }
+}
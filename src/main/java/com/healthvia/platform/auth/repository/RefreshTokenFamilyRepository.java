@@ -0,0 +1,11 @@
+// auth/repository/RefreshTokenFamilyRepository.java
+package com.healthvia.platform.auth.repository;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import com.healthvia.platform.auth.entity.RefreshTokenFamily;
+
+@Repository
+public interface RefreshTokenFamilyRepository extends MongoRepository<RefreshTokenFamily, String> {
+}
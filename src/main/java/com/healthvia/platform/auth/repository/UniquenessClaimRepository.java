@@ -0,0 +1,11 @@
+// auth/repository/UniquenessClaimRepository.java
+package com.healthvia.platform.auth.repository;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import com.healthvia.platform.auth.entity.UniquenessClaim;
+
+@Repository
+public interface UniquenessClaimRepository extends MongoRepository<UniquenessClaim, String> {
+}
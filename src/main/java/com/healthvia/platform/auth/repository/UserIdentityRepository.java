@@ -0,0 +1,23 @@
+// auth/repository/UserIdentityRepository.java
+package com.healthvia.platform.auth.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import com.healthvia.platform.auth.entity.UserIdentity;
+
+@Repository
+public interface UserIdentityRepository extends MongoRepository<UserIdentity, String> {
+
+    /**
+     * Normalize email ile kimlik bulma (email küçük harfe çevrilmiş olmalı)
+     */
+    Optional<UserIdentity> findByEmail(String email);
+
+    /**
+     * E.164 telefon ile kimlik bulma
+     */
+    Optional<UserIdentity> findByPhone(String phone);
+}
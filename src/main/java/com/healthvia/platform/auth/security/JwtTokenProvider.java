@@ -5,11 +5,17 @@ import java.security.Key;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 
 import org.springframework.stereotype.Component;
 
+import com.healthvia.platform.common.enums.UserRole;
+import com.healthvia.platform.common.enums.UserStatus;
+
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
@@ -25,13 +31,17 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class JwtTokenProvider {
     
+    private static final String FAMILY_CLAIM = "fam";
+    
     private final JwtProperties jwtProperties;
     private Key key;
+    private JwtParser parser; // thread-safe, bir kez oluşturulur
     
     @PostConstruct
     public void init() {
         byte[] keyBytes = Decoders.BASE64.decode(jwtProperties.getSecret());
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
     }
     
     public String generateAccessToken(UserPrincipal userPrincipal) {
@@ -42,6 +52,10 @@ public class JwtTokenProvider {
         claims.put("role", userPrincipal.getRole().name());
         claims.put("email", userPrincipal.getEmail());
         claims.put("fullName", userPrincipal.getFullName());
+        claims.put("firstName", userPrincipal.getFirstName());
+        claims.put("lastName", userPrincipal.getLastName());
+        claims.put("status", userPrincipal.getStatus() != null ? userPrincipal.getStatus().name() : null);
+        claims.put("emailVerified", userPrincipal.isEmailVerified());
         
         return Jwts.builder()
                 .setClaims(claims)
@@ -52,11 +66,16 @@ public class JwtTokenProvider {
                 .compact();
     }
     
-    public String generateRefreshToken(String userId) {
+    /**
+     * Refresh token üretir; token ailesi "fam" claim'inde, token kimliği jti'de taşınır
+     */
+    public String generateRefreshToken(String userId, String familyId, String tokenId) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtProperties.getRefreshTokenExpiration());
         
         return Jwts.builder()
+                .claim(FAMILY_CLAIM, familyId)
+                .setId(tokenId)
                 .setSubject(userId)
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
@@ -65,22 +84,68 @@ public class JwtTokenProvider {
     }
     
     public String getUserIdFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-        
-        return claims.getSubject();
+        return parser.parseClaimsJws(token).getBody().getSubject();
     }
     
     public boolean validateToken(String token) {
+        return parseClaims(token) != null;
+    }
+    
+    /**
+     * Access token'ı tek parse ile doğrular (imza ve exp); geçersiz veya süresi
+     * dolmuş token için boş döner
+     */
+    public Optional<Claims> verifyAccessToken(String token) {
+        return Optional.ofNullable(parseClaims(token));
+    }
+    
+    /**
+     * Refresh token'ı doğrular. Aile ve token kimliği taşımayan (eski biçimli)
+     * veya rol claim'i içeren (access) token'lar için boş döner.
+     */
+    public Optional<Claims> verifyRefreshToken(String token) {
+        Claims claims = parseClaims(token);
+        if (claims == null || claims.get("role") != null
+                || claims.get(FAMILY_CLAIM, String.class) == null || claims.getId() == null) {
+            return Optional.empty();
+        }
+        return Optional.of(claims);
+    }
+    
+    public String getFamilyId(Claims claims) {
+        return claims.get(FAMILY_CLAIM, String.class);
+    }
+    
+    /**
+     * Access token claim'lerinden veritabanına gitmeden UserPrincipal üretir.
+     * Rol claim'i olmayan token'lar (refresh token) için null döner.
+     */
+    public UserPrincipal getPrincipalFromClaims(Claims claims) {
+        String role = claims.get("role", String.class);
+        if (role == null) {
+            return null;
+        }
+        
+        String status = claims.get("status", String.class);
+        String firstName = claims.get("firstName", String.class);
+        return UserPrincipal.builder()
+                .id(claims.getSubject())
+                .email(claims.get("email", String.class))
+                // Eski token'larda yalnızca fullName bulunur
+                .firstName(firstName != null ? firstName : claims.get("fullName", String.class))
+                .lastName(firstName != null ? claims.get("lastName", String.class) : "")
+                .role(UserRole.valueOf(role))
+                .status(status != null ? UserStatus.valueOf(status) : UserStatus.ACTIVE)
+                .emailVerified(Boolean.TRUE.equals(claims.get("emailVerified", Boolean.class)))
+                .build();
+    }
+    
+    /**
+     * Token'ı tek seferde doğrulayıp claim'lerini döner, geçersizse null
+     */
+    private Claims parseClaims(String token) {
         try {
-            Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token);
-            return true;
+            return parser.parseClaimsJws(token).getBody();
         } catch (MalformedJwtException ex) {
             log.error("Invalid JWT token");
         } catch (ExpiredJwtException ex) {
@@ -89,7 +154,9 @@ public class JwtTokenProvider {
             log.error("Unsupported JWT token");
         } catch (IllegalArgumentException ex) {
             log.error("JWT claims string is empty");
+        } catch (JwtException ex) {
+            log.error("Invalid JWT signature");
         }
-        return false;
+        return null;
     }
-}
\ No newline at end of file
+}
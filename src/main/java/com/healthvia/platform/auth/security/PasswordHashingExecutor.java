@@ -0,0 +1,162 @@
+// auth/security/PasswordHashingExecutor.java
+package com.healthvia.platform.auth.security;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import com.healthvia.platform.auth.dto.PasswordHashingStats;
+import com.healthvia.platform.common.constants.ErrorCodes;
+import com.healthvia.platform.common.exception.BusinessException;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * BCrypt işlemleri için sınırlı iş parçacığı havuzu.
+ *
+ * Hash hesaplama CPU'ya bağlıdır; Tomcat iş parçacıklarında yapıldığında bir
+ * giriş fırtınası tüm istek iş parçacıklarını tüketir. Havuz çekirdek sayısı
+ * kadar iş parçacığı ve sınırlı bir kuyruk kullanır; kuyruk doluysa istek
+ * beklemeden SERVICE_BUSY ile reddedilir.
+ */
+@Component
+@Slf4j
+public class PasswordHashingExecutor {
+
+    private static final int QUEUE_PER_THREAD = 32;
+    private static final long WAIT_TIMEOUT_SECONDS = 10;
+
+    private final PasswordEncoder passwordEncoder;
+    private final int targetStrength;
+    private final ThreadPoolExecutor executor;
+
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong timedOut = new AtomicLong();
+    private final AtomicLong upgraded = new AtomicLong();
+    private final AtomicLong totalHashNanos = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    private final LongAccumulator maxHashNanos = new LongAccumulator(Math::max, 0);
+
+    public PasswordHashingExecutor(PasswordEncoder passwordEncoder,
+                                   @Value("${security.password.bcrypt-strength:12}") int targetStrength) {
+        this.passwordEncoder = passwordEncoder;
+        this.targetStrength = targetStrength;
+
+        int threads = Runtime.getRuntime().availableProcessors();
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+            threads, threads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(threads * QUEUE_PER_THREAD),
+            runnable -> {
+                Thread thread = new Thread(runnable, "password-hasher-" + sequence.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    // === HASHING ===
+
+    public String encode(String rawPassword) {
+        return run(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        if (encodedPassword == null) return false;
+        return run(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * Hash hedef maliyetin altındaysa yeni maliyetle tekrar üretir, değilse null döner.
+     * Yalnızca doğrulanmış bir şifre ile çağrılmalıdır (rehash-on-login).
+     */
+    public String upgradeIfNeeded(String rawPassword, String encodedPassword) {
+        if (!passwordEncoder.upgradeEncoding(encodedPassword)) {
+            return null;
+        }
+        String upgradedHash = encode(rawPassword);
+        upgraded.incrementAndGet();
+        return upgradedHash;
+    }
+
+    // === METRICS ===
+
+    public PasswordHashingStats stats() {
+        long done = completed.get();
+        return PasswordHashingStats.builder()
+            .targetStrength(targetStrength)
+            .poolSize(executor.getPoolSize())
+            .activeThreads(executor.getActiveCount())
+            .queueDepth(executor.getQueue().size())
+            .queueCapacity(executor.getQueue().size() + executor.getQueue().remainingCapacity())
+            .completed(done)
+            .rejected(rejected.get())
+            .timedOut(timedOut.get())
+            .upgraded(upgraded.get())
+            .averageHashMillis(done == 0 ? 0.0 : totalHashNanos.get() / 1_000_000.0 / done)
+            .maxHashMillis(maxHashNanos.get() / 1_000_000.0)
+            .averageQueueWaitMillis(done == 0 ? 0.0 : totalWaitNanos.get() / 1_000_000.0 / done)
+            .build();
+    }
+
+    // === PRIVATE HELPERS ===
+
+    private <T> T run(Callable<T> hashing) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                try {
+                    return hashing.call();
+                } finally {
+                    long hashNanos = System.nanoTime() - startedAt;
+                    totalWaitNanos.addAndGet(startedAt - submittedAt);
+                    totalHashNanos.addAndGet(hashNanos);
+                    maxHashNanos.accumulate(hashNanos);
+                    completed.incrementAndGet();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.incrementAndGet();
+            log.warn("Password hashing queue is full, request rejected");
+            throw new BusinessException(ErrorCodes.SERVICE_BUSY);
+        }
+
+        try {
+            return future.get(WAIT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            timedOut.incrementAndGet();
+            throw new BusinessException(ErrorCodes.SERVICE_BUSY);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCodes.SERVICE_BUSY);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+}
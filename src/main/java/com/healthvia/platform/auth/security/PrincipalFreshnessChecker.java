@@ -0,0 +1,48 @@
+// auth/security/PrincipalFreshnessChecker.java
+package com.healthvia.platform.auth.security;
+
+import org.springframework.stereotype.Component;
+
+import com.healthvia.platform.auth.identity.UserIdentityIndex;
+import com.healthvia.platform.common.enums.UserStatus;
+import com.healthvia.platform.common.util.SecurityUtils;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Token claim'lerinden kurulan principal'ın hâlâ geçerli olup olmadığını kontrol eder.
+ *
+ * Principal normalde veritabanına gitmeden oluşturulur; askıya alınan, silinen
+ * veya rolü değişen bir kullanıcının token'ı süresi dolana kadar geçerli kalır.
+ * İptale duyarlı uçlar bu kontrolü @PreAuthorize ile isteğe bağlı olarak ekler:
+ * {@code @PreAuthorize("hasRole('ADMIN') and @principalFreshness.isCurrent()")}
+ */
+@Component("principalFreshness")
+@Slf4j
+@RequiredArgsConstructor
+public class PrincipalFreshnessChecker {
+
+    private final UserIdentityIndex userIdentityIndex;
+
+    /**
+     * Kimlik kaydı ile tek bir id okuması yapar: kullanıcı silinmemiş, askıya
+     * alınmamış, kilitsiz ve rolü token'daki ile aynı olmalıdır (login ile aynı kurallar)
+     */
+    public boolean isCurrent() {
+        return SecurityUtils.getCurrentUser()
+            .flatMap(principal -> userIdentityIndex.findById(principal.getId())
+                .map(identity -> {
+                    boolean current = !identity.isDeleted()
+                        && identity.getStatus() != UserStatus.SUSPENDED
+                        && identity.getStatus() != UserStatus.DELETED
+                        && !identity.isAccountLocked()
+                        && identity.getRole() == principal.getRole();
+                    if (!current) {
+                        log.warn("Stale token rejected for user: {}", principal.getId());
+                    }
+                    return current;
+                }))
+            .orElse(false);
+    }
+}
@@ -0,0 +1,116 @@
+// auth/security/RefreshTokenStore.java
+package com.healthvia.platform.auth.security;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import com.healthvia.platform.auth.entity.RefreshTokenFamily;
+import com.healthvia.platform.auth.repository.RefreshTokenFamilyRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Refresh token ailelerinin saklanması, rotasyonu ve iptali.
+ *
+ * Her girişte yeni bir aile açılır; her yenilemede ailenin geçerli token id'si
+ * tek bir findAndModify ile değiştirilir. Eski bir token ile yenileme denenirse
+ * (yeniden kullanım) aile iptal edilir. İptal kontrolü rotasyon sorgusundaki
+ * revoked=false koşuluyla aynı yazmada yapılır; başarılı bir yenileme tek
+ * round trip'tir, ek okuma yalnızca reddedilen denemelerde yapılır.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class RefreshTokenStore {
+
+    private final RefreshTokenFamilyRepository refreshTokenFamilyRepository;
+    private final MongoTemplate mongoTemplate;
+    private final JwtProperties jwtProperties;
+
+    // === FAMILY LIFECYCLE ===
+
+    /**
+     * Kullanıcı için yeni bir token ailesi açar ve ilk token kimliğini döner
+     */
+    public RefreshTokenGrant issue(String userId) {
+        LocalDateTime now = LocalDateTime.now();
+        RefreshTokenFamily family = RefreshTokenFamily.builder()
+            .id(UUID.randomUUID().toString())
+            .userId(userId)
+            .currentTokenId(UUID.randomUUID().toString())
+            .generation(0)
+            .revoked(false)
+            .createdAt(now)
+            .lastRotatedAt(now)
+            .expiresAt(expiryFrom(now))
+            .build();
+        refreshTokenFamilyRepository.insert(family);
+        return new RefreshTokenGrant(family.getId(), family.getCurrentTokenId());
+    }
+
+    /**
+     * Sunulan token ailenin geçerli token'ıysa yenisini üretir. Aile iptal
+     * edilmiş, süresi dolmuş veya token daha önce kullanılmışsa boş döner;
+     * son durumda aile yeniden kullanım nedeniyle iptal edilir.
+     */
+    public Optional<RefreshTokenGrant> rotate(String familyId, String tokenId, String userId) {
+        LocalDateTime now = LocalDateTime.now();
+        String nextTokenId = UUID.randomUUID().toString();
+        Query query = new Query(Criteria.where("_id").is(familyId)
+            .and("user_id").is(userId)
+            .and("current_token_id").is(tokenId)
+            .and("revoked").is(false)
+            .and("expires_at").gt(now));
+        Update update = new Update()
+            .set("current_token_id", nextTokenId)
+            .inc("generation", 1)
+            .set("last_rotated_at", now)
+            .set("expires_at", expiryFrom(now));
+
+        RefreshTokenFamily rotated = mongoTemplate.findAndModify(query, update,
+            FindAndModifyOptions.options().returnNew(true), RefreshTokenFamily.class);
+        if (rotated != null) {
+            return Optional.of(new RefreshTokenGrant(familyId, nextTokenId));
+        }
+
+        // Reddedilen deneme: neden iptal/süre dolumu değil de eski token ise aile iptal edilir
+        refreshTokenFamilyRepository.findById(familyId).ifPresent(family -> {
+            if (family.isRevoked()) {
+                log.warn("Refresh attempted with revoked token family: {}", familyId);
+            } else if (!family.getCurrentTokenId().equals(tokenId)) {
+                log.warn("Refresh token reuse detected for user {} (family {}, generation {})",
+                    family.getUserId(), familyId, family.getGeneration());
+                revoke(familyId, "REUSE_DETECTED");
+            }
+        });
+        return Optional.empty();
+    }
+
+    public void revoke(String familyId, String reason) {
+        mongoTemplate.updateFirst(
+            new Query(Criteria.where("_id").is(familyId).and("revoked").is(false)),
+            new Update()
+                .set("revoked", true)
+                .set("revoked_reason", reason)
+                .set("revoked_at", LocalDateTime.now()),
+            RefreshTokenFamily.class);
+    }
+
+    // === PRIVATE HELPERS ===
+
+    private LocalDateTime expiryFrom(LocalDateTime now) {
+        return now.plusNanos(jwtProperties.getRefreshTokenExpiration() * 1_000_000L);
+    }
+
+    public record RefreshTokenGrant(String familyId, String tokenId) {
+    }
+}
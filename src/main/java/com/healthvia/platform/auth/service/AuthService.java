@@ -3,6 +3,7 @@ package com.healthvia.platform.auth.service;
 
 import com.healthvia.platform.auth.dto.AuthResponse;
 import com.healthvia.platform.auth.dto.LoginRequest;
+import com.healthvia.platform.auth.dto.PasswordHashingStats;
 import com.healthvia.platform.auth.dto.RegisterAdminRequest;
 import com.healthvia.platform.auth.dto.RegisterDoctorRequest;
 import com.healthvia.platform.auth.dto.RegisterRequest;
@@ -17,9 +18,13 @@ public interface AuthService {
     // === AUTHENTICATION ===
     AuthResponse login(LoginRequest request);
     AuthResponse refreshToken(String refreshToken);
+    void logout(String refreshToken);
     
     // === EMAIL & PASSWORD ===
     void verifyEmail(String token);
     void forgotPassword(String email);
     void resetPassword(String token, String newPassword);
+    
+    // === STATISTICS ===
+    PasswordHashingStats getPasswordHashingStats();
 }
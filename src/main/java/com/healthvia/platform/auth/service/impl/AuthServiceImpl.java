@@ -1,9 +1,11 @@
 package com.healthvia.platform.auth.service.impl;
 
 import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
 
 import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -11,23 +13,36 @@ import com.healthvia.platform.admin.entity.Admin;
 import com.healthvia.platform.admin.repository.AdminRepository;
 import com.healthvia.platform.auth.dto.AuthResponse;
 import com.healthvia.platform.auth.dto.LoginRequest;
+import com.healthvia.platform.auth.dto.PasswordHashingStats;
 import com.healthvia.platform.auth.dto.RegisterAdminRequest;
 import com.healthvia.platform.auth.dto.RegisterDoctorRequest;
 import com.healthvia.platform.auth.dto.RegisterRequest;
+import com.healthvia.platform.auth.entity.UniquenessClaim.ClaimType;
+import com.healthvia.platform.auth.entity.UserIdentity;
+import com.healthvia.platform.auth.identity.LoginActivityRecorder;
+import com.healthvia.platform.auth.identity.UniquenessClaimRegistry;
+import com.healthvia.platform.auth.identity.UserIdentityIndex;
 import com.healthvia.platform.auth.security.JwtTokenProvider;
+import com.healthvia.platform.auth.security.PasswordHashingExecutor;
+import com.healthvia.platform.auth.security.RefreshTokenStore;
+import com.healthvia.platform.auth.security.RefreshTokenStore.RefreshTokenGrant;
 import com.healthvia.platform.auth.security.UserPrincipal;
 import com.healthvia.platform.auth.service.AuthService;
+import com.healthvia.platform.common.constants.AppConstants;
 import com.healthvia.platform.common.constants.ErrorCodes;
 import com.healthvia.platform.common.enums.UserRole;
 import com.healthvia.platform.common.enums.UserStatus;
 import com.healthvia.platform.common.exception.BusinessException;
+import com.healthvia.platform.common.ratelimit.TokenBucketRateLimiter;
 import com.healthvia.platform.doctor.entity.Doctor;
 import com.healthvia.platform.doctor.repository.DoctorRepository;
+import com.healthvia.platform.doctor.search.DoctorLeaderboard;
+import com.healthvia.platform.doctor.search.DoctorSearchIndex;
 import com.healthvia.platform.user.entity.Patient;
 import com.healthvia.platform.user.entity.User;
 import com.healthvia.platform.user.repository.PatientRepository;
-import com.healthvia.platform.user.repository.UserRepository;
 
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -37,13 +52,19 @@ import lombok.extern.slf4j.Slf4j;
 @Transactional
 public class AuthServiceImpl implements AuthService {
 
-    private final UserRepository userRepository;
     private final PatientRepository patientRepository;
     private final DoctorRepository doctorRepository;
     private final AdminRepository adminRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingExecutor passwordHashingExecutor;
     private final JwtTokenProvider tokenProvider;
     private final AuthenticationManager authenticationManager;
+    private final DoctorSearchIndex doctorSearchIndex;
+    private final DoctorLeaderboard doctorLeaderboard;
+    private final UserIdentityIndex userIdentityIndex;
+    private final LoginActivityRecorder loginActivityRecorder;
+    private final RefreshTokenStore refreshTokenStore;
+    private final UniquenessClaimRegistry uniquenessClaimRegistry;
+    private final TokenBucketRateLimiter rateLimiter;
 
     @Override
     public AuthResponse registerPatient(RegisterRequest request) {
@@ -58,7 +79,7 @@ public class AuthServiceImpl implements AuthService {
             .lastName(request.getLastName())
             .email(request.getEmail())
             .phone(request.getPhone())
-            .password(passwordEncoder.encode(request.getPassword()))
+            .password(passwordHashingExecutor.encode(request.getPassword()))
             .role(UserRole.PATIENT)
             .status(UserStatus.ACTIVE)
             .gender(request.getGender())
@@ -76,8 +97,11 @@ public class AuthServiceImpl implements AuthService {
             .profileCompletionRate(30)
             .build();
         
+        Map<ClaimType, String> uniqueValues = commonUniqueValues(request);
+        uniqueValues.put(ClaimType.TC_KIMLIK_NO, request.getTcKimlikNo());
+        
         // Save directly with PatientRepository
-        Patient savedPatient = patientRepository.save(patient);
+        Patient savedPatient = uniquenessClaimRegistry.saveClaimed(uniqueValues, () -> patientRepository.save(patient));
         log.info("Patient created and activated with ID: {}", savedPatient.getId());
         
         // Create auth response
@@ -102,7 +126,7 @@ public class AuthServiceImpl implements AuthService {
             .lastName(request.getLastName())
             .email(request.getEmail())
             .phone(request.getPhone())
-            .password(passwordEncoder.encode(request.getPassword()))
+            .password(passwordHashingExecutor.encode(request.getPassword()))
             .role(UserRole.DOCTOR)
             .status(UserStatus.ACTIVE)
             .gender(request.getGender())
@@ -131,7 +155,13 @@ public class AuthServiceImpl implements AuthService {
             .isAcceptingNewPatients(false)
             .build();
         
-        Doctor savedDoctor = doctorRepository.save(doctor);
+        Map<ClaimType, String> uniqueValues = commonUniqueValues(request);
+        uniqueValues.put(ClaimType.DIPLOMA_NUMBER, request.getDiplomaNumber());
+        uniqueValues.put(ClaimType.MEDICAL_LICENSE_NUMBER, request.getMedicalLicenseNumber());
+        
+        Doctor savedDoctor = uniquenessClaimRegistry.saveClaimed(uniqueValues, () -> doctorRepository.save(doctor));
+        doctorSearchIndex.index(savedDoctor);
+        doctorLeaderboard.update(savedDoctor);
         log.info("Doctor created and activated with ID: {}", savedDoctor.getId());
         
         AuthResponse response = createAuthResponse(savedDoctor);
@@ -155,7 +185,7 @@ public class AuthServiceImpl implements AuthService {
             .lastName(request.getLastName())
             .email(request.getEmail())
             .phone(request.getPhone())
-            .password(passwordEncoder.encode(request.getPassword()))
+            .password(passwordHashingExecutor.encode(request.getPassword()))
             .role(UserRole.ADMIN)
             .status(UserStatus.ACTIVE)
             .gender(request.getGender())
@@ -184,7 +214,10 @@ public class AuthServiceImpl implements AuthService {
             .canManageSystem(request.getCanManageSystem() != null ? request.getCanManageSystem() : false)
             .build();
         
-        Admin savedAdmin = adminRepository.save(admin);
+        Map<ClaimType, String> uniqueValues = commonUniqueValues(request);
+        uniqueValues.put(ClaimType.EMPLOYEE_ID, request.getEmployeeId());
+        
+        Admin savedAdmin = uniquenessClaimRegistry.saveClaimed(uniqueValues, () -> adminRepository.save(admin));
         log.info("Admin created successfully with ID: {}", savedAdmin.getId());
         
         AuthResponse response = createAuthResponse(savedAdmin);
@@ -198,39 +231,42 @@ public class AuthServiceImpl implements AuthService {
     public AuthResponse login(LoginRequest request) {
         log.debug("Login attempt for username: {}", request.getUsername());
         
-        // Find user - önce UserRepository, sonra PatientRepository, sonra DoctorRepository, son AdminRepository
-        User user = userRepository.findByEmailOrPhone(request.getUsername())
-            .or(() -> patientRepository.findByEmail(request.getUsername()).map(patient -> (User) patient))
-            .or(() -> doctorRepository.findByEmail(request.getUsername()).map(doctor -> (User) doctor))
-            .or(() -> adminRepository.findByEmail(request.getUsername()).map(admin -> (User) admin))
+        // Kullanıcı adı bazlı sınır: IP değiştiren saldırılarda da hesap başına deneme sınırlanır
+        rateLimiter.acquire(AppConstants.RATE_LIMIT_LOGIN, usernameKey(request.getUsername()));
+        
+        // Tek indeksli okuma: normalize email veya E.164 telefon
+        UserIdentity identity = userIdentityIndex.findByUsername(request.getUsername())
             .orElseThrow(() -> new BusinessException(ErrorCodes.INVALID_CREDENTIALS));
         
         // Check account status
-        if (user.isAccountLocked()) {
+        if (identity.isAccountLocked()) {
             throw new BusinessException(ErrorCodes.ACCOUNT_LOCKED);
         }
         
         // Only check if user is active (not suspended/deleted)
-        if (user.getStatus() == UserStatus.SUSPENDED) {
+        if (identity.getStatus() == UserStatus.SUSPENDED) {
             throw new BusinessException(ErrorCodes.ACCOUNT_LOCKED, "Account suspended");
         }
         
-        if (user.getStatus() == UserStatus.DELETED || user.isDeleted()) {
+        if (identity.getStatus() == UserStatus.DELETED || identity.isDeleted()) {
             throw new BusinessException(ErrorCodes.USER_NOT_FOUND, "Account not found");
         }
         
-        // Verify password
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
-            user.incrementFailedLoginAttempts();
-            saveUserToCorrectRepository(user);
+        // Verify password (kullanıcı belgesi yüklenmez, sayaçlar kısmi update ile yazılır)
+        if (!passwordHashingExecutor.matches(request.getPassword(), identity.getPasswordHash())) {
+            loginActivityRecorder.recordFailure(identity);
             throw new BusinessException(ErrorCodes.INVALID_CREDENTIALS);
         }
         
+        // Hedef maliyetin altındaki hash'i doğrulanmış şifre ile yükselt
+        String upgradedHash = passwordHashingExecutor.upgradeIfNeeded(request.getPassword(), identity.getPasswordHash());
+        
         // Update last login
-        user.updateLastLogin();
-        saveUserToCorrectRepository(user);
+        LocalDateTime loginAt = LocalDateTime.now();
+        loginActivityRecorder.recordSuccess(identity, loginAt, upgradedHash);
+        identity.setLastLoginDate(loginAt);
         
-        AuthResponse response = createAuthResponse(user);
+        AuthResponse response = createAuthResponse(identity);
         response.setMessage("Giriş başarılı");
         response.setRequiresAction(false);
         
@@ -239,20 +275,30 @@ public class AuthServiceImpl implements AuthService {
 
     @Override
     public AuthResponse refreshToken(String refreshToken) {
-        if (!tokenProvider.validateToken(refreshToken)) {
-            throw new BusinessException(ErrorCodes.TOKEN_INVALID);
-        }
+        Claims claims = tokenProvider.verifyRefreshToken(refreshToken)
+            .orElseThrow(() -> new BusinessException(ErrorCodes.TOKEN_INVALID));
         
-        String userId = tokenProvider.getUserIdFromToken(refreshToken);
+        String userId = claims.getSubject();
         
-        // Try to find user in all repositories
-        User user = userRepository.findById(userId)
-            .or(() -> patientRepository.findById(userId).map(patient -> (User) patient))
-            .or(() -> doctorRepository.findById(userId).map(doctor -> (User) doctor))
-            .or(() -> adminRepository.findById(userId).map(admin -> (User) admin))
+        // Token ailesinde rotasyon; eski token'ın tekrar kullanımı aileyi iptal eder
+        RefreshTokenGrant grant = refreshTokenStore.rotate(tokenProvider.getFamilyId(claims), claims.getId(), userId)
+            .orElseThrow(() -> new BusinessException(ErrorCodes.TOKEN_INVALID));
+        
+        UserIdentity identity = userIdentityIndex.findById(userId)
+            .filter(found -> !found.isDeleted())
             .orElseThrow(() -> new BusinessException(ErrorCodes.USER_NOT_FOUND));
         
-        return createAuthResponse(user);
+        return createAuthResponse(identity, grant);
+    }
+
+    @Override
+    public void logout(String refreshToken) {
+        if (refreshToken == null || refreshToken.isBlank()) {
+            return;
+        }
+        
+        tokenProvider.verifyRefreshToken(refreshToken)
+            .ifPresent(claims -> refreshTokenStore.revoke(tokenProvider.getFamilyId(claims), "LOGOUT"));
     }
 
     @Override
@@ -263,14 +309,12 @@ public class AuthServiceImpl implements AuthService {
 
     @Override
     public void forgotPassword(String email) {
-        // Find user in any repository
-        User user = userRepository.findByEmail(email)
-            .or(() -> patientRepository.findByEmail(email).map(patient -> (User) patient))
-            .or(() -> doctorRepository.findByEmail(email).map(doctor -> (User) doctor))
-            .or(() -> adminRepository.findByEmail(email).map(admin -> (User) admin))
+        rateLimiter.acquire(AppConstants.RATE_LIMIT_PASSWORD_RESET, usernameKey(email));
+        
+        UserIdentity identity = userIdentityIndex.findByUsername(email)
             .orElseThrow(() -> new BusinessException(ErrorCodes.USER_NOT_FOUND));
         
-        log.info("Password reset requested for user: {}", user.getId());
+        log.info("Password reset requested for user: {}", identity.getId());
         throw new UnsupportedOperationException("Password reset will be implemented with email service");
     }
 
@@ -280,24 +324,17 @@ public class AuthServiceImpl implements AuthService {
         throw new UnsupportedOperationException("Password reset will be implemented with email service");
     }
 
+    @Override
+    public PasswordHashingStats getPasswordHashingStats() {
+        return passwordHashingExecutor.stats();
+    }
+
     // === PRIVATE HELPER METHODS ===
 
     private void validateCommonFields(RegisterRequest request) {
-        // Email uniqueness check across all repositories
-        if (userRepository.existsByEmailAndDeletedFalse(request.getEmail()) ||
-            patientRepository.existsByEmail(request.getEmail()) ||
-            doctorRepository.existsByEmail(request.getEmail()) ||
-            adminRepository.existsByEmail(request.getEmail())) {
-            throw new BusinessException(ErrorCodes.USER_ALREADY_EXISTS, "Email already exists: " + request.getEmail());
-        }
+        rateLimiter.acquire(AppConstants.RATE_LIMIT_REGISTER, usernameKey(request.getEmail()));
         
-        // Phone uniqueness check across all repositories
-        if (userRepository.existsByPhoneAndDeletedFalse(request.getPhone()) ||
-            patientRepository.existsByPhone(request.getPhone()) ||
-            doctorRepository.existsByPhone(request.getPhone()) ||
-            adminRepository.existsByPhone(request.getPhone())) {
-            throw new BusinessException(ErrorCodes.USER_ALREADY_EXISTS, "Phone already exists: " + request.getPhone());
-        }
+        // Email/telefon benzersizliği kayıt sırasında UniquenessClaimRegistry.saveClaimed ile atomik olarak sağlanır
         
         // GDPR consent check
         if (!Boolean.TRUE.equals(request.getGdprConsent())) {
@@ -317,15 +354,6 @@ public class AuthServiceImpl implements AuthService {
         if (request.getPrimarySpecialty() == null || request.getPrimarySpecialty().trim().isEmpty()) {
             throw new BusinessException(ErrorCodes.INVALID_CREDENTIALS, "Primary specialty is required");
         }
-        
-        // Check uniqueness
-        if (doctorRepository.existsByDiplomaNumberAndDeletedFalse(request.getDiplomaNumber())) {
-            throw new BusinessException(ErrorCodes.USER_ALREADY_EXISTS, "Diploma number already exists");
-        }
-        
-        if (doctorRepository.existsByMedicalLicenseNumberAndDeletedFalse(request.getMedicalLicenseNumber())) {
-            throw new BusinessException(ErrorCodes.USER_ALREADY_EXISTS, "Medical license number already exists");
-        }
     }
 
     private void validateAdminFields(RegisterAdminRequest request) {
@@ -336,62 +364,65 @@ public class AuthServiceImpl implements AuthService {
         if (request.getEmployeeId() == null || request.getEmployeeId().trim().isEmpty()) {
             throw new BusinessException(ErrorCodes.INVALID_CREDENTIALS, "Employee ID is required");
         }
-        
-        // Check uniqueness
-        if (adminRepository.existsByEmployeeIdAndDeletedFalse(request.getEmployeeId())) {
-            throw new BusinessException(ErrorCodes.USER_ALREADY_EXISTS, "Employee ID already exists");
-        }
     }
 
-    private void saveUserToCorrectRepository(User user) {
-        if (user instanceof Patient) {
-            patientRepository.save((Patient) user);
-        } else if (user instanceof Doctor) {
-            doctorRepository.save((Doctor) user);
-        } else if (user instanceof Admin) {
-            adminRepository.save((Admin) user);
-        } else {
-            userRepository.save(user);
-        }
+    private static String usernameKey(String username) {
+        return username != null ? "user:" + username.trim().toLowerCase(Locale.ROOT) : null;
+    }
+
+    private Map<ClaimType, String> commonUniqueValues(RegisterRequest request) {
+        Map<ClaimType, String> values = new EnumMap<>(ClaimType.class);
+        values.put(ClaimType.EMAIL, request.getEmail());
+        values.put(ClaimType.PHONE, request.getPhone());
+        return values;
     }
 
     private AuthResponse createAuthResponse(User user) {
+        return createAuthResponse(UserIdentity.from(user));
+    }
+
+    private AuthResponse createAuthResponse(UserIdentity identity) {
+        // Her giriş yeni bir refresh token ailesi açar
+        return createAuthResponse(identity, refreshTokenStore.issue(identity.getId()));
+    }
+
+    private AuthResponse createAuthResponse(UserIdentity identity, RefreshTokenGrant grant) {
         // Create UserPrincipal
-        UserPrincipal userPrincipal = createUserPrincipal(user);
+        UserPrincipal userPrincipal = createUserPrincipal(identity);
         
         // Generate tokens
         String accessToken = tokenProvider.generateAccessToken(userPrincipal);
-        String refreshToken = tokenProvider.generateRefreshToken(user.getId());
+        String refreshToken = tokenProvider.generateRefreshToken(identity.getId(), grant.familyId(), grant.tokenId());
         
-        log.info("Authentication successful for user: {}", user.getId());
+        log.info("Authentication successful for user: {}", identity.getId());
         
         return AuthResponse.builder()
             .accessToken(accessToken)
             .refreshToken(refreshToken)
             .tokenType("Bearer")
             .expiresIn(900000) // 15 minutes
-            .userId(user.getId())
-            .email(user.getEmail())
-            .firstName(user.getFirstName())
-            .lastName(user.getLastName())
-            .role(user.getRole())
-            .status(user.getStatus())
-            .emailVerified(user.getEmailVerified())
-            .phoneVerified(user.getPhoneVerified())
-            .lastLoginDate(user.getLastLoginDate())
+            .userId(identity.getId())
+            .email(identity.getEmail())
+            .firstName(identity.getFirstName())
+            .lastName(identity.getLastName())
+            .role(identity.getRole())
+            .status(identity.getStatus())
+            .emailVerified(identity.getEmailVerified())
+            .phoneVerified(identity.getPhoneVerified())
+            .lastLoginDate(identity.getLastLoginDate())
             .build();
     }
 
-    private UserPrincipal createUserPrincipal(User user) {
+    private UserPrincipal createUserPrincipal(UserIdentity identity) {
         return UserPrincipal.builder()
-            .id(user.getId())
-            .email(user.getEmail())
-            .password(user.getPassword())
-            .firstName(user.getFirstName())
-            .lastName(user.getLastName())
-            .role(user.getRole())
-            .status(user.getStatus())
-            .emailVerified(user.getEmailVerified())
+            .id(identity.getId())
+            .email(identity.getEmail())
+            .password(identity.getPasswordHash())
+            .firstName(identity.getFirstName())
+            .lastName(identity.getLastName())
+            .role(identity.getRole())
+            .status(identity.getStatus())
+            .emailVerified(identity.getEmailVerified())
             .build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,131 @@
+// common/cache/BoundedCache.java
+package com.healthvia.platform.common.cache;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Boyut ve süre sınırlı, LRU tahliyeli, thread-safe bellek içi önbellek.
+ *
+ * Yükleme kilit dışında yapılır; yükleme sürerken anahtar geçersiz kılınırsa
+ * yüklenen (artık eski olabilecek) değer önbelleğe yazılmaz.
+ */
+public class BoundedCache<K, V> {
+
+    private final String name;
+    private final int maxSize;
+    private final long ttlNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private long invalidations; // lock altında
+
+    public BoundedCache(String name, int maxSize, Duration ttl) {
+        this.name = name;
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() > BoundedCache.this.maxSize) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Önbellekteki değeri döner, yoksa loader ile yükler. Loader null dönerse
+     * sonuç önbelleğe alınmaz.
+     */
+    public V get(K key, Function<K, V> loader) {
+        long epoch;
+        lock.lock();
+        try {
+            Entry<V> entry = entries.get(key);
+            if (entry != null) {
+                if (System.nanoTime() - entry.loadedAt() < ttlNanos) {
+                    hits.incrementAndGet();
+                    return entry.value();
+                }
+                entries.remove(key);
+                evictions.incrementAndGet();
+            }
+            epoch = invalidations;
+        } finally {
+            lock.unlock();
+        }
+
+        misses.incrementAndGet();
+        V value = loader.apply(key);
+        if (value == null) {
+            return null;
+        }
+
+        lock.lock();
+        try {
+            if (invalidations == epoch) {
+                entries.put(key, new Entry<>(value, System.nanoTime()));
+            }
+        } finally {
+            lock.unlock();
+        }
+        return value;
+    }
+
+    public void invalidate(K key) {
+        lock.lock();
+        try {
+            invalidations++;
+            entries.remove(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void invalidateAll() {
+        lock.lock();
+        try {
+            invalidations++;
+            entries.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public CacheStats stats() {
+        int size;
+        lock.lock();
+        try {
+            size = entries.size();
+        } finally {
+            lock.unlock();
+        }
+
+        long hitCount = hits.get();
+        long missCount = misses.get();
+        long requests = hitCount + missCount;
+        return CacheStats.builder()
+            .name(name)
+            .size(size)
+            .maxSize(maxSize)
+            .hits(hitCount)
+            .misses(missCount)
+            .evictions(evictions.get())
+            .hitRate(requests == 0 ? 0.0 : (double) hitCount / requests)
+            .build();
+    }
+
+    private record Entry<V>(V value, long loadedAt) {
+    }
+}
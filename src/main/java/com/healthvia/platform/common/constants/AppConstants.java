@@ -12,6 +12,9 @@ public class AppConstants {
     public static final int DEFAULT_PAGE_SIZE = 20;
     public static final int MAX_PAGE_SIZE = 100;
     
+    // Bulk Operations
+    public static final int MAX_BULK_ITEMS = 100_000;
+    
     // File Upload
     public static final long MAX_FILE_SIZE = 10 * 1024 * 1024; // 10MB
     public static final String[] ALLOWED_IMAGE_EXTENSIONS = {"jpg", "jpeg", "png", "webp"};
@@ -30,6 +33,8 @@ public class AppConstants {
     public static final String RATE_LIMIT_LOGIN = "login";
     public static final String RATE_LIMIT_REGISTER = "register";
     public static final String RATE_LIMIT_PASSWORD_RESET = "password-reset";
+    public static final String RATE_LIMIT_TOKEN_REFRESH = "token-refresh";
+    public static final String RATE_LIMIT_AVAILABILITY_CHECK = "availability-check";
     
     // WebSocket
     public static final String WS_DESTINATION_PREFIX = "/app";
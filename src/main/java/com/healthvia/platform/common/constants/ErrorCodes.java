@@ -9,6 +9,7 @@ public enum ErrorCodes {
     ACCOUNT_LOCKED("ERR_1003", "Hesap kilitlenmiş"),
     EMAIL_NOT_VERIFIED("ERR_1004", "Email doğrulanmamış"),
     UNAUTHORIZED("ERR_1005", "Yetkisiz erişim"),
+    TOO_MANY_REQUESTS("ERR_1006", "Çok fazla istek, lütfen daha sonra tekrar deneyin"),
     
     // User Errors (1100-1199)
     USER_NOT_FOUND("ERR_1100", "Kullanıcı bulunamadı"),
@@ -21,6 +22,9 @@ public enum ErrorCodes {
     INVALID_APPOINTMENT_DATE("ERR_2002", "Geçersiz randevu tarihi"),
     PAYMENT_FAILED("ERR_2003", "Ödeme başarısız"),
     INSUFFICIENT_BALANCE("ERR_2004", "Yetersiz bakiye"),
+    INVALID_APPOINTMENT_STATUS("ERR_2005", "Randevu durumu bu işlem için uygun değil"),
+    INVALID_LOCATION("ERR_2006", "Geçersiz konum bilgisi"),
+    CONCURRENT_MODIFICATION("ERR_2007", "Kayıt başka bir işlem tarafından değiştirildi, lütfen yeniden yükleyin"),
     
     // Integration Errors (3000-3099)
     ZOOM_API_ERROR("ERR_3000", "Zoom API hatası"),
@@ -32,7 +36,10 @@ public enum ErrorCodes {
     INTERNAL_SERVER_ERROR("ERR_9000", "Sistem hatası"),
     DATABASE_ERROR("ERR_9001", "Veritabanı hatası"),
     FILE_UPLOAD_ERROR("ERR_9002", "Dosya yükleme hatası"),
-    CACHE_ERROR("ERR_9003", "Önbellek hatası");
+    CACHE_ERROR("ERR_9003", "Önbellek hatası"),
+    SERVICE_BUSY("ERR_9004", "Sistem şu anda yoğun, lütfen kısa süre sonra tekrar deneyin"),
+    BULK_LIMIT_EXCEEDED("ERR_9005", "Toplu işlem en fazla %s kayıt içerebilir"),
+    IMPORT_ALREADY_COMPLETED("ERR_9006", "Aktarım zaten tamamlanmış, sürdürülemez");
     
     private final String code;
     private final String message;
@@ -0,0 +1,62 @@
+// common/dto/BulkWriteReport.java
+package com.healthvia.platform.common.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Toplu güncelleme sonucu. Başarılı kayıtlar yalnızca sayılır; başarısız
+ * kayıtlar id, hata kodu ve mesajı ile tek tek listelenir.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkWriteReport {
+
+    private int requested;
+    private int succeeded;
+    private int failed;
+    private int chunks;
+    private long durationMillis;
+
+    @Builder.Default
+    private List<ItemFailure> failures = new ArrayList<>();
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ItemFailure {
+        private String id;
+        private String code;
+        private String message;
+    }
+
+    public static BulkWriteReport empty() {
+        return BulkWriteReport.builder().build();
+    }
+
+    public void addFailure(String id, String code, String message) {
+        failures.add(new ItemFailure(id, code, message));
+        failed++;
+    }
+
+    /**
+     * Başka bir raporun sonuçlarını bu rapora ekler (ör. koleksiyon başına çalışan işlemler)
+     */
+    public BulkWriteReport merge(BulkWriteReport other) {
+        requested += other.requested;
+        succeeded += other.succeeded;
+        failed += other.failed;
+        chunks += other.chunks;
+        durationMillis += other.durationMillis;
+        failures.addAll(other.failures);
+        return this;
+    }
+}
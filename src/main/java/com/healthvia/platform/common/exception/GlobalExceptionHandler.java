@@ -6,6 +6,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -18,6 +19,7 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MaxUploadSizeExceededException;
 
+import com.healthvia.platform.common.constants.ErrorCodes;
 import com.healthvia.platform.common.dto.ApiResponse;
 import com.healthvia.platform.common.dto.ErrorResponse;
 
@@ -28,6 +30,25 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class GlobalExceptionHandler {
     
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<ApiResponse<Void>> handleRateLimitExceededException(
+            RateLimitExceededException ex, WebRequest request) {
+        
+        log.warn("Rate limit exceeded: {}", request.getDescription(false));
+        
+        ErrorResponse error = ErrorResponse.builder()
+            .code(ex.getErrorCode().getCode())
+            .message(ex.getMessage())
+            .timestamp(LocalDateTime.now())
+            .path(request.getDescription(false).replace("uri=", ""))
+            .build();
+        
+        return ResponseEntity
+            .status(HttpStatus.TOO_MANY_REQUESTS)
+            .header(HttpHeaders.RETRY_AFTER, Long.toString(ex.getRetryAfterSeconds()))
+            .body(ApiResponse.error(error));
+    }
+    
     @ExceptionHandler(BusinessException.class)
     public ResponseEntity<ApiResponse<Void>> handleBusinessException(
             BusinessException ex, WebRequest request) {
@@ -41,8 +62,16 @@ public class GlobalExceptionHandler {
             .path(request.getDescription(false).replace("uri=", ""))
             .build();
         
+        // Kapasite reddi istemci hatası değildir, tekrar denenebilir; eşzamanlı değişiklik 409 döner
+        HttpStatus status = HttpStatus.BAD_REQUEST;
+        if (ex.getErrorCode() == ErrorCodes.SERVICE_BUSY) {
+            status = HttpStatus.SERVICE_UNAVAILABLE;
+        } else if (ex.getErrorCode() == ErrorCodes.CONCURRENT_MODIFICATION) {
+            status = HttpStatus.CONFLICT;
+        }
+        
         return ResponseEntity
-            .status(HttpStatus.BAD_REQUEST)
+            .status(status)
             .body(ApiResponse.error(error));
     }
     
@@ -0,0 +1,17 @@
+// common/exception/RateLimitExceededException.java
+package com.healthvia.platform.common.exception;
+
+import com.healthvia.platform.common.constants.ErrorCodes;
+
+import lombok.Getter;
+
+@Getter
+public class RateLimitExceededException extends BusinessException {
+
+    private final long retryAfterSeconds;
+
+    public RateLimitExceededException(long retryAfterSeconds) {
+        super(ErrorCodes.TOO_MANY_REQUESTS);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
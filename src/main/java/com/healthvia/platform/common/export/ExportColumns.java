@@ -0,0 +1,51 @@
+// common/export/ExportColumns.java
+package com.healthvia.platform.common.export;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Export edilecek alanların sıralı listesi. CSV başlıkları ve NDJSON nesne
+ * anahtarları aynı adları kullanır; böylece iki format aynı veriyi taşır.
+ */
+public class ExportColumns<T> {
+
+    private final Map<String, Function<T, ?>> columns = new LinkedHashMap<>();
+
+    public static <T> ExportColumns<T> of(Class<T> type) {
+        return new ExportColumns<>();
+    }
+
+    public ExportColumns<T> add(String name, Function<T, ?> getter) {
+        columns.put(name, getter);
+        return this;
+    }
+
+    public List<String> names() {
+        return Collections.unmodifiableList(new ArrayList<>(columns.keySet()));
+    }
+
+    /**
+     * Çok değerli alanı tek hücre için "; " ile birleştirir (sıralı, böylece
+     * Set alanları her exportta aynı çıkar); boş veya null ise null döner
+     */
+    public static String join(Collection<?> values) {
+        if (values == null || values.isEmpty()) return null;
+        return values.stream().map(String::valueOf).sorted().collect(Collectors.joining("; "));
+    }
+
+    /**
+     * Kaydın değerlerini kolon sırasıyla döner
+     */
+    public Map<String, Object> values(T record) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        columns.forEach((name, getter) -> values.put(name, getter.apply(record)));
+        return values;
+    }
+}
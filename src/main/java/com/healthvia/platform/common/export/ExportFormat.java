@@ -0,0 +1,22 @@
+// common/export/ExportFormat.java
+package com.healthvia.platform.common.export;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.http.MediaType;
+
+import lombok.Getter;
+
+@Getter
+public enum ExportFormat {
+    NDJSON(MediaType.APPLICATION_NDJSON, "ndjson"),
+    CSV(new MediaType("text", "csv", StandardCharsets.UTF_8), "csv");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    ExportFormat(MediaType mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+}
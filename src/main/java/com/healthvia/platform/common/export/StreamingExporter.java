@@ -0,0 +1,107 @@
+// common/export/StreamingExporter.java
+package com.healthvia.platform.common.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.healthvia.platform.common.util.CsvUtils;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Cursor'dan gelen kayıtları yanıt gövdesine NDJSON/CSV olarak akıtır.
+ *
+ * Kayıtlar tek tek yazılır ve bellekte tutulmaz. Yanıt akışı istemcinin okuma
+ * hızında bloklandığından cursor da o hızda ilerler (getMore yalnızca yazılan
+ * kayıtlar tükendiğinde yapılır); sonuç kümesinin boyutu heap kullanımını
+ * etkilemez. Stream yazım bittiğinde veya bağlantı koptuğunda kapatılır.
+ * CSV hücreleri CsvUtils.exportCell ile yazılır (tek satır, formül korumalı).
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class StreamingExporter {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int FLUSH_EVERY_ROWS = 500;
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * source, yanıt yazılırken (istek thread'i dışında) açılır
+     */
+    public <T> ResponseEntity<StreamingResponseBody> export(String fileName, ExportFormat format,
+                                                           ExportColumns<T> columns,
+                                                           Supplier<Stream<T>> source) {
+        StreamingResponseBody body = output -> {
+            try (Stream<T> records = source.get()) {
+                long written = write(records, columns, format, output);
+                log.info("Exported {} records to {}.{}", written, fileName, format.getExtension());
+            }
+        };
+
+        return ResponseEntity.ok()
+            .contentType(format.getMediaType())
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(fileName + "." + format.getExtension())
+                .build()
+                .toString())
+            .body(body);
+    }
+
+    private <T> long write(Stream<T> records, ExportColumns<T> columns, ExportFormat format,
+                           OutputStream output) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8), BUFFER_SIZE);
+        ObjectWriter jsonWriter = objectMapper.writer();
+
+        if (format == ExportFormat.CSV) {
+            writer.write(String.join(",", columns.names()));
+            writer.write('\n');
+        }
+
+        long written = 0;
+        Iterator<T> iterator = records.iterator();
+        while (iterator.hasNext()) {
+            Map<String, Object> values = columns.values(iterator.next());
+            if (format == ExportFormat.CSV) {
+                writeCsvRow(writer, values);
+            } else {
+                writer.write(jsonWriter.writeValueAsString(values));
+                writer.write('\n');
+            }
+
+            if (++written % FLUSH_EVERY_ROWS == 0) {
+                writer.flush();
+            }
+        }
+        writer.flush();
+        return written;
+    }
+
+    private void writeCsvRow(Writer writer, Map<String, Object> values) throws IOException {
+        boolean first = true;
+        for (Object value : values.values()) {
+            if (!first) writer.write(',');
+            writer.write(CsvUtils.exportCell(value));
+            first = false;
+        }
+        writer.write('\n');
+    }
+}
@@ -0,0 +1,64 @@
+// common/persistence/AppointmentCounterUpdates.java
+package com.healthvia.platform.common.persistence;
+
+import java.util.List;
+
+import org.bson.Document;
+
+/**
+ * Doktor ve hasta belgelerindeki randevu sayaçları için update pipeline'ları.
+ *
+ * Sayaç değişikliği ve tamamlama oranı (completed / total) aynı pipeline'da
+ * hesaplanır; oran her zaman yazıldığı andaki sayaçlarla tutarlıdır. Toplamı
+ * sıfır olan belgelerde oran alanı kaldırılır, böylece sparse indekse girmez.
+ */
+public final class AppointmentCounterUpdates {
+
+    public static final String TOTAL = "total_appointments";
+    public static final String COMPLETED = "completed_appointments";
+    public static final String CANCELLED = "cancelled_appointments";
+    public static final String COMPLETION_RATIO = "appointment_completion_ratio";
+
+    private AppointmentCounterUpdates() {
+    }
+
+    /**
+     * Sayaçları verilen miktarlar kadar artırır (negatif değer azaltır)
+     */
+    public static List<Document> increment(int total, int completed, int cancelled) {
+        return List.of(
+            new Document("$set", new Document()
+                .append(TOTAL, add(TOTAL, total))
+                .append(COMPLETED, add(COMPLETED, completed))
+                .append(CANCELLED, add(CANCELLED, cancelled))),
+            ratioStage());
+    }
+
+    /**
+     * Sayaçları mutlak değerlere ayarlar (düzeltme amaçlı)
+     */
+    public static List<Document> set(int total, int completed, int cancelled) {
+        return List.of(
+            new Document("$set", new Document()
+                .append(TOTAL, total)
+                .append(COMPLETED, completed)
+                .append(CANCELLED, cancelled)),
+            ratioStage());
+    }
+
+    /**
+     * Mevcut sayaçlardan tamamlama oranını yeniden hesaplayan aşama
+     */
+    public static Document ratioStage() {
+        return new Document("$set", new Document(COMPLETION_RATIO,
+            new Document("$cond", List.of(
+                new Document("$gt", List.of(new Document("$ifNull", List.of("$" + TOTAL, 0)), 0)),
+                new Document("$divide", List.of(
+                    new Document("$ifNull", List.of("$" + COMPLETED, 0)), "$" + TOTAL)),
+                "$$REMOVE"))));
+    }
+
+    private static Document add(String field, int amount) {
+        return new Document("$add", List.of(new Document("$ifNull", List.of("$" + field, 0)), amount));
+    }
+}
@@ -0,0 +1,174 @@
+// common/persistence/BulkUpdater.java
+package com.healthvia.platform.common.persistence;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import com.healthvia.platform.common.constants.AppConstants;
+import com.healthvia.platform.common.constants.ErrorCodes;
+import com.healthvia.platform.common.dto.BulkWriteReport;
+import com.healthvia.platform.common.exception.BusinessException;
+import com.healthvia.platform.common.model.BaseEntity;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Aynı alan değişikliğinin çok sayıda kayda toplu uygulanması.
+ *
+ * Kayıtlar sınırlı boyutlu parçalara bölünür; her parça tek bir sırasız
+ * (unordered) bulkWrite olarak gönderilir, böylece bir kaydın hatası diğerlerini
+ * durdurmaz. {@link PartialUpdater} ile aynı kurallar geçerlidir: silinmiş
+ * kayıtlar güncellenmez, version artırılır, updatedAt/updatedBy yazılır.
+ * Toplu yazılar AfterSaveEvent yayınlamaz; kimlik, önbellek ve indeks
+ * senkronizasyonu çağıranın parça sonrası geri çağrısında yapılır.
+ */
+@Component
+@Slf4j
+public class BulkUpdater {
+
+    private final MongoTemplate mongoTemplate;
+    private final AuditorAware<String> auditorAware;
+    private final int chunkSize;
+
+    public BulkUpdater(MongoTemplate mongoTemplate,
+                       AuditorAware<String> auditorAware,
+                       @Value("${bulk.chunk-size:1000}") int chunkSize) {
+        this.mongoTemplate = mongoTemplate;
+        this.auditorAware = auditorAware;
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    public <T extends BaseEntity> BulkWriteReport update(Class<T> type, Collection<String> ids, FieldPatch patch) {
+        return update(type, ids, patch, updatedIds -> { });
+    }
+
+    /**
+     * Patch'i id listesindeki her kayda uygular. afterChunk her parçadan sonra
+     * o parçada güncellenen id'lerle çağrılır. Tekrarlanan id'ler bir kez işlenir.
+     */
+    public <T extends BaseEntity> BulkWriteReport update(Class<T> type, Collection<String> ids, FieldPatch patch,
+                                                         Consumer<List<String>> afterChunk) {
+        validateSize(ids);
+        if (ids.isEmpty()) {
+            return BulkWriteReport.empty();
+        }
+        if (patch.isEmpty()) {
+            throw new IllegalArgumentException("Bulk patch must change at least one field");
+        }
+
+        long startedAt = System.currentTimeMillis();
+        List<String> uniqueIds = new ArrayList<>(new LinkedHashSet<>(ids));
+        Update update = auditedUpdate(patch);
+        BulkWriteReport report = BulkWriteReport.empty();
+        report.setRequested(uniqueIds.size());
+
+        for (int from = 0; from < uniqueIds.size(); from += chunkSize) {
+            List<String> chunk = uniqueIds.subList(from, Math.min(from + chunkSize, uniqueIds.size()));
+            List<String> updatedIds = writeChunk(type, chunk, update, report);
+            report.setChunks(report.getChunks() + 1);
+            report.setSucceeded(report.getSucceeded() + updatedIds.size());
+
+            if (!updatedIds.isEmpty()) {
+                try {
+                    afterChunk.accept(updatedIds);
+                } catch (Exception e) {
+                    log.warn("Post-write sync failed for a chunk of {} {}: {}",
+                        updatedIds.size(), type.getSimpleName(), e.getMessage());
+                }
+            }
+        }
+
+        report.setDurationMillis(System.currentTimeMillis() - startedAt);
+        log.info("Bulk update on {}: {} requested, {} succeeded, {} failed in {} ms",
+            type.getSimpleName(), report.getRequested(), report.getSucceeded(), report.getFailed(),
+            report.getDurationMillis());
+        return report;
+    }
+
+    // === PRIVATE HELPERS ===
+
+    private <T extends BaseEntity> List<String> writeChunk(Class<T> type, List<String> chunk,
+                                                           Update update, BulkWriteReport report) {
+        BulkOperations operations = mongoTemplate.bulkOps(BulkMode.UNORDERED, type);
+        for (String id : chunk) {
+            operations.updateOne(new Query(Criteria.where("id").is(id).and("deleted").is(false)), update);
+        }
+
+        // Sırasız bulk'ta hatalar işlem sırasıyla (index) raporlanır
+        Map<Integer, BulkWriteError> errors = new HashMap<>();
+        BulkWriteResult result;
+        try {
+            result = operations.execute();
+        } catch (BulkOperationException e) {
+            e.getErrors().forEach(error -> errors.put(error.getIndex(), error));
+            result = e.getResult();
+        } catch (DataAccessException e) {
+            log.error("Bulk write chunk of {} {} failed: {}", chunk.size(), type.getSimpleName(), e.getMessage());
+            chunk.forEach(id -> report.addFailure(id, ErrorCodes.DATABASE_ERROR.getCode(), e.getMessage()));
+            return List.of();
+        }
+
+        // Eşleşmeyen kayıt yoksa ek sorgu gerekmez
+        Set<String> existingIds = result.getMatchedCount() + errors.size() < chunk.size()
+            ? findActiveIds(type, chunk)
+            : null;
+
+        List<String> updatedIds = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            String id = chunk.get(i);
+            BulkWriteError error = errors.get(i);
+            if (error != null) {
+                report.addFailure(id, ErrorCodes.DATABASE_ERROR.getCode(), error.getMessage());
+            } else if (existingIds != null && !existingIds.contains(id)) {
+                report.addFailure(id, ErrorCodes.USER_NOT_FOUND.getCode(), ErrorCodes.USER_NOT_FOUND.getMessage());
+            } else {
+                updatedIds.add(id);
+            }
+        }
+        return updatedIds;
+    }
+
+    private <T extends BaseEntity> Set<String> findActiveIds(Class<T> type, List<String> ids) {
+        Query query = new Query(Criteria.where("id").in(ids).and("deleted").is(false));
+        query.fields().include("id");
+
+        Set<String> activeIds = new HashSet<>();
+        mongoTemplate.find(query, type).forEach(entity -> activeIds.add(entity.getId()));
+        return activeIds;
+    }
+
+    private Update auditedUpdate(FieldPatch patch) {
+        return Update.fromDocument(patch.toUpdate().getUpdateObject())
+            .inc("version", 1)
+            .set("updatedAt", LocalDateTime.now())
+            .set("updatedBy", auditorAware.getCurrentAuditor().orElse("system"));
+    }
+
+    private static void validateSize(Collection<String> ids) {
+        if (ids.size() > AppConstants.MAX_BULK_ITEMS) {
+            throw new BusinessException(ErrorCodes.BULK_LIMIT_EXCEEDED, AppConstants.MAX_BULK_ITEMS);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+// common/persistence/FieldPatch.java
+package com.healthvia.platform.common.persistence;
+
+import org.springframework.data.mongodb.core.query.Update;
+
+/**
+ * Bir belgede değişecek alanların listesi.
+ *
+ * Alan adları entity property adlarıdır (ör. "biography"); MongoDB alan
+ * adlarına ({@code @Field}) dönüşüm {@link PartialUpdater} tarafından yapılır.
+ */
+public class FieldPatch {
+
+    private final Update update = new Update();
+    private boolean empty = true;
+
+    public static FieldPatch create() {
+        return new FieldPatch();
+    }
+
+    public FieldPatch set(String property, Object value) {
+        update.set(property, value);
+        empty = false;
+        return this;
+    }
+
+    /**
+     * Değer null ise alan değiştirilmez (PATCH semantiği)
+     */
+    public FieldPatch setIfNotNull(String property, Object value) {
+        return value != null ? set(property, value) : this;
+    }
+
+    public FieldPatch unset(String property) {
+        update.unset(property);
+        empty = false;
+        return this;
+    }
+
+    public FieldPatch inc(String property, Number amount) {
+        update.inc(property, amount);
+        empty = false;
+        return this;
+    }
+
+    public FieldPatch push(String property, Object value) {
+        update.push(property, value);
+        empty = false;
+        return this;
+    }
+
+    public boolean isEmpty() {
+        return empty;
+    }
+
+    Update toUpdate() {
+        return update;
+    }
+}
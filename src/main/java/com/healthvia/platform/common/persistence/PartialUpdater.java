@@ -0,0 +1,117 @@
+// common/persistence/PartialUpdater.java
+package com.healthvia.platform.common.persistence;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import com.healthvia.platform.common.constants.ErrorCodes;
+import com.healthvia.platform.common.exception.BusinessException;
+import com.healthvia.platform.common.exception.ResourceNotFoundException;
+import com.healthvia.platform.common.model.BaseEntity;
+import com.mongodb.client.model.FindOneAndUpdateOptions;
+import com.mongodb.client.model.ReturnDocument;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Belgeyi okuyup tamamını yeniden yazmadan alan bazlı güncelleme.
+ *
+ * Tek bir findAndModify ile yalnızca değişen alanlar yazılır; silinmiş
+ * kayıtlar güncellenmez, version artırılır (eski kopyayı save eden akışlar
+ * optimistic lock hatası alır) ve istenirse beklenen version kontrol edilir.
+ * Güncel belge döner ve AfterSaveEvent yayınlanır, böylece kayıt dinleyicileri
+ * (ör. kimlik senkronizasyonu) save ile aynı şekilde çalışır.
+ */
+@Component
+@RequiredArgsConstructor
+public class PartialUpdater {
+
+    private final MongoTemplate mongoTemplate;
+    private final AuditorAware<String> auditorAware;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public <T extends BaseEntity> T patch(Class<T> type, String id, FieldPatch patch) {
+        return patch(type, id, null, patch);
+    }
+
+    /**
+     * expectedVersion null değilse belge yalnızca bu version'daysa güncellenir,
+     * aksi halde CONCURRENT_MODIFICATION fırlatılır
+     */
+    public <T extends BaseEntity> T patch(Class<T> type, String id, Long expectedVersion, FieldPatch patch) {
+        Criteria criteria = Criteria.where("id").is(id).and("deleted").is(false);
+        if (expectedVersion != null) {
+            criteria.and("version").is(expectedVersion);
+        }
+
+        Update update = patch.toUpdate()
+            .inc("version", 1)
+            .set("updatedAt", LocalDateTime.now())
+            .set("updatedBy", auditorAware.getCurrentAuditor().orElse("system"));
+
+        T updated = mongoTemplate.findAndModify(new Query(criteria), update,
+            FindAndModifyOptions.options().returnNew(true), type);
+        if (updated == null) {
+            throw notUpdated(type, id, expectedVersion);
+        }
+
+        publishAfterSave(updated);
+        return updated;
+    }
+
+    /**
+     * Alanların belgenin mevcut değerlerinden hesaplandığı güncellemeler için
+     * update pipeline çalıştırır. Aşamalar MongoDB alan adlarını kullanır;
+     * silinmiş kayıt koruması, version artışı ve AfterSaveEvent patch ile aynıdır.
+     */
+    public <T extends BaseEntity> T patchWithPipeline(Class<T> type, String id, List<Document> stages) {
+        List<Document> pipeline = new ArrayList<>(stages);
+        pipeline.add(new Document("$set", new Document()
+            .append("version", new Document("$add", List.of(new Document("$ifNull", List.of("$version", 0)), 1)))
+            .append("updated_at", "$$NOW")
+            .append("updated_by", auditorAware.getCurrentAuditor().orElse("system"))));
+
+        Document filter = new Document("_id", ObjectId.isValid(id) ? new ObjectId(id) : id)
+            .append("is_deleted", false);
+        Document result = mongoTemplate.getCollection(mongoTemplate.getCollectionName(type))
+            .findOneAndUpdate(filter, pipeline, new FindOneAndUpdateOptions().returnDocument(ReturnDocument.AFTER));
+        if (result == null) {
+            throw new ResourceNotFoundException(type.getSimpleName(), "id", id);
+        }
+
+        T updated = mongoTemplate.getConverter().read(type, result);
+        publishAfterSave(updated);
+        return updated;
+    }
+
+    // === PRIVATE HELPERS ===
+
+    private RuntimeException notUpdated(Class<?> type, String id, Long expectedVersion) {
+        boolean exists = expectedVersion != null && mongoTemplate.exists(
+            new Query(Criteria.where("id").is(id).and("deleted").is(false)), type);
+        if (exists) {
+            return new BusinessException(ErrorCodes.CONCURRENT_MODIFICATION);
+        }
+        return new ResourceNotFoundException(type.getSimpleName(), "id", id);
+    }
+
+    private <T> void publishAfterSave(T entity) {
+        String collection = mongoTemplate.getCollectionName(entity.getClass());
+        Document document = new Document();
+        mongoTemplate.getConverter().write(entity, document);
+        eventPublisher.publishEvent(new AfterSaveEvent<>(entity, document, collection));
+    }
+}
@@ -0,0 +1,434 @@
+// common/persistence/QueryPlanVerifier.java
+package com.healthvia.platform.common.persistence;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.Document;
+import org.bson.json.JsonReader;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.query.ConvertingParameterAccessor;
+import org.springframework.data.mongodb.repository.query.MongoParametersParameterAccessor;
+import org.springframework.data.mongodb.repository.query.MongoQueryMethod;
+import org.springframework.data.mongodb.repository.query.PartTreeMongoQuery;
+import org.springframework.data.mongodb.repository.query.StringBasedMongoQuery;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.core.RepositoryMetadata;
+import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
+import org.springframework.data.repository.query.ValueExpressionDelegate;
+
+import com.mongodb.MongoException;
+
+/**
+ * Repository sorgu metotlarının eşleme ve sorgu planı doğrulaması.
+ *
+ * Her metot (@Query veya metot adından türetilen) Spring Data'nın kendi sorgu
+ * sınıflarıyla örnek parametrelerle oluşturulur ve QueryMapper'dan geçirilir;
+ * elde edilen filtre, repository çağrıldığında sunucuya gidenle aynıdır.
+ * QueryMapper tanımadığı adları olduğu gibi bıraktığından, eşlenmiş filtredeki
+ * her alan yolu entity'nin saklanan alan adlarına (@Field) karşı çözülür.
+ * $expr içindeki '$alan' referansları eşlenmez; saklanan adla yazılmış olmalıdır.
+ *
+ * Alan kontrolü veritabanına bağlanmaz. Plan kontrolü explain (queryPlanner)
+ * çalıştırır ve kazanan planda COLLSCAN arar; sorgu yürütülmez.
+ */
+public class QueryPlanVerifier {
+
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\?\\d+");
+    private static final Set<String> LOGICAL_OPERATORS = Set.of("$and", "$or", "$nor");
+    private static final Set<String> IGNORED_TOP_LEVEL_OPERATORS = Set.of("$text", "$comment", "$where", "$jsonSchema");
+
+    public enum ViolationType {
+        UNKNOWN_FIELD,
+        DUPLICATE_KEY,
+        INVALID_QUERY,
+        COLLECTION_SCAN
+    }
+
+    public record Violation(String method, ViolationType type, String detail) {
+
+        @Override
+        public String toString() {
+            return method + " [" + type + "] " + detail;
+        }
+    }
+
+    /**
+     * Sunucuya gidecek haliyle (eşlenmiş) bir repository sorgusu
+     */
+    public record PlannedQuery(String method, String collection, Document filter, Document sort) {
+    }
+
+    private final MongoTemplate mongoTemplate;
+    private final MappingContext<? extends MongoPersistentEntity<?>, MongoPersistentProperty> mappingContext;
+    private final QueryMapper queryMapper;
+    private final SpelAwareProxyProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
+
+    public QueryPlanVerifier(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+        this.mappingContext = mongoTemplate.getConverter().getMappingContext();
+        this.queryMapper = new QueryMapper(mongoTemplate.getConverter());
+    }
+
+    // === VERIFICATION ===
+
+    public List<Violation> verify(Class<?> repositoryInterface) {
+        List<Violation> violations = new ArrayList<>(verifyFields(repositoryInterface));
+        violations.addAll(verifyPlans(repositoryInterface));
+        return violations;
+    }
+
+    /**
+     * Alan adları ve sorgu metni kontrolü; veritabanı gerektirmez
+     */
+    public List<Violation> verifyFields(Class<?> repositoryInterface) {
+        RepositoryMetadata metadata = new DefaultRepositoryMetadata(repositoryInterface);
+        MongoPersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(metadata.getDomainType());
+        List<Violation> violations = new ArrayList<>();
+
+        for (Method method : queryMethods(repositoryInterface)) {
+            String name = methodName(method);
+            Query annotation = AnnotatedElementUtils.findMergedAnnotation(method, Query.class);
+            if (annotation != null && !annotation.value().isEmpty()) {
+                checkDuplicateKeys(name, annotation.value(), violations);
+            }
+
+            try {
+                PlannedQuery query = plan(method, metadata);
+                if (query != null) {
+                    checkFilter(name, query.filter(), entity, "", violations);
+                    checkPaths(name, query.sort().keySet(), entity, violations);
+                }
+            } catch (RuntimeException e) {
+                violations.add(new Violation(name, ViolationType.INVALID_QUERY, e.getMessage()));
+            }
+        }
+        return violations;
+    }
+
+    /**
+     * Her sorgu için explain çalıştırır; erişilebilir bir mongod ve
+     * koleksiyonların indeksleriyle birlikte var olması gerekir
+     */
+    public List<Violation> verifyPlans(Class<?> repositoryInterface) {
+        List<Violation> violations = new ArrayList<>();
+        for (Method method : queryMethods(repositoryInterface)) {
+            PlannedQuery query;
+            try {
+                query = plan(method, new DefaultRepositoryMetadata(repositoryInterface));
+            } catch (RuntimeException e) {
+                // verifyFields aynı hatayı INVALID_QUERY olarak raporlar
+                continue;
+            }
+            if (query != null) {
+                checkPlan(query, violations);
+            }
+        }
+        return violations;
+    }
+
+    /**
+     * Repository'nin kendi tanımladığı sorgu metotlarının eşlenmiş filtreleri
+     */
+    public List<PlannedQuery> plannedQueries(Class<?> repositoryInterface) {
+        RepositoryMetadata metadata = new DefaultRepositoryMetadata(repositoryInterface);
+        List<PlannedQuery> queries = new ArrayList<>();
+        for (Method method : queryMethods(repositoryInterface)) {
+            PlannedQuery query = plan(method, metadata);
+            if (query != null) {
+                queries.add(query);
+            }
+        }
+        return queries;
+    }
+
+    // === QUERY CONSTRUCTION ===
+
+    // Miras alınan CRUD metotları ve custom fragment metotları hariç
+    private static List<Method> queryMethods(Class<?> repositoryInterface) {
+        return Arrays.stream(repositoryInterface.getDeclaredMethods())
+            .filter(method -> !method.isDefault() && !method.isSynthetic() && !Modifier.isStatic(method.getModifiers()))
+            .sorted(Comparator.comparing(Method::getName).thenComparing(Method::getParameterCount))
+            .toList();
+    }
+
+    /**
+     * Metodun sorgusunu örnek parametrelerle oluşturup eşler. Aggregation ve
+     * geoNear metotları için null döner.
+     */
+    private PlannedQuery plan(Method method, RepositoryMetadata metadata) {
+        MongoQueryMethod queryMethod = new MongoQueryMethod(method, metadata, projectionFactory, mappingContext);
+        if (queryMethod.hasAnnotatedAggregation() || queryMethod.isGeoNearQuery()) {
+            return null;
+        }
+
+        ConvertingParameterAccessor accessor = new ConvertingParameterAccessor(mongoTemplate.getConverter(),
+            new MongoParametersParameterAccessor(queryMethod, sampleArguments(method)));
+        org.springframework.data.mongodb.core.query.Query query = queryMethod.hasAnnotatedQuery()
+            ? new AnnotatedQuery(queryMethod, mongoTemplate).build(accessor)
+            : new DerivedQuery(queryMethod, mongoTemplate).build(accessor);
+
+        MongoPersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(metadata.getDomainType());
+        return new PlannedQuery(methodName(method),
+            queryMethod.getEntityInformation().getCollectionName(),
+            queryMapper.getMappedObject(query.getQueryObject(), entity),
+            queryMapper.getMappedSort(query.getSortObject(), entity));
+    }
+
+    private static Object[] sampleArguments(Method method) {
+        Object[] arguments = new Object[method.getParameterCount()];
+        for (int i = 0; i < arguments.length; i++) {
+            arguments[i] = sampleValue(ResolvableType.forMethodParameter(method, i));
+        }
+        return arguments;
+    }
+
+    // Değerler plan seçimini etkilemez; yalnızca parametrenin tipine uygun olmaları gerekir
+    private static Object sampleValue(ResolvableType type) {
+        Class<?> raw = type.toClass();
+        if (raw == String.class) return "sample";
+        if (raw == Integer.class || raw == int.class) return 1;
+        if (raw == Long.class || raw == long.class) return 1L;
+        if (raw == Double.class || raw == double.class) return 1.0;
+        if (raw == Boolean.class || raw == boolean.class) return Boolean.TRUE;
+        if (raw == BigDecimal.class) return BigDecimal.ONE;
+        if (raw == LocalDate.class) return LocalDate.of(2024, 1, 1);
+        if (raw == LocalDateTime.class) return LocalDateTime.of(2024, 1, 1, 0, 0);
+        if (raw == LocalTime.class) return LocalTime.NOON;
+        if (raw.isEnum()) return raw.getEnumConstants()[0];
+        if (Pageable.class.isAssignableFrom(raw)) return PageRequest.of(0, 20);
+        if (Sort.class.isAssignableFrom(raw)) return Sort.unsorted();
+        if (Set.class.isAssignableFrom(raw)) return Set.of(sampleValue(type.asCollection().getGeneric(0)));
+        if (Collection.class.isAssignableFrom(raw)) return List.of(sampleValue(type.asCollection().getGeneric(0)));
+        return null;
+    }
+
+    // === FIELD CHECKS ===
+
+    private void checkFilter(String method, Document filter, MongoPersistentEntity<?> entity, String prefix,
+                             List<Violation> violations) {
+        for (Map.Entry<String, Object> entry : filter.entrySet()) {
+            String key = entry.getKey();
+            Object value = entry.getValue();
+
+            if (LOGICAL_OPERATORS.contains(key)) {
+                if (value instanceof List<?> clauses) {
+                    clauses.stream()
+                        .filter(Document.class::isInstance)
+                        .forEach(clause -> checkFilter(method, (Document) clause, entity, prefix, violations));
+                }
+            } else if ("$expr".equals(key)) {
+                checkExpression(method, value, entity, violations);
+            } else if (key.startsWith("$")) {
+                if (!IGNORED_TOP_LEVEL_OPERATORS.contains(key)) {
+                    violations.add(new Violation(method, ViolationType.INVALID_QUERY,
+                        "unknown top level operator '" + key + "'"));
+                }
+            } else {
+                String path = prefix + key;
+                checkPaths(method, List.of(path), entity, violations);
+
+                // $elemMatch içindeki alanlar dizi elemanına göredir
+                if (value instanceof Document operators && operators.get("$elemMatch") instanceof Document match
+                        && !isOperatorDocument(match)) {
+                    checkFilter(method, match, entity, path + ".", violations);
+                }
+            }
+        }
+    }
+
+    // Aggregation ifadelerindeki '$alan' referansları (QueryMapper bunları eşlemez)
+    private void checkExpression(String method, Object expression, MongoPersistentEntity<?> entity,
+                                 List<Violation> violations) {
+        if (expression instanceof String reference && reference.startsWith("$") && !reference.startsWith("$$")) {
+            checkPaths(method, List.of(reference.substring(1)), entity, violations);
+        } else if (expression instanceof Document document) {
+            document.values().forEach(value -> checkExpression(method, value, entity, violations));
+        } else if (expression instanceof List<?> list) {
+            list.forEach(value -> checkExpression(method, value, entity, violations));
+        }
+    }
+
+    private void checkPaths(String method, Collection<String> paths, MongoPersistentEntity<?> entity,
+                            List<Violation> violations) {
+        for (String path : paths) {
+            String unknown = unresolvedSegment(entity, path);
+            if (unknown != null) {
+                violations.add(new Violation(method, ViolationType.UNKNOWN_FIELD,
+                    "'" + path + "' is not a stored field of " + entity.getType().getSimpleName()
+                        + " (no field named '" + unknown + "')"));
+            }
+        }
+    }
+
+    /**
+     * Yolu saklanan alan adlarıyla çözer; çözülemeyen ilk parçayı, çözülürse null döner.
+     * Eşlenmemiş tiplerin (Map, GeoJSON vb.) altı doğrulanmaz.
+     */
+    private String unresolvedSegment(MongoPersistentEntity<?> entity, String path) {
+        MongoPersistentEntity<?> current = entity;
+        for (String segment : path.split("\\.")) {
+            if (current == null) {
+                return null;
+            }
+            if (segment.startsWith("$") || segment.chars().allMatch(Character::isDigit)) {
+                continue;
+            }
+
+            MongoPersistentProperty property = findByFieldName(current, segment);
+            if (property == null) {
+                return segment;
+            }
+            current = property.isEntity() ? mappingContext.getPersistentEntity(property.getActualType()) : null;
+        }
+        return null;
+    }
+
+    private static MongoPersistentProperty findByFieldName(MongoPersistentEntity<?> entity, String fieldName) {
+        for (MongoPersistentProperty property : entity) {
+            if (property.getFieldName().equals(fieldName)) {
+                return property;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isOperatorDocument(Document document) {
+        return !document.isEmpty() && document.keySet().iterator().next().startsWith("$");
+    }
+
+    /**
+     * Aynı belgede tekrar eden anahtarlar ayrıştırmada sessizce ezilir
+     * (örn. { $ne: null, $ne: '' } yalnızca $ne: '' olur)
+     */
+    private static void checkDuplicateKeys(String method, String json, List<Violation> violations) {
+        List<String> duplicates = new ArrayList<>();
+        try {
+            readDocument(new JsonReader(PLACEHOLDER.matcher(json).replaceAll("null")), "", duplicates);
+        } catch (RuntimeException e) {
+            violations.add(new Violation(method, ViolationType.INVALID_QUERY, e.getMessage()));
+            return;
+        }
+        duplicates.forEach(path -> violations.add(new Violation(method, ViolationType.DUPLICATE_KEY,
+            "key '" + path + "' appears more than once; only the last value is used")));
+    }
+
+    private static void readDocument(BsonReader reader, String path, List<String> duplicates) {
+        Set<String> names = new HashSet<>();
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            String name = reader.readName();
+            String fieldPath = path.isEmpty() ? name : path + "." + name;
+            if (!names.add(name)) {
+                duplicates.add(fieldPath);
+            }
+            readValue(reader, fieldPath, duplicates);
+        }
+        reader.readEndDocument();
+    }
+
+    private static void readValue(BsonReader reader, String path, List<String> duplicates) {
+        switch (reader.getCurrentBsonType()) {
+            case DOCUMENT -> readDocument(reader, path, duplicates);
+            case ARRAY -> {
+                reader.readStartArray();
+                while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+                    readValue(reader, path, duplicates);
+                }
+                reader.readEndArray();
+            }
+            default -> reader.skipValue();
+        }
+    }
+
+    // === PLAN CHECKS ===
+
+    private void checkPlan(PlannedQuery query, List<Violation> violations) {
+        Document find = new Document("find", query.collection()).append("filter", query.filter());
+        if (!query.sort().isEmpty()) {
+            find.append("sort", query.sort());
+        }
+
+        Document explain;
+        try {
+            explain = mongoTemplate.getDb().runCommand(new Document("explain", find).append("verbosity", "queryPlanner"));
+        } catch (MongoException e) {
+            violations.add(new Violation(query.method(), ViolationType.INVALID_QUERY, e.getMessage()));
+            return;
+        }
+
+        Document planner = explain.get("queryPlanner", Document.class);
+        if (planner != null && containsStage(planner.get("winningPlan"), "COLLSCAN")) {
+            violations.add(new Violation(query.method(), ViolationType.COLLECTION_SCAN,
+                query.collection() + " " + query.filter().toJson()));
+        }
+    }
+
+    // Klasik (inputStage) ve SBE (queryPlan) plan biçimlerinin ikisinde de arar
+    private static boolean containsStage(Object plan, String stage) {
+        if (plan instanceof Document document) {
+            if (stage.equals(document.get("stage"))) {
+                return true;
+            }
+            return document.values().stream().anyMatch(value -> containsStage(value, stage));
+        }
+        if (plan instanceof List<?> list) {
+            return list.stream().anyMatch(value -> containsStage(value, stage));
+        }
+        return false;
+    }
+
+    private static String methodName(Method method) {
+        return method.getDeclaringClass().getSimpleName() + "." + method.getName();
+    }
+
+    // === QUERY CAPTURE ===
+    // createQuery korumalı; repository'nin kullandığı sınıfların kendisiyle oluşturulur
+
+    private static class AnnotatedQuery extends StringBasedMongoQuery {
+
+        AnnotatedQuery(MongoQueryMethod method, MongoTemplate mongoTemplate) {
+            super(method, mongoTemplate, ValueExpressionDelegate.create());
+        }
+
+        org.springframework.data.mongodb.core.query.Query build(ConvertingParameterAccessor accessor) {
+            return createQuery(accessor);
+        }
+    }
+
+    private static class DerivedQuery extends PartTreeMongoQuery {
+
+        DerivedQuery(MongoQueryMethod method, MongoTemplate mongoTemplate) {
+            super(method, mongoTemplate, ValueExpressionDelegate.create());
+        }
+
+        org.springframework.data.mongodb.core.query.Query build(ConvertingParameterAccessor accessor) {
+            return createQuery(accessor);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+// common/ratelimit/RateLimitFilter.java
+package com.healthvia.platform.common.ratelimit;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.healthvia.platform.common.constants.AppConstants;
+import com.healthvia.platform.common.constants.ErrorCodes;
+import com.healthvia.platform.common.dto.ApiResponse;
+import com.healthvia.platform.common.dto.ErrorResponse;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Kimlik doğrulama ve herkese açık uygunluk kontrolü uçları için IP bazlı hız sınırı.
+ *
+ * Kontrol istek controller'a ulaşmadan yapılır; sınır aşıldığında şifre
+ * hash'leme veya repository çağrısı olmadan 429 ve Retry-After döner.
+ * Kullanıcı adı bazlı sınır AuthServiceImpl içinde uygulanır.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    // Rota deseni -> rota ailesi (ilk eşleşen kullanılır)
+    private static final Map<String, String> ROUTE_FAMILIES = new LinkedHashMap<>();
+
+    static {
+        ROUTE_FAMILIES.put("/api/auth/login", AppConstants.RATE_LIMIT_LOGIN);
+        ROUTE_FAMILIES.put("/api/auth/register/**", AppConstants.RATE_LIMIT_REGISTER);
+        ROUTE_FAMILIES.put("/api/auth/forgot-password", AppConstants.RATE_LIMIT_PASSWORD_RESET);
+        ROUTE_FAMILIES.put("/api/auth/reset-password", AppConstants.RATE_LIMIT_PASSWORD_RESET);
+        ROUTE_FAMILIES.put("/api/auth/verify-email", AppConstants.RATE_LIMIT_PASSWORD_RESET);
+        ROUTE_FAMILIES.put("/api/auth/refresh", AppConstants.RATE_LIMIT_TOKEN_REFRESH);
+        ROUTE_FAMILIES.put("/api/*/check-*", AppConstants.RATE_LIMIT_AVAILABILITY_CHECK);
+    }
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final TokenBucketRateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        String family = resolveFamily(request.getRequestURI());
+        if (family != null) {
+            long retryAfterSeconds = rateLimiter.tryAcquire(family, "ip:" + request.getRemoteAddr());
+            if (retryAfterSeconds > 0) {
+                log.warn("Rate limit exceeded for {} from {}", family, request.getRemoteAddr());
+                writeTooManyRequests(request, response, retryAfterSeconds);
+                return;
+            }
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private String resolveFamily(String path) {
+        for (Map.Entry<String, String> route : ROUTE_FAMILIES.entrySet()) {
+            if (pathMatcher.match(route.getKey(), path)) {
+                return route.getValue();
+            }
+        }
+        return null;
+    }
+
+    private void writeTooManyRequests(HttpServletRequest request, HttpServletResponse response,
+                                      long retryAfterSeconds) throws IOException {
+        ErrorResponse error = ErrorResponse.builder()
+            .code(ErrorCodes.TOO_MANY_REQUESTS.getCode())
+            .message(ErrorCodes.TOO_MANY_REQUESTS.getMessage())
+            .timestamp(LocalDateTime.now())
+            .path(request.getRequestURI())
+            .build();
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getWriter(), ApiResponse.error(error));
+    }
+}
@@ -0,0 +1,44 @@
+// common/ratelimit/RateLimitProperties.java
+package com.healthvia.platform.common.ratelimit;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import com.healthvia.platform.common.constants.AppConstants;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Rota ailesi bazında token bucket ayarları.
+ * Örnek: rate-limit.families.login.capacity=10, rate-limit.families.login.refill-period=1m
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    private Map<String, Rule> families = new HashMap<>(Map.of(
+        AppConstants.RATE_LIMIT_LOGIN, new Rule(10, 10, Duration.ofMinutes(1)),
+        AppConstants.RATE_LIMIT_REGISTER, new Rule(5, 5, Duration.ofMinutes(10)),
+        AppConstants.RATE_LIMIT_PASSWORD_RESET, new Rule(3, 3, Duration.ofMinutes(15)),
+        AppConstants.RATE_LIMIT_TOKEN_REFRESH, new Rule(20, 20, Duration.ofMinutes(1)),
+        AppConstants.RATE_LIMIT_AVAILABILITY_CHECK, new Rule(30, 30, Duration.ofMinutes(1))
+    ));
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Rule {
+        private int capacity;         // Anlık izin verilen en fazla istek
+        private int refillTokens;     // Her periyotta eklenen token
+        private Duration refillPeriod;
+    }
+}
@@ -0,0 +1,120 @@
+// common/ratelimit/TokenBucketRateLimiter.java
+package com.healthvia.platform.common.ratelimit;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.stereotype.Component;
+
+import com.healthvia.platform.common.exception.RateLimitExceededException;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Bellek içi, kilit şeritli (lock-striped) token bucket hız sınırlayıcı.
+ *
+ * Anahtarlar (rota ailesi + istemci IP'si veya kullanıcı adı) hash'lerine göre
+ * sabit sayıda şeride dağıtılır; her şeridin kendi kilidi ve bucket tablosu
+ * vardır, böylece farklı istemciler birbirini beklemez. Her şerit en fazla
+ * MAX_BUCKETS_PER_STRIPE bucket tutar; sınır aşıldığında en uzun süredir
+ * kullanılmayan bucket düşürülür (LRU), böylece bellek sabit kalır.
+ */
+@Component
+@RequiredArgsConstructor
+public class TokenBucketRateLimiter {
+
+    private static final int STRIPES = 64;
+    private static final int MAX_BUCKETS_PER_STRIPE = 4_096;
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final RateLimitProperties properties;
+    private final Stripe[] stripes = createStripes();
+
+    /**
+     * Bir token tüketir; bucket boşsa RateLimitExceededException fırlatır.
+     * Tanımsız rota aileleri sınırlanmaz.
+     */
+    public void acquire(String family, String key) {
+        long retryAfterSeconds = tryAcquire(family, key);
+        if (retryAfterSeconds > 0) {
+            throw new RateLimitExceededException(retryAfterSeconds);
+        }
+    }
+
+    /**
+     * Bir token tüketmeyi dener; izin verildiyse 0, verilmediyse tekrar denemeden
+     * önce beklenmesi gereken saniye sayısını döner
+     */
+    public long tryAcquire(String family, String key) {
+        RateLimitProperties.Rule rule = properties.getFamilies().get(family);
+        if (!properties.isEnabled() || rule == null || key == null) {
+            return 0;
+        }
+
+        String bucketKey = family + '|' + key;
+        Stripe stripe = stripes[Math.floorMod(bucketKey.hashCode(), STRIPES)];
+        double tokensPerNano = (double) rule.getRefillTokens() / rule.getRefillPeriod().toNanos();
+        long now = System.nanoTime();
+
+        stripe.lock.lock();
+        try {
+            // Erişim sıralı tablo: get bucket'ı en yeni konuma taşır, put sınırı aşarsa en eskisi düşer
+            Bucket bucket = stripe.buckets.get(bucketKey);
+            if (bucket == null) {
+                bucket = new Bucket(rule.getCapacity(), tokensPerNano, now);
+                stripe.buckets.put(bucketKey, bucket);
+            }
+
+            bucket.refill(now);
+            if (bucket.tokens >= 1) {
+                bucket.tokens -= 1;
+                return 0;
+            }
+
+            long waitNanos = (long) Math.ceil((1 - bucket.tokens) / bucket.tokensPerNano);
+            return Math.max(1, (waitNanos + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    // === NESTED TYPES ===
+
+    private static Stripe[] createStripes() {
+        Stripe[] created = new Stripe[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            created[i] = new Stripe();
+        }
+        return created;
+    }
+
+    private static final class Stripe {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Map<String, Bucket> buckets = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Bucket> eldest) {
+                return size() > MAX_BUCKETS_PER_STRIPE;
+            }
+        };
+    }
+
+    private static final class Bucket {
+        private final int capacity;
+        private final double tokensPerNano;
+        private double tokens;
+        private long refilledAt;
+
+        private Bucket(int capacity, double tokensPerNano, long refilledAt) {
+            this.capacity = capacity;
+            this.tokensPerNano = tokensPerNano;
+            this.tokens = capacity;
+            this.refilledAt = refilledAt;
+        }
+
+        private void refill(long now) {
+            tokens = Math.min(capacity, tokens + (now - refilledAt) * tokensPerNano);
+            refilledAt = now;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+// common/util/CsvUtils.java
+package com.healthvia.platform.common.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Satır bazlı CSV okuma/yazma yardımcıları (RFC 4180, virgül ayraçlı).
+ *
+ * Akış halinde işlenen dosyalarda her satır bağımsız ayrıştırılır; bu nedenle
+ * tırnak içinde satır sonu içeren alanlar desteklenmez. Export hücreleri bu
+ * yüzden exportCell ile tek satıra indirilir.
+ */
+public class CsvUtils {
+
+    // Hesap tablolarının formül olarak yorumladığı ilk karakterler
+    private static final String FORMULA_PREFIXES = "=+-@\t";
+
+    private CsvUtils() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Bir CSV satırını alanlarına ayırır. Tırnaklı alanlarda "" tek tırnak sayılır.
+     * Kapanmamış tırnak IllegalArgumentException fırlatır.
+     */
+    public static List<String> parseLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+
+    /**
+     * Değeri CSV alanı olarak yazılabilir hale getirir; null boş alan olur
+     */
+    public static String escape(Object value) {
+        if (value == null) return "";
+
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+
+    /**
+     * Export hücresi: satır sonları boşluğa çevrilir (satır bazlı okuyucular ve
+     * içe aktarma için), sayı olmayan ve formül karakteriyle başlayan değerlerin
+     * önüne ' eklenir (CSV formula injection), ardından escape edilir
+     */
+    public static String exportCell(Object value) {
+        if (value == null) return "";
+        if (value instanceof Number) return escape(value);
+
+        String text = value.toString().replace("\r\n", " ").replace('\r', ' ').replace('\n', ' ');
+        if (!text.isEmpty() && FORMULA_PREFIXES.indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+        return escape(text);
+    }
+
+    /**
+     * exportCell'in eklediği ' önekini kaldırır; export edilen dosya içe aktarmaya geri verilebilir
+     */
+    public static String stripFormulaGuard(String value) {
+        if (value.length() > 1 && value.charAt(0) == '\'' && FORMULA_PREFIXES.indexOf(value.charAt(1)) >= 0) {
+            return value.substring(1);
+        }
+        return value;
+    }
+}
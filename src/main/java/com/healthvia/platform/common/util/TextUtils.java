@@ -0,0 +1,115 @@
+// common/util/TextUtils.java
+package com.healthvia.platform.common.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+public class TextUtils {
+
+    private static final Locale TURKISH = Locale.forLanguageTag("tr-TR");
+
+    private TextUtils() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Türkçe harfleri katlayarak arama/karşılaştırma için normalize eder.
+     * "İSTANBUL", "Istanbul" ve "istanbul" aynı sonucu verir; ş/ğ/ç/ö/ü/ı
+     * karşılıkları s/g/c/o/u/i olur.
+     */
+    public static String foldTurkish(String text) {
+        if (text == null) return "";
+
+        String lower = text.toLowerCase(TURKISH);
+        StringBuilder sb = new StringBuilder(lower.length());
+        for (int i = 0; i < lower.length(); i++) {
+            char c = lower.charAt(i);
+            switch (c) {
+                case 'ı' -> sb.append('i');
+                case 'ş' -> sb.append('s');
+                case 'ğ' -> sb.append('g');
+                case 'ç' -> sb.append('c');
+                case 'ö' -> sb.append('o');
+                case 'ü' -> sb.append('u');
+                default -> sb.append(c);
+            }
+        }
+
+        // Kalan aksanları (â, î, û, é...) temizle
+        return Normalizer.normalize(sb, Normalizer.Form.NFD)
+            .replaceAll("\\p{M}+", "")
+            .trim();
+    }
+
+    /**
+     * Normalize alanlar üzerinde indeks kullanabilen, '^' ile sabitlenmiş önek regex'i üretir
+     */
+    public static String prefixRegex(String text) {
+        String folded = foldTurkish(text);
+        StringBuilder sb = new StringBuilder("^");
+        for (int i = 0; i < folded.length(); i++) {
+            char c = folded.charAt(i);
+            if ("\\^$.|?*+()[]{}".indexOf(c) >= 0) {
+                sb.append('\\');
+            }
+            sb.append(c);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Email adresini kimlik anahtarı olarak normalize eder (boşluk temizleme, küçük harf)
+     */
+    public static String normalizeEmail(String email) {
+        if (email == null || email.isBlank()) return null;
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Telefon numarasını E.164 biçimine çevirir; ülke kodu yoksa Türkiye (+90) varsayılır.
+     * "0532 123 45 67", "532-123-4567", "0090 532 1234567" ve "+905321234567"
+     * aynı sonucu verir.
+     */
+    public static String normalizePhone(String phone) {
+        if (phone == null || phone.isBlank()) return null;
+
+        String trimmed = phone.trim();
+        String digits = trimmed.replaceAll("\\D", "");
+        if (digits.isEmpty()) return null;
+
+        if (trimmed.startsWith("+")) {
+            return "+" + digits;
+        }
+        if (digits.startsWith("00")) {
+            return "+" + digits.substring(2);
+        }
+        if (digits.length() == 11 && digits.startsWith("0")) {
+            return "+90" + digits.substring(1);
+        }
+        if (digits.length() == 10) {
+            return "+90" + digits;
+        }
+        return "+" + digits;
+    }
+
+    /**
+     * Metni katlanmış kelimelere böler (harf ve rakam dışı karakterler ayraçtır)
+     */
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        String folded = foldTurkish(text);
+        int start = -1;
+        for (int i = 0; i <= folded.length(); i++) {
+            boolean wordChar = i < folded.length() && Character.isLetterOrDigit(folded.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                tokens.add(folded.substring(start, i));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+}
@@ -9,6 +9,8 @@ import org.springframework.data.domain.AuditorAware;
 import org.springframework.data.mongodb.config.EnableMongoAuditing;
 import org.springframework.data.mongodb.core.convert.DefaultMongoTypeMapper;
 import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions.BigDecimalRepresentation;
 import org.springframework.data.mongodb.repository.config.EnableMongoRepositories;
 
 import com.healthvia.platform.common.util.SecurityUtils;
@@ -30,6 +32,16 @@ public class MongoConfig {
         mappingMongoConverter.setTypeMapper(new DefaultMongoTypeMapper(null));
     }
     
+    /**
+     * BigDecimal değerleri Decimal128 olarak yazılır (varsayılan string'tir ve
+     * aralık karşılaştırmaları sözlükseldir). String @Query parametre bağlama da
+     * bu dönüşümü kullanır. Static: converter bu config'e enjekte edilirken döngü oluşmasın.
+     */
+    @Bean
+    public static MongoCustomConversions mongoCustomConversions() {
+        return MongoCustomConversions.create(adapter -> adapter.bigDecimal(BigDecimalRepresentation.DECIMAL128));
+    }
+    
     @Bean
     public AuditorAware<String> auditorProvider() {
         return () -> {
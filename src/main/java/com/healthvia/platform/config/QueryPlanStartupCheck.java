@@ -0,0 +1,64 @@
+// config/QueryPlanStartupCheck.java
+package com.healthvia.platform.config;
+
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import com.healthvia.platform.admin.repository.AdminRepository;
+import com.healthvia.platform.common.persistence.QueryPlanVerifier;
+import com.healthvia.platform.common.persistence.QueryPlanVerifier.Violation;
+import com.healthvia.platform.common.persistence.QueryPlanVerifier.ViolationType;
+import com.healthvia.platform.doctor.repository.DoctorRepository;
+import com.healthvia.platform.user.repository.PatientRepository;
+import com.healthvia.platform.user.repository.UserRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Açılışta repository sorgularını canlı veritabanının indekslerine karşı doğrular
+ * (query-plan.verify-on-startup=true). Yalnızca explain çalıştırır; bulunan
+ * sorunlar loglanır, açılış durdurulmaz.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "query-plan.verify-on-startup", havingValue = "true")
+public class QueryPlanStartupCheck {
+
+    public static final List<Class<?>> VERIFIED_REPOSITORIES = List.of(
+        DoctorRepository.class,
+        PatientRepository.class,
+        UserRepository.class,
+        AdminRepository.class);
+
+    private final MongoTemplate mongoTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void verifyRepositoryQueries() {
+        QueryPlanVerifier verifier = new QueryPlanVerifier(mongoTemplate);
+        int violations = 0;
+
+        for (Class<?> repository : VERIFIED_REPOSITORIES) {
+            try {
+                for (Violation violation : verifier.verify(repository)) {
+                    violations++;
+                    if (violation.type() == ViolationType.COLLECTION_SCAN) {
+                        log.warn("Query plan: {}", violation);
+                    } else {
+                        log.error("Query plan: {}", violation);
+                    }
+                }
+            } catch (Exception e) {
+                log.error("Query plan check failed for {}: {}", repository.getSimpleName(), e.getMessage());
+            }
+        }
+        log.info("Query plan check finished for {} repositories, {} violations",
+            VERIFIED_REPOSITORIES.size(), violations);
+    }
+}
@@ -0,0 +1,10 @@
+// config/SchedulingConfig.java
+package com.healthvia.platform.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
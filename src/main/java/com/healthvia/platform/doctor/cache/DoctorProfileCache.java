@@ -0,0 +1,48 @@
+// doctor/cache/DoctorProfileCache.java
+package com.healthvia.platform.doctor.cache;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.springframework.stereotype.Component;
+
+import com.healthvia.platform.common.cache.BoundedCache;
+import com.healthvia.platform.common.cache.CacheStats;
+import com.healthvia.platform.common.constants.AppConstants;
+import com.healthvia.platform.doctor.dto.DoctorDto;
+
+/**
+ * Doktor profil sayfaları için DoctorDto önbelleği.
+ *
+ * Kayıtlar DoctorServiceImpl'deki her değiştirici metottan sonra anahtar
+ * bazında geçersiz kılınır; TTL yalnızca servis dışından yapılan
+ * güncellemelere karşı bir güvencedir.
+ */
+@Component
+public class DoctorProfileCache {
+
+    private static final int MAX_SIZE = 10_000;
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    private final BoundedCache<String, DoctorDto> cache =
+        new BoundedCache<>(AppConstants.CACHE_DOCTORS, MAX_SIZE, TTL);
+
+    public Optional<DoctorDto> get(String doctorId, Function<String, DoctorDto> loader) {
+        return Optional.ofNullable(cache.get(doctorId, loader));
+    }
+
+    public void evict(String doctorId) {
+        if (doctorId != null) {
+            cache.invalidate(doctorId);
+        }
+    }
+
+    public void clear() {
+        cache.invalidateAll();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+}
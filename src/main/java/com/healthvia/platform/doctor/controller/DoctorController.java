@@ -1,13 +1,16 @@
 package com.healthvia.platform.doctor.controller;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.List;
 import java.util.Set;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.geo.Metrics;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -18,10 +21,20 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.healthvia.platform.common.cache.CacheStats;
 import com.healthvia.platform.common.dto.ApiResponse;
+import com.healthvia.platform.common.dto.BulkWriteReport;
+import com.healthvia.platform.common.export.ExportFormat;
+import com.healthvia.platform.common.export.StreamingExporter;
 import com.healthvia.platform.common.util.SecurityUtils;
+import com.healthvia.platform.doctor.dto.DailySlotsDto;
 import com.healthvia.platform.doctor.dto.DoctorDto;
+import com.healthvia.platform.doctor.dto.DoctorSearchCriteria;
+import com.healthvia.platform.doctor.dto.DoctorSearchFacets;
+import com.healthvia.platform.doctor.dto.DoctorSearchPage;
+import com.healthvia.platform.doctor.dto.NearbyDoctorDto;
 import com.healthvia.platform.doctor.entity.Doctor;
 import com.healthvia.platform.doctor.service.DoctorService;
 
@@ -34,23 +47,58 @@ import lombok.RequiredArgsConstructor;
 public class DoctorController {
 
     private final DoctorService doctorService;
+    private final StreamingExporter streamingExporter;
 
     // === PUBLIC ENDPOINTS ===
     
     @GetMapping("/public/search")
-    public ApiResponse<Page<DoctorDto>> searchPublicDoctors(
+    public ApiResponse<DoctorSearchPage> searchPublicDoctors(
             @RequestParam(required = false) String specialty,
             @RequestParam(required = false) String province,
             @RequestParam(required = false) String district,
             @RequestParam(required = false) Double minRating,
             @RequestParam(required = false) BigDecimal maxFee,
+            @RequestParam(defaultValue = "false") boolean includeFacets,
             @PageableDefault(size = 20) Pageable pageable) {
         
-        Page<Doctor> doctors = doctorService.findDoctorsWithFilters(
-            specialty, province, minRating, maxFee, pageable);
+        DoctorSearchCriteria criteria = DoctorSearchCriteria.builder()
+            .specialty(specialty)
+            .province(province)
+            .district(district)
+            .minRating(minRating)
+            .maxFee(maxFee)
+            .build();
+
+        Page<Doctor> doctors = doctorService.findDoctorsWithFilters(criteria, pageable);
+        DoctorSearchFacets facets = includeFacets ? doctorService.getSearchFacets(criteria) : null;
         
         Page<DoctorDto> doctorDtos = doctors.map(DoctorDto::fromEntityBasic);
-        return ApiResponse.success(doctorDtos);
+        return ApiResponse.success(new DoctorSearchPage(doctorDtos, facets));
+    }
+    
+    @GetMapping("/public/nearby")
+    public ApiResponse<Page<NearbyDoctorDto>> searchNearbyDoctors(
+            @RequestParam double latitude,
+            @RequestParam double longitude,
+            @RequestParam(defaultValue = "10") double radiusKm,
+            @RequestParam(required = false) String specialty,
+            @RequestParam(required = false) Double minRating,
+            @RequestParam(required = false) BigDecimal maxFee,
+            @PageableDefault(size = 20) Pageable pageable) {
+        
+        DoctorSearchCriteria criteria = DoctorSearchCriteria.builder()
+            .specialty(specialty)
+            .minRating(minRating)
+            .maxFee(maxFee)
+            .build();
+
+        Page<NearbyDoctorDto> doctors = doctorService
+            .findNearbyDoctors(latitude, longitude, radiusKm, criteria, pageable)
+            .map(result -> NearbyDoctorDto.builder()
+                .doctor(DoctorDto.fromEntityBasic(result.getContent()))
+                .distanceKm(result.getDistance().in(Metrics.KILOMETERS).getValue())
+                .build());
+        return ApiResponse.success(doctors);
     }
     
     @GetMapping("/public/verified")
@@ -73,12 +121,19 @@ public class DoctorController {
     
     @GetMapping("/public/{id}")
     public ApiResponse<DoctorDto> getPublicDoctorProfile(@PathVariable String id) {
-        return doctorService.findById(id)
-            .map(DoctorDto::fromEntity)
+        return doctorService.findProfileById(id)
             .map(ApiResponse::success)
             .orElse(ApiResponse.error("Doctor not found"));
     }
 
+    @GetMapping("/public/{id}/slots")
+    public ApiResponse<List<DailySlotsDto>> getFreeSlots(
+            @PathVariable String id,
+            @RequestParam LocalDate from,
+            @RequestParam LocalDate to) {
+        return ApiResponse.success(doctorService.findFreeSlots(id, from, to));
+    }
+
     // === DOCTOR PROFILE MANAGEMENT ===
     
     @GetMapping("/me")
@@ -112,6 +167,16 @@ public class DoctorController {
         return ApiResponse.success(DoctorDto.fromEntity(updatedDoctor), "Working hours updated successfully");
     }
     
+    @PatchMapping("/me/location")
+    @PreAuthorize("hasRole('DOCTOR')")
+    public ApiResponse<DoctorDto> updateMyLocation(
+            @RequestParam double latitude,
+            @RequestParam double longitude) {
+        String doctorId = SecurityUtils.getCurrentUserId();
+        Doctor updatedDoctor = doctorService.updateLocation(doctorId, latitude, longitude);
+        return ApiResponse.success(DoctorDto.fromEntity(updatedDoctor), "Location updated successfully");
+    }
+    
     @PatchMapping("/me/consultation")
     @PreAuthorize("hasRole('DOCTOR')")
     public ApiResponse<DoctorDto> updateMyConsultationInfo(
@@ -150,6 +215,23 @@ public class DoctorController {
         return ApiResponse.success(doctorDtos);
     }
     
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportDoctors(
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format) {
+        return streamingExporter.export("doctors", format, DoctorDto.EXPORT_COLUMNS,
+            doctorService::streamAllForExport);
+    }
+    
+    @GetMapping("/by-specialty/{specialty}/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportDoctorsBySpecialty(
+            @PathVariable String specialty,
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format) {
+        return streamingExporter.export("doctors-specialty", format, DoctorDto.EXPORT_COLUMNS,
+            () -> doctorService.streamBySpecialtyForExport(specialty));
+    }
+    
     @PostMapping
     @PreAuthorize("hasRole('ADMIN')")
     public ApiResponse<DoctorDto> createDoctor(@Valid @RequestBody Doctor doctor) {
@@ -160,8 +242,7 @@ public class DoctorController {
     @GetMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN') or hasRole('DOCTOR')")
     public ApiResponse<DoctorDto> getDoctorById(@PathVariable String id) {
-        return doctorService.findById(id)
-            .map(DoctorDto::fromEntity)
+        return doctorService.findProfileById(id)
             .map(ApiResponse::success)
             .orElse(ApiResponse.error("Doctor not found"));
     }
@@ -175,6 +256,15 @@ public class DoctorController {
         return ApiResponse.success(DoctorDto.fromEntity(updatedDoctor), "Verification status updated");
     }
     
+    @PostMapping("/bulk/verification")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ApiResponse<BulkWriteReport> updateVerificationStatuses(
+            @RequestBody List<String> doctorIds,
+            @RequestParam Doctor.VerificationStatus status) {
+        BulkWriteReport report = doctorService.updateVerificationStatuses(doctorIds, status);
+        return ApiResponse.success(report, "Bulk verification status update completed");
+    }
+    
     @DeleteMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
     public ApiResponse<Void> deleteDoctor(@PathVariable String id) {
@@ -197,25 +287,21 @@ public class DoctorController {
     
     @GetMapping("/by-location")
     @PreAuthorize("hasRole('ADMIN') or hasRole('PATIENT')")
-    public ApiResponse<List<DoctorDto>> getDoctorsByLocation(
+    public ApiResponse<Page<DoctorDto>> getDoctorsByLocation(
             @RequestParam String province,
-            @RequestParam(required = false) String district) {
-        List<Doctor> doctors = doctorService.findByLocation(province, district);
-        List<DoctorDto> doctorDtos = doctors.stream()
-            .map(DoctorDto::fromEntityBasic)
-            .toList();
-        return ApiResponse.success(doctorDtos);
+            @RequestParam(required = false) String district,
+            @PageableDefault(size = 20) Pageable pageable) {
+        Page<Doctor> doctors = doctorService.findByLocation(province, district, pageable);
+        return ApiResponse.success(doctors.map(DoctorDto::fromEntityBasic));
     }
     
     @GetMapping("/top-rated")
     @PreAuthorize("hasRole('ADMIN') or hasRole('PATIENT')")
     public ApiResponse<List<DoctorDto>> getTopRatedDoctors(
-            @RequestParam(defaultValue = "10") int limit) {
-        List<Doctor> doctors = doctorService.findTopRatedDoctors(limit);
-        List<DoctorDto> doctorDtos = doctors.stream()
-            .map(DoctorDto::fromEntityBasic)
-            .toList();
-        return ApiResponse.success(doctorDtos);
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestParam(required = false) String specialty,
+            @RequestParam(required = false) String province) {
+        return ApiResponse.success(doctorService.findTopRatedDoctors(limit, specialty, province));
     }
 
     // === VALIDATION ENDPOINTS ===
@@ -240,6 +326,12 @@ public class DoctorController {
         long count = doctorService.countVerifiedDoctors();
         return ApiResponse.success(count);
     }
+
+    @GetMapping("/statistics/profile-cache")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ApiResponse<CacheStats> getProfileCacheStats() {
+        return ApiResponse.success(doctorService.getProfileCacheStats());
+    }
     
     @GetMapping("/statistics/count-by-specialty")
     @PreAuthorize("hasRole('ADMIN')")
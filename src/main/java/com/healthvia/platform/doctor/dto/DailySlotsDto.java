@@ -0,0 +1,22 @@
+// doctor/dto/DailySlotsDto.java
+package com.healthvia.platform.doctor.dto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailySlotsDto {
+
+    private LocalDate date;
+    private Integer durationMinutes;
+    private List<LocalTime> freeSlots;
+}
@@ -8,9 +8,12 @@ import java.time.LocalTime;
 import java.util.List;
 import java.util.Set;
 
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+
 import com.healthvia.platform.common.enums.Language;
 import com.healthvia.platform.common.enums.UserRole;
 import com.healthvia.platform.common.enums.UserStatus;
+import com.healthvia.platform.common.export.ExportColumns;
 import com.healthvia.platform.doctor.entity.Doctor;
 import com.healthvia.platform.user.entity.User;
 
@@ -35,6 +38,8 @@ public class DoctorDto {
     private LocalDate birthDate;
     private String province;
     private String district;
+    private Double latitude;
+    private Double longitude;
     private UserRole role;
     private UserStatus status;
     private Boolean emailVerified;
@@ -157,6 +162,33 @@ public class DoctorDto {
         return workingHoursStart + " - " + workingHoursEnd;
     }
     
+    // === EXPORT ===
+    
+    /**
+     * Toplu export kolonları; okunan alanlar DoctorRepository.EXPORT_FIELDS ile sınırlıdır
+     */
+    public static final ExportColumns<Doctor> EXPORT_COLUMNS = ExportColumns.of(Doctor.class)
+        .add("id", Doctor::getId)
+        .add("firstName", Doctor::getFirstName)
+        .add("lastName", Doctor::getLastName)
+        .add("email", Doctor::getEmail)
+        .add("phone", Doctor::getPhone)
+        .add("primarySpecialty", Doctor::getPrimarySpecialty)
+        .add("subspecialties", doctor -> ExportColumns.join(doctor.getSubspecialties()))
+        .add("currentHospital", Doctor::getCurrentHospital)
+        .add("yearsOfExperience", Doctor::getYearsOfExperience)
+        .add("consultationFee", Doctor::getConsultationFee)
+        .add("averageRating", Doctor::getAverageRating)
+        .add("totalReviews", Doctor::getTotalReviews)
+        .add("totalAppointments", Doctor::getTotalAppointments)
+        .add("appointmentCompletionRatio", Doctor::getAppointmentCompletionRatio)
+        .add("isAcceptingNewPatients", Doctor::getIsAcceptingNewPatients)
+        .add("verificationStatus", Doctor::getVerificationStatus)
+        .add("province", Doctor::getProvince)
+        .add("district", Doctor::getDistrict)
+        .add("status", Doctor::getStatus)
+        .add("createdAt", Doctor::getCreatedAt);
+    
     // === FACTORY METHODS ===
     
     public static DoctorDto fromEntity(Doctor doctor) {
@@ -173,6 +205,8 @@ public class DoctorDto {
             .birthDate(doctor.getBirthDate())
             .province(doctor.getProvince())
             .district(doctor.getDistrict())
+            .latitude(doctor.getLocation() != null ? doctor.getLocation().getY() : null)
+            .longitude(doctor.getLocation() != null ? doctor.getLocation().getX() : null)
             .role(doctor.getRole())
             .status(doctor.getStatus())
             .emailVerified(doctor.getEmailVerified())
@@ -249,6 +283,8 @@ public class DoctorDto {
             .verificationStatus(doctor.getVerificationStatus())
             .province(doctor.getProvince())
             .district(doctor.getDistrict())
+            .latitude(doctor.getLocation() != null ? doctor.getLocation().getY() : null)
+            .longitude(doctor.getLocation() != null ? doctor.getLocation().getX() : null)
             .avatarUrl(doctor.getAvatarUrl())
             .build();
     }
@@ -265,6 +301,8 @@ public class DoctorDto {
             .birthDate(this.birthDate)
             .province(this.province)
             .district(this.district)
+            .location(this.latitude != null && this.longitude != null
+                ? new GeoJsonPoint(this.longitude, this.latitude) : null)
             .role(this.role)
             .status(this.status)
             .emailVerified(this.emailVerified)
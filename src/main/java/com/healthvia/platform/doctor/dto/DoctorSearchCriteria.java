@@ -0,0 +1,25 @@
+// doctor/dto/DoctorSearchCriteria.java
+package com.healthvia.platform.doctor.dto;
+
+import java.math.BigDecimal;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Public doktor araması için opsiyonel filtreler. Null alanlar sorguya eklenmez.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DoctorSearchCriteria {
+
+    private String specialty;
+    private String province;
+    private String district;
+    private Double minRating;
+    private BigDecimal maxFee;
+}
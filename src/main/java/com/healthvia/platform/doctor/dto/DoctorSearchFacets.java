@@ -0,0 +1,26 @@
+// doctor/dto/DoctorSearchFacets.java
+package com.healthvia.platform.doctor.dto;
+
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Filtrelenmiş doktor kümesi üzerindeki değer -> doktor sayısı dağılımları.
+ * Haritalar sayıya göre azalan sırada (aralıklarda aralık sırasında) gelir.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DoctorSearchFacets {
+
+    private Map<String, Long> specialties;
+    private Map<String, Long> provinces;
+    private Map<String, Long> feeRanges;
+    private Map<String, Long> ratingRanges;
+    private Map<String, Long> languages;
+}
@@ -0,0 +1,25 @@
+// doctor/dto/DoctorSearchPage.java
+package com.healthvia.platform.doctor.dto;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.Getter;
+
+/**
+ * Public arama sayfası; istenirse aynı filtre kümesinin facet sayılarını da taşır.
+ * Facet istenmediğinde JSON çıktısı düz Page ile aynıdır.
+ */
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DoctorSearchPage extends PageImpl<DoctorDto> {
+
+    private final DoctorSearchFacets facets;
+
+    public DoctorSearchPage(Page<DoctorDto> page, DoctorSearchFacets facets) {
+        super(page.getContent(), page.getPageable(), page.getTotalElements());
+        this.facets = facets;
+    }
+}
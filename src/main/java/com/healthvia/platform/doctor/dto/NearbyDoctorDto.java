@@ -0,0 +1,17 @@
+// doctor/dto/NearbyDoctorDto.java
+package com.healthvia.platform.doctor.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NearbyDoctorDto {
+
+    private DoctorDto doctor;
+    private Double distanceKm;
+}
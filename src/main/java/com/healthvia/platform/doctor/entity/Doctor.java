@@ -4,13 +4,18 @@ package com.healthvia.platform.doctor.entity;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
+import org.springframework.data.mongodb.core.mapping.FieldType;
 
+import com.healthvia.platform.common.util.TextUtils;
 import com.healthvia.platform.user.entity.User;
 
 import jakarta.validation.constraints.DecimalMax;
@@ -31,6 +36,19 @@ import lombok.experimental.SuperBuilder;
 @AllArgsConstructor
 @EqualsAndHashCode(callSuper = true)
 @Document(collection = "doctors")
+@CompoundIndexes({
+    // Public arama: sabit eşitlik filtreleri + opsiyonel konum/uzmanlık, ardından rating sıralaması
+    @CompoundIndex(name = "public_search_location_idx",
+        def = "{'verification_status': 1, 'is_accepting_new_patients': 1, 'is_deleted': 1, "
+            + "'province': 1, 'district': 1, 'primary_specialty_normalized': 1, 'average_rating': -1}"),
+    @CompoundIndex(name = "public_search_specialty_idx",
+        def = "{'verification_status': 1, 'is_accepting_new_patients': 1, 'is_deleted': 1, "
+            + "'primary_specialty_normalized': 1, 'average_rating': -1}"),
+    @CompoundIndex(name = "public_search_fee_idx",
+        def = "{'verification_status': 1, 'is_accepting_new_patients': 1, 'is_deleted': 1, 'consultation_fee': 1}"),
+    @CompoundIndex(name = "public_search_rating_idx",
+        def = "{'verification_status': 1, 'is_accepting_new_patients': 1, 'is_deleted': 1, 'average_rating': -1}")
+})
 public class Doctor extends User {
 
     // === MESLEKİ KİMLİK ===
@@ -72,6 +90,15 @@ public class Doctor extends User {
     @Field("medical_interests")
     private Set<String> medicalInterests; // İlgi alanları
 
+    // Aramalar için katlanmış (küçük harf, aksansız) kopyalar - kaydetmeden önce doldurulur
+    @Indexed
+    @Field("primary_specialty_normalized")
+    private String primarySpecialtyNormalized;
+
+    @Indexed
+    @Field("subspecialties_normalized")
+    private Set<String> subspecialtiesNormalized;
+
     // === PROFESYONEL DENEYİM ===
     @Field("years_of_experience")
     @Min(value = 0, message = "Deneyim yılı negatif olamaz")
@@ -87,7 +114,8 @@ public class Doctor extends User {
     private String jobTitle; // Başhekim, Doktor, Uzman Dr. vs.
 
     // === RANDEVU & ÇALIŞMA SAATLERİ ===
-    @Field("consultation_fee")
+    // Decimal128 olarak saklanır; BigDecimal varsayılanı string'tir ve aralık sorguları/indeks sırası sözlükseldir
+    @Field(value = "consultation_fee", targetType = FieldType.DECIMAL128)
     @DecimalMin(value = "0.0", message = "Muayene ücreti negatif olamaz")
     @DecimalMax(value = "10000.0", message = "Muayene ücreti çok yüksek")
     private BigDecimal consultationFee;
@@ -158,6 +186,11 @@ public class Doctor extends User {
     @Field("cancelled_appointments")
     private Integer cancelledAppointments;
 
+    // completed / total (0-1); sayaçlarla aynı atomik update'te yazılır
+    @Indexed(sparse = true)
+    @Field("appointment_completion_ratio")
+    private Double appointmentCompletionRatio;
+
     @Field("average_rating")
     @DecimalMin(value = "0.0")
     @DecimalMax(value = "5.0")
@@ -210,6 +243,22 @@ public class Doctor extends User {
         return workingDays != null && workingDays.contains(dayOfWeek.toUpperCase());
     }
 
+    /**
+     * Uzmanlık alanlarının normalize kopyalarını günceller
+     */
+    public void normalizeSpecialties() {
+        this.primarySpecialtyNormalized = primarySpecialty != null
+            ? TextUtils.foldTurkish(primarySpecialty) : null;
+
+        if (subspecialties == null) {
+            this.subspecialtiesNormalized = null;
+        } else {
+            Set<String> normalized = new LinkedHashSet<>();
+            subspecialties.forEach(subspecialty -> normalized.add(TextUtils.foldTurkish(subspecialty)));
+            this.subspecialtiesNormalized = normalized;
+        }
+    }
+
     // === GETTER METHODS WITH DEFAULTS ===
     
     public Integer getConsultationDurationMinutes() {
@@ -0,0 +1,21 @@
+// doctor/repository/DoctorBeforeConvertCallback.java
+package com.healthvia.platform.doctor.repository;
+
+import org.springframework.data.mongodb.core.mapping.event.BeforeConvertCallback;
+import org.springframework.stereotype.Component;
+
+import com.healthvia.platform.doctor.entity.Doctor;
+
+/**
+ * Her kayıttan önce doktorun normalize uzmanlık alanlarını doldurur.
+ * Böylece hangi servis kaydederse kaydetsin indeksli kopyalar güncel kalır.
+ */
+@Component
+public class DoctorBeforeConvertCallback implements BeforeConvertCallback<Doctor> {
+
+    @Override
+    public Doctor onBeforeConvert(Doctor doctor, String collection) {
+        doctor.normalizeSpecialties();
+        return doctor;
+    }
+}
@@ -0,0 +1,47 @@
+// doctor/repository/DoctorConsultationFeeBackfill.java
+package com.healthvia.platform.doctor.repository;
+
+import java.util.List;
+
+import org.bson.Document;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Muayene ücreti Decimal128'e geçmeden önce string olarak yazılmış ücretleri
+ * uygulama açılışında dönüştürür. Sunucu tarafında tek updateMany çalışır,
+ * yalnızca string ücretlere dokunur ve tekrar çalıştırılması güvenlidir.
+ * Sayıya çevrilemeyen değerler null yapılır.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class DoctorConsultationFeeBackfill {
+
+    private static final String FEE = "consultation_fee";
+
+    private final MongoTemplate mongoTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillDecimalFees() {
+        Document filter = new Document(FEE, new Document("$type", "string"));
+        Document toDecimal = new Document("$set", new Document(FEE, new Document("$convert",
+            new Document("input", "$" + FEE).append("to", "decimal").append("onError", null))));
+
+        try {
+            long updated = mongoTemplate.getCollection("doctors")
+                .updateMany(filter, List.of(toDecimal))
+                .getModifiedCount();
+            if (updated > 0) {
+                log.info("Converted consultation fee to Decimal128 for {} doctors", updated);
+            }
+        } catch (Exception e) {
+            log.error("Consultation fee backfill failed: {}", e.getMessage());
+        }
+    }
+}
@@ -6,9 +6,11 @@ import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.Meta;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -16,7 +18,35 @@ import org.springframework.stereotype.Repository;
 import com.healthvia.platform.doctor.entity.Doctor;
 
 @Repository
-public interface DoctorRepository extends MongoRepository<Doctor, String> {
+public interface DoctorRepository extends MongoRepository<Doctor, String>, DoctorRepositoryCustom {
+
+    /**
+     * Liste ekranlarının (DoctorDto.fromEntityBasic) ihtiyaç duyduğu alanlar.
+     * Bu projeksiyonla dönen doktorlarda biyografi, CV, yayınlar, sertifikalar
+     * gibi alanlar boştur; tam profil için findById kullanılmalıdır.
+     */
+    String LISTING_FIELDS = "{ 'firstName': 1, 'lastName': 1, 'primarySpecialty': 1, 'currentHospital': 1, "
+        + "'yearsOfExperience': 1, 'averageRating': 1, 'totalReviews': 1, 'consultationFee': 1, "
+        + "'isAcceptingNewPatients': 1, 'verificationStatus': 1, 'province': 1, 'district': 1, "
+        + "'location': 1, 'avatarUrl': 1 }";
+
+    /**
+     * Export'un (DoctorDto.EXPORT_COLUMNS) ihtiyaç duyduğu alanlar
+     */
+    String EXPORT_FIELDS = "{ 'firstName': 1, 'lastName': 1, 'email': 1, 'phone': 1, 'primarySpecialty': 1, "
+        + "'subspecialties': 1, 'currentHospital': 1, 'yearsOfExperience': 1, 'consultationFee': 1, "
+        + "'averageRating': 1, 'totalReviews': 1, 'totalAppointments': 1, 'appointmentCompletionRatio': 1, "
+        + "'isAcceptingNewPatients': 1, 'verificationStatus': 1, 'province': 1, 'district': 1, 'status': 1, "
+        + "'createdAt': 1 }";
+
+    // Export cursor'unun getMore başına getirdiği belge sayısı
+    int EXPORT_CURSOR_BATCH_SIZE = 500;
+
+    // Uzmanlık listesi ve export aynı filtreyi kullanır
+    String SPECIALTY_PREFIX_FILTER = "{ $or: [ " +
+                                     "{'primarySpecialtyNormalized': {$regex: ?0}}, " +
+                                     "{'subspecialtiesNormalized': {$regex: ?0}} " +
+                                     "], 'deleted': false }";
 
     // === PROFESSIONAL IDENTITY QUERIES ===
     Optional<Doctor> findByEmail(String email);
@@ -47,13 +77,12 @@ public interface DoctorRepository extends MongoRepository<Doctor, String> {
     List<Doctor> findByPrimarySpecialtyAndDeletedFalse(String primarySpecialty);
     
     /**
-     * Uzmanlık alanı içeren doktorlar (ana veya yan dal)
+     * Uzmanlık alanı normalize önekle başlayan doktorlar (ana veya yan dal).
+     * Parametre '^' ile başlayan, kaçışlı bir önek regex'i olmalıdır; böylece
+     * normalize alanlardaki indeks aralık taramasıyla kullanılır. (Liste projeksiyonu)
      */
-    @Query("{ $or: [ " +
-           "{'primarySpecialty': {$regex: ?0, $options: 'i'}}, " +
-           "{'subspecialties': {$regex: ?0, $options: 'i'}} " +
-           "], 'deleted': false }")
-    List<Doctor> findBySpecialtyContaining(String specialty);
+    @Query(value = SPECIALTY_PREFIX_FILTER, fields = LISTING_FIELDS)
+    List<Doctor> findBySpecialtyPrefix(String normalizedPrefixRegex);
     
     /**
      * Birden fazla uzmanlık alanı olan doktorlar
@@ -108,18 +137,24 @@ public interface DoctorRepository extends MongoRepository<Doctor, String> {
      * İl ve ilçede çalışan doktorlar
      */
     List<Doctor> findByProvinceAndDistrictAndDeletedFalse(String province, String district);
+
+    @Query(value = "{ 'province': ?0, 'district': ?1, 'deleted': false }", fields = LISTING_FIELDS)
+    Page<Doctor> findByProvinceAndDistrictAndDeletedFalse(String province, String district, Pageable pageable);
     
     /**
      * Belirli ilde çalışan doktorlar
      */
     List<Doctor> findByProvinceAndDeletedFalse(String province);
 
+    @Query(value = "{ 'province': ?0, 'deleted': false }", fields = LISTING_FIELDS)
+    Page<Doctor> findByProvinceAndDeletedFalse(String province, Pageable pageable);
+
     // === AVAILABILITY QUERIES ===
     
     /**
-     * Yeni hasta kabul eden doktorlar
+     * Yeni hasta kabul eden doktorlar (liste projeksiyonu)
      */
-    @Query("{ 'isAcceptingNewPatients': true, 'deleted': false }")
+    @Query(value = "{ 'isAcceptingNewPatients': true, 'deleted': false }", fields = LISTING_FIELDS)
     List<Doctor> findAvailableDoctors();
     
     /**
@@ -185,19 +220,13 @@ public interface DoctorRepository extends MongoRepository<Doctor, String> {
      */
     @Query("{ 'totalReviews': { $gte: ?0 }, 'deleted': false }")
     List<Doctor> findDoctorsWithMinReviews(Integer minReviews);
-    
-    /**
-     * Rating'e göre sıralı doktorlar
-     */
-    @Query("{ 'deleted': false }")
-    List<Doctor> findAllOrderByAverageRatingDesc(Pageable pageable);
 
     // === VERIFICATION & STATUS QUERIES ===
     
     /**
-     * Doğrulanmış doktorlar
+     * Doğrulanmış doktorlar (liste projeksiyonu)
      */
-    @Query("{ 'verificationStatus': 'VERIFIED', 'deleted': false }")
+    @Query(value = "{ 'verificationStatus': 'VERIFIED', 'deleted': false }", fields = LISTING_FIELDS)
     List<Doctor> findVerifiedDoctors();
     
     /**
@@ -226,9 +255,10 @@ public interface DoctorRepository extends MongoRepository<Doctor, String> {
     List<Doctor> findByLanguageSpoken(String language);
     
     /**
-     * Çoklu dil bilen doktorlar
+     * Çoklu dil bilen doktorlar. $size aralık kabul etmediğinden ikinci elemanın
+     * varlığı aranır; dizi indeksli yollar eşlenmediği için saklanan ad kullanılır.
      */
-    @Query("{ 'languagesSpoken': { $exists: true, $size: { $gte: 2 } }, 'deleted': false }")
+    @Query("{ 'languages_spoken.1': { $exists: true }, 'deleted': false }")
     List<Doctor> findMultilingualDoctors();
 
     // === APPOINTMENT STATISTICS QUERIES ===
@@ -242,7 +272,7 @@ public interface DoctorRepository extends MongoRepository<Doctor, String> {
     /**
      * Yüksek tamamlama oranına sahip doktorlar
      */
-    @Query("{ $expr: { $gte: [ { $divide: ['$completedAppointments', '$totalAppointments'] }, ?0 ] }, 'deleted': false }")
+    @Query("{ 'appointmentCompletionRatio': { $gte: ?0 }, 'deleted': false }")
     List<Doctor> findDoctorsWithHighCompletionRate(Double minCompletionRate);
     
     /**
@@ -266,12 +296,12 @@ public interface DoctorRepository extends MongoRepository<Doctor, String> {
     Page<Doctor> searchDoctors(String searchTerm, Pageable pageable);
     
     /**
-     * Gelişmiş doktor arama
+     * Gelişmiş doktor arama (uzmanlık parametresi normalize önek regex'i)
      */
     @Query("{ $and: [ " +
            "{ $or: [ " +
-           "  {'primarySpecialty': {$regex: ?0, $options: 'i'}}, " +
-           "  {'subspecialties': {$regex: ?0, $options: 'i'}} " +
+           "  {'primarySpecialtyNormalized': {$regex: ?0}}, " +
+           "  {'subspecialtiesNormalized': {$regex: ?0}} " +
            "]}, " +
            "{'province': ?1}, " +
            "{'isAcceptingNewPatients': true}, " +
@@ -281,41 +311,7 @@ public interface DoctorRepository extends MongoRepository<Doctor, String> {
     List<Doctor> findAvailableDoctorsBySpecialtyAndLocation(String specialty, String province);
 
     // === COMPLEX FILTERING QUERIES ===
-    
-    /**
-     * Filtreli doktor arama
-     */
-    @Query("{ $and: [ " +
-           "{ $or: [ " +
-           "  {?0: null}, " +
-           "  {'primarySpecialty': {$regex: ?0, $options: 'i'}} " +
-           "]}, " +
-           "{ $or: [ " +
-           "  {?1: null}, " +
-           "  {'province': ?1} " +
-           "]}, " +
-           "{ $or: [ " +
-           "  {?2: null}, " +
-           "  {'averageRating': {$gte: ?2}} " +
-           "]}, " +
-           "{ $or: [ " +
-           "  {?3: null}, " +
-           "  {'consultationFee': {$lte: ?3}} " +
-           "]}, " +
-           "{'isAcceptingNewPatients': true}, " +
-           "{'verificationStatus': 'VERIFIED'}, " +
-           "{'deleted': false} " +
-           "]}")
-    Page<Doctor> findDoctorsWithFilters(
-        String specialty, 
-        String province, 
-        Double minRating, 
-        BigDecimal maxFee, 
-        Pageable pageable
-    );
-
-
-
+    // findDoctorsWithFilters -> DoctorRepositoryCustom (dinamik Criteria)
 
     // === EXISTENCE CHECKS ===
     
@@ -335,6 +331,11 @@ public interface DoctorRepository extends MongoRepository<Doctor, String> {
      * Uzmanlık alanına göre doktor sayısı
      */
     long countByPrimarySpecialtyAndDeletedFalse(String specialty);
+
+    /**
+     * Normalize uzmanlık alanına göre doktor sayısı (büyük/küçük harf ve aksan duyarsız)
+     */
+    long countByPrimarySpecialtyNormalizedAndDeletedFalse(String normalizedSpecialty);
     
     /**
      * İle göre doktor sayısı
@@ -424,8 +425,14 @@ public interface DoctorRepository extends MongoRepository<Doctor, String> {
         Pageable pageable
     );
 
+    // === EXPORT (CURSOR) ===
+    // Dönen Stream açık bir cursor'dır; çağıran kapatmalıdır
 
+    @Query(value = "{ 'deleted': false }", fields = EXPORT_FIELDS)
+    @Meta(cursorBatchSize = EXPORT_CURSOR_BATCH_SIZE)
+    Stream<Doctor> streamAllForExport();
 
-
-    
-}
\ No newline at end of file
+    @Query(value = SPECIALTY_PREFIX_FILTER, fields = EXPORT_FIELDS)
+    @Meta(cursorBatchSize = EXPORT_CURSOR_BATCH_SIZE)
+    Stream<Doctor> streamBySpecialtyPrefixForExport(String normalizedPrefixRegex);
+}
@@ -0,0 +1,31 @@
+// doctor/repository/DoctorRepositoryCustom.java
+package com.healthvia.platform.doctor.repository;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.geo.Distance;
+import org.springframework.data.geo.GeoPage;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+
+import com.healthvia.platform.doctor.dto.DoctorSearchCriteria;
+import com.healthvia.platform.doctor.dto.DoctorSearchFacets;
+import com.healthvia.platform.doctor.entity.Doctor;
+
+public interface DoctorRepositoryCustom {
+
+    /**
+     * Filtreli public doktor arama - sadece verilen filtreler sorguya eklenir
+     */
+    Page<Doctor> findDoctorsWithFilters(DoctorSearchCriteria criteria, Pageable pageable);
+
+    /**
+     * Aynı filtre kümesi için tüm facet sayılarını tek $facet aggregation ile hesaplar
+     */
+    DoctorSearchFacets findSearchFacets(DoctorSearchCriteria criteria);
+
+    /**
+     * Noktaya en yakın doktorlar ($geoNear), public arama filtreleriyle birlikte
+     */
+    GeoPage<Doctor> findNearbyDoctors(GeoJsonPoint point, Distance maxDistance,
+                                      DoctorSearchCriteria criteria, Pageable pageable);
+}
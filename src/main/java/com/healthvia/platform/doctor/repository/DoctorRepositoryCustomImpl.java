@@ -0,0 +1,244 @@
+// doctor/repository/DoctorRepositoryCustomImpl.java
+package com.healthvia.platform.doctor.repository;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.bson.Document;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.geo.Circle;
+import org.springframework.data.geo.Distance;
+import org.springframework.data.geo.GeoPage;
+import org.springframework.data.geo.GeoResult;
+import org.springframework.data.geo.GeoResults;
+import org.springframework.data.geo.Metrics;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.ConvertOperators;
+import org.springframework.data.mongodb.core.aggregation.TypedAggregation;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.NearQuery;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.util.StringUtils;
+
+import com.healthvia.platform.common.util.TextUtils;
+import com.healthvia.platform.doctor.dto.DoctorSearchCriteria;
+import com.healthvia.platform.doctor.dto.DoctorSearchFacets;
+import com.healthvia.platform.doctor.entity.Doctor;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class DoctorRepositoryCustomImpl implements DoctorRepositoryCustom {
+
+    private static final Sort DEFAULT_SORT = Sort.by(Sort.Order.desc("averageRating"), Sort.Order.asc("id"));
+
+    // Aralık facet'leri: alt sınırlar artan sırada, son aralık üst sınırsız
+    private static final double[] FEE_BOUNDARIES = {0, 250, 500, 1000, 2000, 5000};
+    private static final double[] RATING_BOUNDARIES = {0, 3, 4, 4.5};
+    private static final int MAX_TERM_FACET_SIZE = 50;
+
+    private static final String[] LISTING_FIELDS =
+        Document.parse(DoctorRepository.LISTING_FIELDS).keySet().toArray(String[]::new);
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public Page<Doctor> findDoctorsWithFilters(DoctorSearchCriteria criteria, Pageable pageable) {
+        Query query = new Query(buildPublicSearchCriteria(criteria));
+        query.fields().include(LISTING_FIELDS);
+        query.with(pageable);
+        if (pageable.getSort().isUnsorted()) {
+            query.with(DEFAULT_SORT);
+        }
+
+        List<Doctor> doctors = mongoTemplate.find(query, Doctor.class);
+        return PageableExecutionUtils.getPage(doctors, pageable,
+            () -> mongoTemplate.count(Query.of(query).limit(-1).skip(-1), Doctor.class));
+    }
+
+    @Override
+    public DoctorSearchFacets findSearchFacets(DoctorSearchCriteria criteria) {
+        TypedAggregation<Doctor> aggregation = Aggregation.newAggregation(Doctor.class,
+            Aggregation.match(buildPublicSearchCriteria(criteria)),
+            Aggregation.facet(termFacet("primarySpecialty")).as("specialties")
+                .and(termFacet("province")).as("provinces")
+                .and(arrayTermFacet("languagesSpoken")).as("languages")
+                .and(rangeFacet("consultationFee", FEE_BOUNDARIES)).as("feeRanges")
+                .and(rangeFacet("averageRating", RATING_BOUNDARIES)).as("ratingRanges"));
+
+        Document result = mongoTemplate.aggregate(aggregation, Document.class).getUniqueMappedResult();
+        if (result == null) {
+            result = new Document();
+        }
+
+        return DoctorSearchFacets.builder()
+            .specialties(termCounts(result, "specialties"))
+            .provinces(termCounts(result, "provinces"))
+            .languages(termCounts(result, "languages"))
+            .feeRanges(rangeCounts(result, "feeRanges", FEE_BOUNDARIES))
+            .ratingRanges(rangeCounts(result, "ratingRanges", RATING_BOUNDARIES))
+            .build();
+    }
+
+    @Override
+    public GeoPage<Doctor> findNearbyDoctors(GeoJsonPoint point, Distance maxDistance,
+                                             DoctorSearchCriteria criteria, Pageable pageable) {
+        // $geoNear sonuçları mesafeye göre sıralı döner; pageable'ın sırası yok sayılır.
+        // MongoTemplate.geoNear projeksiyon uygulamadığı için pipeline elle kurulur.
+        NearQuery nearQuery = NearQuery.near(point)
+            .spherical(true)
+            .maxDistance(maxDistance)
+            .inKilometers()
+            .query(new Query(buildPublicSearchCriteria(criteria)));
+
+        TypedAggregation<Doctor> aggregation = Aggregation.newAggregation(Doctor.class,
+            Aggregation.geoNear(nearQuery, "distance"),
+            Aggregation.skip(pageable.getOffset()),
+            Aggregation.limit(pageable.getPageSize()),
+            listingProjectionWithDistance());
+
+        List<GeoResult<Doctor>> content = new ArrayList<>();
+        for (Document document : mongoTemplate.aggregate(aggregation, Document.class).getMappedResults()) {
+            Doctor doctor = mongoTemplate.getConverter().read(Doctor.class, document);
+            double distanceKm = ((Number) document.get("distance")).doubleValue();
+            content.add(new GeoResult<>(doctor, new Distance(distanceKm, Metrics.KILOMETERS)));
+        }
+        GeoResults<Doctor> results = new GeoResults<>(content, Metrics.KILOMETERS);
+
+        // $geoNear sayım yapamaz; aynı daire $geoWithin ile sayılır
+        Query countQuery = new Query(buildPublicSearchCriteria(criteria)
+            .and("location").withinSphere(new Circle(point, maxDistance)));
+        long total = pageable.getPageNumber() == 0 && results.getContent().size() < pageable.getPageSize()
+            ? results.getContent().size()
+            : mongoTemplate.count(countQuery, Doctor.class);
+
+        return new GeoPage<>(results, pageable, total);
+    }
+
+    /**
+     * Eşitlik filtreleri önce, aralık filtreleri sonra eklenir; alan sırası
+     * Doctor üzerindeki public_search_* bileşik indeksleriyle uyumludur.
+     */
+    static Criteria buildPublicSearchCriteria(DoctorSearchCriteria criteria) {
+        Criteria where = Criteria.where("verificationStatus").is(Doctor.VerificationStatus.VERIFIED)
+            .and("isAcceptingNewPatients").is(true)
+            .and("deleted").is(false);
+
+        if (criteria == null) {
+            return where;
+        }
+        if (StringUtils.hasText(criteria.getProvince())) {
+            where.and("province").is(criteria.getProvince());
+        }
+        if (StringUtils.hasText(criteria.getDistrict())) {
+            where.and("district").is(criteria.getDistrict());
+        }
+        if (StringUtils.hasText(criteria.getSpecialty())) {
+            where.and("primarySpecialtyNormalized").regex(TextUtils.prefixRegex(criteria.getSpecialty()));
+        }
+        if (criteria.getMinRating() != null) {
+            where.and("averageRating").gte(criteria.getMinRating());
+        }
+        if (criteria.getMaxFee() != null) {
+            where.and("consultationFee").lte(criteria.getMaxFee());
+        }
+        return where;
+    }
+
+    // === FACET HELPERS ===
+
+    private static AggregationOperation[] termFacet(String field) {
+        return new AggregationOperation[] {
+            Aggregation.group(field).count().as("count"),
+            Aggregation.sort(Sort.by(Sort.Order.desc("count"), Sort.Order.asc("_id"))),
+            Aggregation.limit(MAX_TERM_FACET_SIZE)
+        };
+    }
+
+    /**
+     * distance bir Doctor alanı olmadığından tipli $project kullanılamaz;
+     * liste alanları eşlenip mesafe alanı elle eklenir
+     */
+    private static AggregationOperation listingProjectionWithDistance() {
+        return context -> {
+            Document fields = context.getMappedObject(Document.parse(DoctorRepository.LISTING_FIELDS), Doctor.class);
+            return new Document("$project", fields.append("distance", 1));
+        };
+    }
+
+    private static AggregationOperation[] arrayTermFacet(String field) {
+        AggregationOperation[] terms = termFacet(field);
+        AggregationOperation[] operations = new AggregationOperation[terms.length + 1];
+        operations[0] = Aggregation.unwind(field);
+        System.arraycopy(terms, 0, operations, 1, terms.length);
+        return operations;
+    }
+
+    /**
+     * Değer $bucket öncesi double'a çevrilir (ücret Decimal128, puan double;
+     * backfill'den önce kalmış string ücretler de sayılır); çevrilemeyen veya
+     * boş değerler "other" kovasına düşer ve rapora alınmaz.
+     */
+    private static AggregationOperation rangeFacet(String field, double[] boundaries) {
+        Object[] bounds = new Object[boundaries.length + 1];
+        for (int i = 0; i < boundaries.length; i++) {
+            bounds[i] = boundaries[i];
+        }
+        bounds[boundaries.length] = Double.MAX_VALUE;
+
+        return Aggregation.bucket(ConvertOperators.valueOf(field).convertTo("double")
+                .onErrorReturn(null).onNullReturn(null))
+            .withBoundaries(bounds)
+            .withDefaultBucket("other")
+            .andOutputCount().as("count");
+    }
+
+    private static Map<String, Long> termCounts(Document result, String facet) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (Document bucket : result.getList(facet, Document.class, List.of())) {
+            Object value = bucket.get("_id");
+            if (value != null) {
+                counts.put(value.toString(), ((Number) bucket.get("count")).longValue());
+            }
+        }
+        return counts;
+    }
+
+    private static Map<String, Long> rangeCounts(Document result, String facet, double[] boundaries) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (int i = 0; i < boundaries.length; i++) {
+            counts.put(rangeLabel(boundaries, i), 0L);
+        }
+        for (Document bucket : result.getList(facet, Document.class, List.of())) {
+            if (!(bucket.get("_id") instanceof Number lower)) {
+                continue;
+            }
+            for (int i = 0; i < boundaries.length; i++) {
+                if (boundaries[i] == lower.doubleValue()) {
+                    counts.put(rangeLabel(boundaries, i), ((Number) bucket.get("count")).longValue());
+                }
+            }
+        }
+        return counts;
+    }
+
+    private static String rangeLabel(double[] boundaries, int index) {
+        String lower = formatBoundary(boundaries[index]);
+        return index == boundaries.length - 1
+            ? lower + "+"
+            : lower + "-" + formatBoundary(boundaries[index + 1]);
+    }
+
+    private static String formatBoundary(double value) {
+        return value == Math.rint(value) ? String.valueOf((long) value) : String.valueOf(value);
+    }
+}
@@ -0,0 +1,75 @@
+// doctor/repository/DoctorSpecialtyBackfill.java
+package com.healthvia.platform.doctor.repository;
+
+import java.util.stream.Stream;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import com.healthvia.platform.doctor.entity.Doctor;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Normalize uzmanlık alanları eklenmeden önce kaydedilmiş doktorları
+ * uygulama açılışında doldurur. Sadece eksik kayıtlara dokunur, tekrar
+ * çalıştırılması güvenlidir.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class DoctorSpecialtyBackfill {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final MongoTemplate mongoTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillNormalizedSpecialties() {
+        Query query = new Query(new Criteria().orOperator(
+            Criteria.where("primarySpecialty").exists(true).and("primarySpecialtyNormalized").exists(false),
+            Criteria.where("subspecialties").exists(true).and("subspecialtiesNormalized").exists(false)));
+        query.fields().include("primarySpecialty", "subspecialties");
+
+        int updated = 0;
+        try (Stream<Doctor> doctors = mongoTemplate.stream(query, Doctor.class)) {
+            BulkOperations bulk = null;
+            int pending = 0;
+
+            for (Doctor doctor : (Iterable<Doctor>) doctors::iterator) {
+                doctor.normalizeSpecialties();
+                if (bulk == null) {
+                    bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Doctor.class);
+                }
+                bulk.updateOne(
+                    Query.query(Criteria.where("id").is(doctor.getId())),
+                    new Update()
+                        .set("primarySpecialtyNormalized", doctor.getPrimarySpecialtyNormalized())
+                        .set("subspecialtiesNormalized", doctor.getSubspecialtiesNormalized()));
+
+                if (++pending == BATCH_SIZE) {
+                    updated += bulk.execute().getModifiedCount();
+                    bulk = null;
+                    pending = 0;
+                }
+            }
+            if (bulk != null) {
+                updated += bulk.execute().getModifiedCount();
+            }
+        } catch (Exception e) {
+            log.error("Specialty backfill failed after {} doctors: {}", updated, e.getMessage());
+            return;
+        }
+
+        if (updated > 0) {
+            log.info("Backfilled normalized specialties for {} doctors", updated);
+        }
+    }
+}
@@ -0,0 +1,337 @@
+// doctor/schedule/DoctorSlotEngine.java
+package com.healthvia.platform.doctor.schedule;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.healthvia.platform.common.constants.ErrorCodes;
+import com.healthvia.platform.common.exception.BusinessException;
+import com.healthvia.platform.common.exception.ResourceNotFoundException;
+import com.healthvia.platform.common.util.DateUtils;
+import com.healthvia.platform.doctor.dto.DailySlotsDto;
+import com.healthvia.platform.doctor.entity.Doctor;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Doktor-gün bazında boş/dolu slot bitset'lerini tutan slot motoru.
+ *
+ * Şablon doktorun çalışma saati alanlarından ilk ihtiyaçta hesaplanır, gün
+ * bitset'i ise şablon ve {@link SlotOccupancySource} üzerinden ilk sorguda
+ * oluşturulur. Sonraki sorgular yalnızca bellekteki bitset'leri okur.
+ *
+ * Diğer uygulama örneklerinin rezervasyonları ve çalışma saati değişiklikleri
+ * bu örneğe yansımaz; şablon ve gün kayıtları CACHE_TTL sonunda yeniden okunur,
+ * süresi dolanlar ve geçmiş günler periyodik olarak atılır. Yetkili kontrol her
+ * durumda benzersiz indekstir.
+ */
+@Component
+@Slf4j
+public class DoctorSlotEngine {
+
+    public static final int MAX_RANGE_DAYS = 62;
+    private static final int MAX_CACHED_DAYS = 100_000;
+    private static final long CACHE_TTL_NANOS = Duration.ofMinutes(5).toNanos();
+    private static final int UPDATE_STRIPES = 64;
+
+    private final MongoTemplate mongoTemplate;
+    private final ObjectProvider<SlotOccupancySource> occupancySources;
+
+    private final Map<String, CachedTemplate> templates = new ConcurrentHashMap<>();
+    private final Map<DayKey, DaySlots> days = new ConcurrentHashMap<>();
+    // Anahtar şeridi başına güncelleme sayacı; yükleme sürerken gelen güncellemeyi fark etmek için
+    private final AtomicLongArray updateEpochs = new AtomicLongArray(UPDATE_STRIPES);
+
+    public DoctorSlotEngine(MongoTemplate mongoTemplate, ObjectProvider<SlotOccupancySource> occupancySources) {
+        this.mongoTemplate = mongoTemplate;
+        this.occupancySources = occupancySources;
+    }
+
+    // === QUERIES ===
+
+    /**
+     * [from, to] aralığındaki boş slotları döner; geçmişte kalan slotlar dahil edilmez
+     */
+    public List<DailySlotsDto> findFreeSlots(String doctorId, LocalDate from, LocalDate to) {
+        if (from == null || to == null || to.isBefore(from)) {
+            throw new BusinessException(ErrorCodes.INVALID_APPOINTMENT_DATE);
+        }
+        if (DateUtils.daysBetween(from, to) >= MAX_RANGE_DAYS) {
+            throw new BusinessException(ErrorCodes.INVALID_APPOINTMENT_DATE);
+        }
+
+        SlotTemplate template = template(doctorId);
+        LocalDateTime now = DateUtils.now();
+        LocalDate first = from.isBefore(now.toLocalDate()) ? now.toLocalDate() : from;
+
+        List<DailySlotsDto> result = new ArrayList<>();
+        for (LocalDate date = first; !date.isAfter(to); date = date.plusDays(1)) {
+            if (!template.worksOn(date.getDayOfWeek()) || template.slotCount() == 0) {
+                continue;
+            }
+
+            BitSet free = day(doctorId, date, template).snapshot();
+            List<LocalTime> slots = new ArrayList<>(free.cardinality());
+            for (int i = free.nextSetBit(0); i >= 0; i = free.nextSetBit(i + 1)) {
+                LocalTime start = template.startOf(i);
+                if (date.equals(now.toLocalDate()) && !start.isAfter(now.toLocalTime())) {
+                    continue;
+                }
+                slots.add(start);
+            }
+
+            if (!slots.isEmpty()) {
+                result.add(DailySlotsDto.builder()
+                    .date(date)
+                    .durationMinutes(template.durationMinutes())
+                    .freeSlots(slots)
+                    .build());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Başlangıç zamanı doktorun şablonundaki bir slota denk geliyorsa slot bitişini döner
+     */
+    public Optional<LocalDateTime> resolveSlotEnd(String doctorId, LocalDateTime slotStart) {
+        SlotTemplate template = template(doctorId);
+        if (!template.worksOn(slotStart.getDayOfWeek()) || template.indexOf(slotStart.toLocalTime()) < 0) {
+            return Optional.empty();
+        }
+        return Optional.of(slotStart.plusMinutes(template.durationMinutes()));
+    }
+
+    public boolean isFree(String doctorId, LocalDateTime slotStart) {
+        SlotTemplate template = template(doctorId);
+        int index = template.indexOf(slotStart.toLocalTime());
+        if (!template.worksOn(slotStart.getDayOfWeek()) || index < 0) {
+            return false;
+        }
+        return day(doctorId, slotStart.toLocalDate(), template).isFree(index);
+    }
+
+    // === OCCUPANCY UPDATES ===
+
+    /**
+     * Randevu alındığında çağrılır; gün henüz hesaplanmadıysa bir şey yapmaz,
+     * ilk sorguda dolu slot kaynağından okunur
+     */
+    public void markOccupied(String doctorId, LocalDateTime slotStart) {
+        updateSlot(doctorId, slotStart, false);
+    }
+
+    public void markFree(String doctorId, LocalDateTime slotStart) {
+        updateSlot(doctorId, slotStart, true);
+    }
+
+    // === INVALIDATION ===
+
+    /**
+     * Doktor kaydedildiğinde çağrılır; çalışma düzeni değiştiyse hesaplanmış günler atılır
+     */
+    public void onDoctorChanged(Doctor doctor) {
+        if (doctor == null || doctor.getId() == null) return;
+
+        if (doctor.isDeleted()) {
+            invalidate(doctor.getId());
+            return;
+        }
+
+        SlotTemplate updated = SlotTemplate.from(doctor);
+        CachedTemplate previous = templates.get(doctor.getId());
+        if (previous != null && previous.template().sameScheduleAs(updated)) {
+            // Aynı şablon nesnesi korunur; günler geçerli kalır
+            templates.put(doctor.getId(), new CachedTemplate(previous.template(), System.nanoTime()));
+            return;
+        }
+        templates.put(doctor.getId(), new CachedTemplate(updated, System.nanoTime()));
+        evictDays(doctor.getId());
+    }
+
+    public void invalidate(String doctorId) {
+        templates.remove(doctorId);
+        evictDays(doctorId);
+    }
+
+    /**
+     * Geçmiş günleri, süresi dolmuş gün ve şablon kayıtlarını atar
+     */
+    @Scheduled(fixedDelayString = "${slots.day-cache-cleanup-interval-ms:600000}")
+    public void evictExpired() {
+        LocalDate today = DateUtils.today();
+        long now = System.nanoTime();
+        days.entrySet().removeIf(entry -> entry.getKey().date().isBefore(today) || entry.getValue().isExpired(now));
+        templates.values().removeIf(cached -> cached.isExpired(now));
+    }
+
+    // === PRIVATE HELPERS ===
+
+    private SlotTemplate template(String doctorId) {
+        CachedTemplate cached = templates.get(doctorId);
+        if (cached != null && !cached.isExpired(System.nanoTime())) {
+            return cached.template();
+        }
+
+        // Veritabanı okuması map kilidi dışında yapılır. Okuma sürerken
+        // onDoctorChanged yeni bir kayıt koyduysa o kayıt korunur. Çalışma düzeni
+        // değişmediyse eski şablon nesnesi tutulur, böylece günler geçerli kalır.
+        SlotTemplate loaded = loadTemplate(doctorId);
+        return templates.compute(doctorId, (id, existing) -> {
+            long now = System.nanoTime();
+            if (existing != null && existing != cached && !existing.isExpired(now)) return existing;
+            boolean unchanged = existing != null && existing.template().sameScheduleAs(loaded);
+            return new CachedTemplate(unchanged ? existing.template() : loaded, now);
+        }).template();
+    }
+
+    private SlotTemplate loadTemplate(String doctorId) {
+        Query query = new Query(Criteria.where("id").is(doctorId).and("deleted").is(false));
+        query.fields().include("workingDays", "workingHoursStart", "workingHoursEnd",
+            "lunchBreakStart", "lunchBreakEnd", "consultationDurationMinutes", "appointmentBufferMinutes");
+
+        Doctor doctor = mongoTemplate.findOne(query, Doctor.class);
+        if (doctor == null) {
+            throw new ResourceNotFoundException("Doctor", "id", doctorId);
+        }
+        return SlotTemplate.from(doctor);
+    }
+
+    private DaySlots day(String doctorId, LocalDate date, SlotTemplate template) {
+        DayKey key = new DayKey(doctorId, date);
+        DaySlots cached = days.get(key);
+        if (isUsable(cached, template)) {
+            return cached;
+        }
+
+        if (days.size() >= MAX_CACHED_DAYS) {
+            trimDays();
+        }
+
+        // Veritabanı okuması map kilidi dışında yapılır. Okuma sürerken aynı
+        // güne bir güncelleme geldiyse (şerit sayacı değişti) okunan bitset o
+        // güncellemeyi kaçırmış olabilir: sonuç kullanılır ama önbelleğe yazılmaz.
+        int stripe = stripeOf(key);
+        long epoch = updateEpochs.get(stripe);
+        DaySlots loaded = loadDay(doctorId, date, template);
+
+        DaySlots installed = days.compute(key, (k, existing) -> {
+            if (isUsable(existing, template)) return existing;
+            return updateEpochs.get(stripe) == epoch ? loaded : existing;
+        });
+        return isUsable(installed, template) ? installed : loaded;
+    }
+
+    private static boolean isUsable(DaySlots day, SlotTemplate template) {
+        return day != null && day.template() == template && !day.isExpired(System.nanoTime());
+    }
+
+    private static int stripeOf(DayKey key) {
+        return (key.hashCode() & 0x7fffffff) % UPDATE_STRIPES;
+    }
+
+    private DaySlots loadDay(String doctorId, LocalDate date, SlotTemplate template) {
+        BitSet free = new BitSet(template.slotCount());
+        free.set(0, template.slotCount());
+
+        SlotOccupancySource source = occupancySources.getIfAvailable();
+        if (source != null) {
+            for (LocalTime occupied : source.findOccupiedSlotStarts(doctorId, date)) {
+                int index = template.indexOf(occupied);
+                if (index >= 0) {
+                    free.clear(index);
+                }
+            }
+        }
+        return new DaySlots(template, free, System.nanoTime());
+    }
+
+    private void updateSlot(String doctorId, LocalDateTime slotStart, boolean free) {
+        DayKey dayKey = new DayKey(doctorId, slotStart.toLocalDate());
+        // Önce sayaç artırılır: o an yüklenmekte olan gün önbelleğe yazılmaz
+        updateEpochs.incrementAndGet(stripeOf(dayKey));
+        days.computeIfPresent(dayKey, (key, day) -> {
+            int index = day.template().indexOf(slotStart.toLocalTime());
+            if (index >= 0) {
+                day.set(index, free);
+            }
+            return day;
+        });
+    }
+
+    private void evictDays(String doctorId) {
+        days.keySet().removeIf(key -> key.doctorId().equals(doctorId));
+    }
+
+    private void trimDays() {
+        evictExpired();
+        if (days.size() >= MAX_CACHED_DAYS) {
+            log.warn("Slot cache reached {} doctor-days, clearing", days.size());
+            days.clear();
+        }
+    }
+
+    // === NESTED TYPES ===
+
+    private record DayKey(String doctorId, LocalDate date) {
+    }
+
+    private record CachedTemplate(SlotTemplate template, long loadedAt) {
+
+        boolean isExpired(long now) {
+            return now - loadedAt >= CACHE_TTL_NANOS;
+        }
+    }
+
+    /**
+     * Tek doktor-gün için boş slot bitset'i (bit set = boş)
+     */
+    private static final class DaySlots {
+
+        private final SlotTemplate template;
+        private final BitSet free;
+        private final long loadedAt;
+
+        DaySlots(SlotTemplate template, BitSet free, long loadedAt) {
+            this.template = template;
+            this.free = free;
+            this.loadedAt = loadedAt;
+        }
+
+        SlotTemplate template() {
+            return template;
+        }
+
+        boolean isExpired(long now) {
+            return now - loadedAt >= CACHE_TTL_NANOS;
+        }
+
+        synchronized boolean isFree(int index) {
+            return free.get(index);
+        }
+
+        synchronized void set(int index, boolean value) {
+            free.set(index, value);
+        }
+
+        synchronized BitSet snapshot() {
+            return (BitSet) free.clone();
+        }
+    }
+}
@@ -0,0 +1,15 @@
+// doctor/schedule/SlotOccupancySource.java
+package com.healthvia.platform.doctor.schedule;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collection;
+
+/**
+ * Bir doktor-gün için dolu slot başlangıçlarını sağlar.
+ * Slot motoru bir günü ilk kez hesaplarken bu kaynağa bir kez sorar.
+ */
+public interface SlotOccupancySource {
+
+    Collection<LocalTime> findOccupiedSlotStarts(String doctorId, LocalDate date);
+}
@@ -0,0 +1,115 @@
+// doctor/schedule/SlotTemplate.java
+package com.healthvia.platform.doctor.schedule;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Set;
+
+import com.healthvia.platform.doctor.entity.Doctor;
+
+/**
+ * Doktorun çalışma saati alanlarından türetilen, güne bağlı olmayan slot şablonu.
+ * Slot i'nin başlangıcı {@code starts[i]} (gün içi dakika) olarak tutulur;
+ * gün bazlı bitset'lerde bit i bu slotu temsil eder.
+ */
+final class SlotTemplate {
+
+    private final Spec spec;
+    private final int[] starts;
+
+    private SlotTemplate(Spec spec, int[] starts) {
+        this.spec = spec;
+        this.starts = starts;
+    }
+
+    static SlotTemplate from(Doctor doctor) {
+        Spec spec = Spec.from(doctor);
+        if (spec.dayMask() == 0 || spec.start() == null || spec.end() == null || !spec.start().isBefore(spec.end())) {
+            return new SlotTemplate(spec, new int[0]);
+        }
+
+        int start = spec.start().toSecondOfDay() / 60;
+        int end = spec.end().toSecondOfDay() / 60;
+        int lunchStart = spec.lunchStart() != null ? spec.lunchStart().toSecondOfDay() / 60 : -1;
+        int lunchEnd = spec.lunchEnd() != null ? spec.lunchEnd().toSecondOfDay() / 60 : -1;
+        boolean hasLunch = lunchStart >= 0 && lunchEnd > lunchStart;
+
+        int[] slots = new int[(end - start) / spec.duration() + 1];
+        int count = 0;
+        int t = start;
+        while (t + spec.duration() <= end) {
+            if (hasLunch && t < lunchEnd && t + spec.duration() > lunchStart) {
+                // Öğle arasına taşan slot açılmaz, arada kalan süre boşa gider
+                t = lunchEnd;
+                continue;
+            }
+            slots[count++] = t;
+            t += spec.duration() + spec.buffer();
+        }
+        return new SlotTemplate(spec, Arrays.copyOf(slots, count));
+    }
+
+    boolean sameScheduleAs(SlotTemplate other) {
+        return spec.equals(other.spec);
+    }
+
+    boolean worksOn(DayOfWeek day) {
+        return (spec.dayMask() & (1 << day.ordinal())) != 0;
+    }
+
+    int slotCount() {
+        return starts.length;
+    }
+
+    int durationMinutes() {
+        return spec.duration();
+    }
+
+    LocalTime startOf(int index) {
+        return LocalTime.ofSecondOfDay(starts[index] * 60L);
+    }
+
+    /**
+     * Verilen saat bir slot başlangıcına denk geliyorsa slot indeksini, aksi halde -1 döner
+     */
+    int indexOf(LocalTime time) {
+        if (time.getSecond() != 0 || time.getNano() != 0) return -1;
+        int index = Arrays.binarySearch(starts, time.toSecondOfDay() / 60);
+        return index >= 0 ? index : -1;
+    }
+
+    // === NESTED TYPES ===
+
+    /**
+     * Şablonu belirleyen ham alanlar; doktor kaydedildiğinde şablonun
+     * değişip değişmediği bununla anlaşılır
+     */
+    private record Spec(int dayMask, LocalTime start, LocalTime end,
+                        LocalTime lunchStart, LocalTime lunchEnd, int duration, int buffer) {
+
+        static Spec from(Doctor doctor) {
+            return new Spec(
+                dayMask(doctor.getWorkingDays()),
+                doctor.getWorkingHoursStart(),
+                doctor.getWorkingHoursEnd(),
+                doctor.getLunchBreakStart(),
+                doctor.getLunchBreakEnd(),
+                Math.max(1, doctor.getConsultationDurationMinutes()),
+                Math.max(0, doctor.getAppointmentBufferMinutes()));
+        }
+
+        private static int dayMask(Set<String> workingDays) {
+            int mask = 0;
+            if (workingDays == null) return mask;
+            for (String day : workingDays) {
+                try {
+                    mask |= 1 << DayOfWeek.valueOf(day.trim().toUpperCase()).ordinal();
+                } catch (IllegalArgumentException e) {
+                    // Tanınmayan gün adı şablona katılmaz
+                }
+            }
+            return mask;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+// doctor/search/DoctorFacetCache.java
+package com.healthvia.platform.doctor.search;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import com.healthvia.platform.common.util.TextUtils;
+import com.healthvia.platform.doctor.dto.DoctorSearchCriteria;
+import com.healthvia.platform.doctor.dto.DoctorSearchFacets;
+
+/**
+ * Popüler filtre kombinasyonlarının facet sonuçları için kısa ömürlü önbellek.
+ *
+ * Facet sayıları yaklaşık bilgi olduğundan doktor güncellemelerinde
+ * geçersiz kılınmaz; kayıtlar TTL dolunca yeniden hesaplanır.
+ */
+@Component
+public class DoctorFacetCache {
+
+    private static final long TTL_NANOS = Duration.ofSeconds(60).toNanos();
+    private static final int MAX_ENTRIES = 1_000;
+
+    private final Map<Key, Cached> cache = new ConcurrentHashMap<>();
+
+    public DoctorSearchFacets get(DoctorSearchCriteria criteria, Supplier<DoctorSearchFacets> loader) {
+        Key key = Key.of(criteria);
+        long now = System.nanoTime();
+
+        Cached cached = cache.get(key);
+        if (cached != null && now - cached.loadedAt() < TTL_NANOS) {
+            return cached.facets();
+        }
+
+        DoctorSearchFacets facets = loader.get();
+        if (cache.size() >= MAX_ENTRIES) {
+            evictExpired(now);
+        }
+        if (cache.size() < MAX_ENTRIES) {
+            cache.put(key, new Cached(facets, now));
+        }
+        return facets;
+    }
+
+    public void clear() {
+        cache.clear();
+    }
+
+    private void evictExpired(long now) {
+        cache.values().removeIf(cached -> now - cached.loadedAt() >= TTL_NANOS);
+    }
+
+    // === NESTED TYPES ===
+
+    private record Cached(DoctorSearchFacets facets, long loadedAt) {
+    }
+
+    /**
+     * "Kardiyoloji" ve "kardiyoloji " gibi eşdeğer filtreler aynı kaydı paylaşır
+     */
+    private record Key(String specialty, String province, String district, Double minRating, BigDecimal maxFee) {
+
+        static Key of(DoctorSearchCriteria criteria) {
+            if (criteria == null) {
+                return new Key(null, null, null, null, null);
+            }
+            return new Key(
+                emptyToNull(TextUtils.foldTurkish(criteria.getSpecialty())),
+                emptyToNull(criteria.getProvince()),
+                emptyToNull(criteria.getDistrict()),
+                criteria.getMinRating(),
+                criteria.getMaxFee() != null ? criteria.getMaxFee().stripTrailingZeros() : null);
+        }
+
+        private static String emptyToNull(String value) {
+            return value == null || value.isBlank() ? null : value;
+        }
+    }
+}
@@ -0,0 +1,197 @@
+// doctor/search/DoctorLeaderboard.java
+package com.healthvia.platform.doctor.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+import org.bson.Document;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.BasicQuery;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import com.healthvia.platform.common.util.TextUtils;
+import com.healthvia.platform.doctor.dto.DoctorDto;
+import com.healthvia.platform.doctor.entity.Doctor;
+import com.healthvia.platform.doctor.repository.DoctorRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Rating'e göre sıralı bellek içi doktor liderlik tabloları.
+ *
+ * Genel, uzmanlık ve il bazında ayrı sıralı kümeler tutulur; doktor
+ * kaydedildikçe yalnızca o doktorun kayıtları yeniden konumlanır.
+ * İlk N doktor veritabanına gitmeden O(N) sürede okunur.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class DoctorLeaderboard {
+
+    // Yüksek rating önce, eşitlikte çok yorum alan, sonra id (kararlı sıra)
+    private static final Comparator<Rank> ORDER = Comparator
+        .comparingDouble(Rank::rating).reversed()
+        .thenComparing(Comparator.comparingInt(Rank::reviews).reversed())
+        .thenComparing(Rank::id);
+
+    private final MongoTemplate mongoTemplate;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Rank> ranks = new HashMap<>();
+    private final NavigableSet<Rank> global = new TreeSet<>(ORDER);
+    private final Map<String, NavigableSet<Rank>> bySpecialty = new HashMap<>();
+    private final Map<String, NavigableSet<Rank>> byProvince = new HashMap<>();
+
+    // === MAINTENANCE ===
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        Query query = new BasicQuery(new Document("deleted", false), Document.parse(DoctorRepository.LISTING_FIELDS));
+
+        try (Stream<Doctor> doctors = mongoTemplate.stream(query, Doctor.class)) {
+            lock.writeLock().lock();
+            try {
+                ranks.clear();
+                global.clear();
+                bySpecialty.clear();
+                byProvince.clear();
+                doctors.forEach(this::put);
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("Doctor leaderboards built with {} doctors", ranks.size());
+        } catch (Exception e) {
+            log.error("Doctor leaderboards could not be built: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Doktoru tablolarda yeniden konumlar; silinmiş doktorlar çıkarılır
+     */
+    public void update(Doctor doctor) {
+        if (doctor == null || doctor.getId() == null) return;
+
+        lock.writeLock().lock();
+        try {
+            evict(doctor.getId());
+            if (!doctor.isDeleted()) {
+                put(doctor);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String doctorId) {
+        lock.writeLock().lock();
+        try {
+            evict(doctorId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // === QUERIES ===
+
+    /**
+     * En yüksek rating'li ilk {@code limit} doktor. Uzmanlık ve il birlikte
+     * verilirse daha küçük olan tablo taranıp diğeri filtre olarak uygulanır.
+     */
+    public List<DoctorDto> top(int limit, String specialty, String province) {
+        String specialtyKey = key(specialty);
+        String provinceKey = key(province);
+
+        lock.readLock().lock();
+        try {
+            NavigableSet<Rank> board = global;
+            if (specialtyKey != null) {
+                board = bySpecialty.getOrDefault(specialtyKey, emptyBoard());
+            }
+            if (provinceKey != null) {
+                NavigableSet<Rank> provinceBoard = byProvince.getOrDefault(provinceKey, emptyBoard());
+                if (specialtyKey == null || provinceBoard.size() < board.size()) {
+                    board = provinceBoard;
+                }
+            }
+
+            List<DoctorDto> result = new ArrayList<>(Math.min(limit, board.size()));
+            for (Rank rank : board) {
+                if (result.size() == limit) break;
+                if (specialtyKey != null && !specialtyKey.equals(rank.specialtyKey())) continue;
+                if (provinceKey != null && !provinceKey.equals(rank.provinceKey())) continue;
+                result.add(rank.doctor());
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // === PRIVATE HELPERS (write lock must be held) ===
+
+    private void put(Doctor doctor) {
+        Rank rank = new Rank(
+            doctor.getId(),
+            doctor.getAverageRating(),
+            doctor.getTotalReviews(),
+            key(doctor.getPrimarySpecialty()),
+            key(doctor.getProvince()),
+            DoctorDto.fromEntityBasic(doctor));
+
+        ranks.put(rank.id(), rank);
+        global.add(rank);
+        if (rank.specialtyKey() != null) {
+            bySpecialty.computeIfAbsent(rank.specialtyKey(), k -> new TreeSet<>(ORDER)).add(rank);
+        }
+        if (rank.provinceKey() != null) {
+            byProvince.computeIfAbsent(rank.provinceKey(), k -> new TreeSet<>(ORDER)).add(rank);
+        }
+    }
+
+    private void evict(String doctorId) {
+        Rank old = ranks.remove(doctorId);
+        if (old == null) return;
+
+        global.remove(old);
+        removeFrom(bySpecialty, old.specialtyKey(), old);
+        removeFrom(byProvince, old.provinceKey(), old);
+    }
+
+    private static void removeFrom(Map<String, NavigableSet<Rank>> boards, String key, Rank rank) {
+        if (key == null) return;
+        NavigableSet<Rank> board = boards.get(key);
+        if (board != null) {
+            board.remove(rank);
+            if (board.isEmpty()) {
+                boards.remove(key);
+            }
+        }
+    }
+
+    private static String key(String value) {
+        String folded = TextUtils.foldTurkish(value);
+        return folded.isEmpty() ? null : folded;
+    }
+
+    private static NavigableSet<Rank> emptyBoard() {
+        return new TreeSet<>(ORDER);
+    }
+
+    // === NESTED TYPES ===
+
+    private record Rank(String id, double rating, int reviews,
+                        String specialtyKey, String provinceKey, DoctorDto doctor) {
+    }
+}
@@ -0,0 +1,264 @@
+// doctor/search/DoctorSearchIndex.java
+package com.healthvia.platform.doctor.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import com.healthvia.platform.common.util.TextUtils;
+import com.healthvia.platform.doctor.entity.Doctor;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Doktor serbest metin araması için bellek içi ters indeks.
+ *
+ * Ad, soyad, ana uzmanlık, hastane ve klinik alanları Türkçe katlanarak
+ * kelimelere bölünür; her kelimenin 1-3 uzunluğundaki n-gram'ları indekslenir.
+ * Eşleştirme ve sıralama tamamen bellekte yapılır, Mongo'ya yalnızca
+ * sonuç sayfasındaki doktorları yüklemek için gidilir.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class DoctorSearchIndex {
+
+    private static final int MAX_GRAM = 3;
+
+    // Alan ağırlıkları: isim eşleşmeleri hastane/klinik eşleşmelerinden önce gelir
+    private static final int[] FIELD_WEIGHTS = {3, 3, 2, 1, 1};
+
+    private final MongoTemplate mongoTemplate;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Entry> entries = new HashMap<>();
+    private final Map<String, Set<String>> postings = new HashMap<>();
+
+    // === INDEX MAINTENANCE ===
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        Query query = new Query(Criteria.where("deleted").is(false));
+        query.fields()
+            .include("firstName", "lastName", "primarySpecialty",
+                     "currentHospital", "currentClinic", "averageRating");
+
+        try (Stream<Doctor> doctors = mongoTemplate.stream(query, Doctor.class)) {
+            lock.writeLock().lock();
+            try {
+                entries.clear();
+                postings.clear();
+                doctors.forEach(this::put);
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("Doctor search index built with {} doctors", size());
+        } catch (Exception e) {
+            log.error("Doctor search index could not be built: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Doktoru indekse ekler veya günceller; silinmiş doktorlar indeksten çıkarılır
+     */
+    public void index(Doctor doctor) {
+        if (doctor == null || doctor.getId() == null) return;
+
+        lock.writeLock().lock();
+        try {
+            evict(doctor.getId());
+            if (!doctor.isDeleted()) {
+                put(doctor);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String doctorId) {
+        lock.writeLock().lock();
+        try {
+            evict(doctorId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // === SEARCH ===
+
+    /**
+     * Arama terimindeki tüm kelimeleri içeren doktorları alaka puanına göre sıralar.
+     * Puan eşitliğinde yüksek rating öne alınır.
+     */
+    public SearchResult search(String searchTerm, long offset, int limit) {
+        List<String> queryTokens = TextUtils.tokenize(searchTerm);
+
+        lock.readLock().lock();
+        try {
+            List<Hit> hits = new ArrayList<>();
+            for (String id : candidates(queryTokens)) {
+                Entry entry = entries.get(id);
+                int score = score(entry, queryTokens);
+                if (score > 0 || queryTokens.isEmpty()) {
+                    hits.add(new Hit(entry, score));
+                }
+            }
+
+            hits.sort(Comparator.comparingInt(Hit::score).reversed()
+                .thenComparing(hit -> hit.entry().rating(), Comparator.reverseOrder())
+                .thenComparing(hit -> hit.entry().id()));
+
+            List<String> pageIds = hits.stream()
+                .skip(offset)
+                .limit(limit)
+                .map(hit -> hit.entry().id())
+                .toList();
+
+            return new SearchResult(pageIds, hits.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // === PRIVATE HELPERS (write lock must be held) ===
+
+    private void put(Doctor doctor) {
+        String[][] fields = {
+            tokens(doctor.getFirstName()),
+            tokens(doctor.getLastName()),
+            tokens(doctor.getPrimarySpecialty()),
+            tokens(doctor.getCurrentHospital()),
+            tokens(doctor.getCurrentClinic())
+        };
+
+        Set<String> grams = new HashSet<>();
+        for (String[] words : fields) {
+            for (String word : words) {
+                addGrams(word, grams);
+            }
+        }
+
+        Entry entry = new Entry(doctor.getId(), fields, grams, doctor.getAverageRating());
+        entries.put(entry.id(), entry);
+        for (String gram : grams) {
+            postings.computeIfAbsent(gram, key -> new HashSet<>()).add(entry.id());
+        }
+    }
+
+    private void evict(String doctorId) {
+        Entry old = entries.remove(doctorId);
+        if (old == null) return;
+
+        for (String gram : old.grams()) {
+            Set<String> ids = postings.get(gram);
+            if (ids != null) {
+                ids.remove(doctorId);
+                if (ids.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    // === PRIVATE HELPERS (read lock must be held) ===
+
+    private Set<String> candidates(List<String> queryTokens) {
+        if (queryTokens.isEmpty()) {
+            return entries.keySet();
+        }
+
+        Set<String> result = null;
+        for (String token : queryTokens) {
+            Set<String> grams = new HashSet<>();
+            if (token.length() <= MAX_GRAM) {
+                grams.add(token);
+            } else {
+                for (int i = 0; i + MAX_GRAM <= token.length(); i++) {
+                    grams.add(token.substring(i, i + MAX_GRAM));
+                }
+            }
+
+            for (String gram : grams) {
+                Set<String> ids = postings.getOrDefault(gram, Set.of());
+                if (result == null) {
+                    result = new HashSet<>(ids);
+                } else {
+                    result.retainAll(ids);
+                }
+                if (result.isEmpty()) {
+                    return result;
+                }
+            }
+        }
+        return result;
+    }
+
+    private int score(Entry entry, List<String> queryTokens) {
+        int total = 0;
+        for (String token : queryTokens) {
+            int best = 0;
+            for (int f = 0; f < entry.fields().length; f++) {
+                for (String word : entry.fields()[f]) {
+                    int match = word.equals(token) ? 3
+                        : word.startsWith(token) ? 2
+                        : word.contains(token) ? 1
+                        : 0;
+                    best = Math.max(best, match * FIELD_WEIGHTS[f]);
+                }
+            }
+            if (best == 0) {
+                // Tüm kelimeler eşleşmeli (n-gram adayı yanlış pozitif olabilir)
+                return 0;
+            }
+            total += best;
+        }
+        return total;
+    }
+
+    private static String[] tokens(String value) {
+        return TextUtils.tokenize(value).toArray(String[]::new);
+    }
+
+    private static void addGrams(String word, Set<String> grams) {
+        for (int n = 1; n <= MAX_GRAM; n++) {
+            for (int i = 0; i + n <= word.length(); i++) {
+                grams.add(word.substring(i, i + n));
+            }
+        }
+    }
+
+    // === NESTED TYPES ===
+
+    private record Entry(String id, String[][] fields, Set<String> grams, double rating) {
+    }
+
+    private record Hit(Entry entry, int score) {
+    }
+
+    public record SearchResult(List<String> ids, long total) {
+    }
+}
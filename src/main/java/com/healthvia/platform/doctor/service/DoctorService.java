@@ -1,14 +1,23 @@
 package com.healthvia.platform.doctor.service;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.geo.GeoResult;
 
+import com.healthvia.platform.common.cache.CacheStats;
+import com.healthvia.platform.common.dto.BulkWriteReport;
+import com.healthvia.platform.doctor.dto.DailySlotsDto;
+import com.healthvia.platform.doctor.dto.DoctorDto;
+import com.healthvia.platform.doctor.dto.DoctorSearchCriteria;
+import com.healthvia.platform.doctor.dto.DoctorSearchFacets;
 import com.healthvia.platform.doctor.entity.Doctor;
 
 public interface DoctorService {
@@ -17,6 +26,7 @@ public interface DoctorService {
     Doctor createDoctor(Doctor doctor);
     Doctor updateDoctor(String id, Doctor doctor);
     Optional<Doctor> findById(String id);
+    Optional<DoctorDto> findProfileById(String id);
     void deleteDoctor(String id, String deletedBy);
     Page<Doctor> findAll(Pageable pageable);
 
@@ -25,22 +35,34 @@ public interface DoctorService {
     Doctor updateWorkingHours(String doctorId, Set<String> workingDays, 
                              LocalTime startTime, LocalTime endTime);
     Doctor updateConsultationInfo(String doctorId, BigDecimal fee, Integer duration);
+    Doctor updateLocation(String doctorId, double latitude, double longitude);
     Doctor addCertification(String doctorId, Doctor.Certification certification);
     Doctor updateVerificationStatus(String doctorId, Doctor.VerificationStatus status);
+    BulkWriteReport updateVerificationStatuses(List<String> doctorIds, Doctor.VerificationStatus status);
 
     // === SEARCH & FILTER ===
     Page<Doctor> searchDoctors(String searchTerm, Pageable pageable);
     List<Doctor> findBySpecialty(String specialty);
-    List<Doctor> findByLocation(String province, String district);
+    Page<Doctor> findByLocation(String province, String district, Pageable pageable);
+    Page<GeoResult<Doctor>> findNearbyDoctors(double latitude, double longitude, double radiusKm,
+                                              DoctorSearchCriteria criteria, Pageable pageable);
     List<Doctor> findVerifiedDoctors();
     List<Doctor> findAvailableDoctors();
-    Page<Doctor> findDoctorsWithFilters(String specialty, String province, 
-                                       Double minRating, BigDecimal maxFee, Pageable pageable);
+    Page<Doctor> findDoctorsWithFilters(DoctorSearchCriteria criteria, Pageable pageable);
+
+    // === EXPORT (STREAMING) ===
+    // Dönen Stream açık bir veritabanı cursor'ıdır; çağıran kapatmalıdır
+    Stream<Doctor> streamAllForExport();
+    Stream<Doctor> streamBySpecialtyForExport(String specialty);
+    DoctorSearchFacets getSearchFacets(DoctorSearchCriteria criteria);
 
     // === APPOINTMENT MANAGEMENT ===
     Doctor updateAppointmentStatistics(String doctorId, int totalAppointments, 
                                       int completedAppointments, int cancelledAppointments);
+    Doctor incrementAppointmentStatistics(String doctorId, int totalDelta, 
+                                         int completedDelta, int cancelledDelta);
     List<Doctor> findDoctorsWithHighCompletionRate(double minRate);
+    List<DailySlotsDto> findFreeSlots(String doctorId, LocalDate from, LocalDate to);
     
     // === VALIDATION ===
     boolean isDiplomaNumberAvailable(String diplomaNumber);
@@ -50,5 +72,6 @@ public interface DoctorService {
     // === ANALYTICS ===
     long countVerifiedDoctors();
     long countDoctorsBySpecialty(String specialty);
-    List<Doctor> findTopRatedDoctors(int limit);
+    List<DoctorDto> findTopRatedDoctors(int limit, String specialty, String province);
+    CacheStats getProfileCacheStats();
 }
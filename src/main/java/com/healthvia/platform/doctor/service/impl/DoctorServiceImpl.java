@@ -4,18 +4,47 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.geo.Distance;
+import org.springframework.data.geo.GeoResult;
+import org.springframework.data.geo.Metrics;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.healthvia.platform.auth.identity.UniquenessClaimRegistry;
+import com.healthvia.platform.common.cache.CacheStats;
+import com.healthvia.platform.common.constants.AppConstants;
+import com.healthvia.platform.common.constants.ErrorCodes;
+import com.healthvia.platform.common.dto.BulkWriteReport;
 import com.healthvia.platform.common.exception.BusinessException;
 import com.healthvia.platform.common.exception.ResourceNotFoundException;
+import com.healthvia.platform.common.persistence.AppointmentCounterUpdates;
+import com.healthvia.platform.common.persistence.BulkUpdater;
+import com.healthvia.platform.common.persistence.FieldPatch;
+import com.healthvia.platform.common.persistence.PartialUpdater;
+import com.healthvia.platform.common.util.TextUtils;
+import com.healthvia.platform.doctor.cache.DoctorProfileCache;
+import com.healthvia.platform.doctor.dto.DailySlotsDto;
+import com.healthvia.platform.doctor.dto.DoctorDto;
+import com.healthvia.platform.doctor.dto.DoctorSearchCriteria;
+import com.healthvia.platform.doctor.dto.DoctorSearchFacets;
 import com.healthvia.platform.doctor.entity.Doctor;
 import com.healthvia.platform.doctor.repository.DoctorRepository;
+import com.healthvia.platform.doctor.schedule.DoctorSlotEngine;
+import com.healthvia.platform.doctor.search.DoctorFacetCache;
+import com.healthvia.platform.doctor.search.DoctorLeaderboard;
+import com.healthvia.platform.doctor.search.DoctorSearchIndex;
 import com.healthvia.platform.doctor.service.DoctorService;
 
 import lombok.RequiredArgsConstructor;
@@ -27,7 +56,17 @@ import lombok.extern.slf4j.Slf4j;
 @Transactional
 public class DoctorServiceImpl implements DoctorService {
 
+    private static final double MAX_NEARBY_RADIUS_KM = 100;
+
     private final DoctorRepository doctorRepository;
+    private final UniquenessClaimRegistry uniquenessClaimRegistry;
+    private final DoctorSearchIndex doctorSearchIndex;
+    private final DoctorFacetCache doctorFacetCache;
+    private final DoctorSlotEngine doctorSlotEngine;
+    private final DoctorProfileCache doctorProfileCache;
+    private final DoctorLeaderboard doctorLeaderboard;
+    private final PartialUpdater partialUpdater;
+    private final BulkUpdater bulkUpdater;
 
     @Override
     public Doctor createDoctor(Doctor doctor) {
@@ -49,14 +88,15 @@ public class DoctorServiceImpl implements DoctorService {
             doctor.setIsAcceptingNewPatients(true);
         }
         
-        return doctorRepository.save(doctor);
+        // Email/telefon ve belge numaraları yazmadan önce sahiplenilir
+        return uniquenessClaimRegistry.saveClaimed(UniquenessClaimRegistry.uniqueValuesOf(doctor),
+            () -> saveAndIndex(doctor));
     }
 
     @Override
     public Doctor updateDoctor(String id, Doctor doctor) {
-        Doctor existingDoctor = findByIdOrThrow(id);
-        updateDoctorFields(existingDoctor, doctor);
-        return doctorRepository.save(existingDoctor);
+        // İstek version taşıyorsa okunan kopya üzerinden optimistic kontrol yapılır
+        return patchAndIndex(id, doctor.getVersion(), doctorFieldsPatch(doctor));
     }
 
     @Override
@@ -65,11 +105,21 @@ public class DoctorServiceImpl implements DoctorService {
         return doctorRepository.findById(id).filter(doctor -> !doctor.isDeleted());
     }
 
+    @Override
+    public Optional<DoctorDto> findProfileById(String id) {
+        return doctorProfileCache.get(id, key -> findById(key).map(DoctorDto::fromEntity).orElse(null));
+    }
+
     @Override
     public void deleteDoctor(String id, String deletedBy) {
         Doctor doctor = findByIdOrThrow(id);
         doctor.markAsDeleted(deletedBy);
         doctorRepository.save(doctor);
+        uniquenessClaimRegistry.releaseOwner(id);
+        doctorSearchIndex.remove(id);
+        doctorSlotEngine.invalidate(id);
+        doctorProfileCache.evict(id);
+        doctorLeaderboard.remove(id);
     }
 
     @Override
@@ -82,48 +132,51 @@ public class DoctorServiceImpl implements DoctorService {
 
     @Override
     public Doctor updateProfile(String doctorId, String biography, String curriculum) {
-        Doctor doctor = findByIdOrThrow(doctorId);
-        doctor.setBiography(biography);
-        doctor.setCurriculum(curriculum);
-        return doctorRepository.save(doctor);
+        return patchAndIndex(doctorId, FieldPatch.create()
+            .set("biography", biography)
+            .set("curriculum", curriculum));
     }
 
     @Override
     public Doctor updateWorkingHours(String doctorId, Set<String> workingDays, 
                                    LocalTime startTime, LocalTime endTime) {
-        Doctor doctor = findByIdOrThrow(doctorId);
-        doctor.setWorkingDays(workingDays);
-        doctor.setWorkingHoursStart(startTime);
-        doctor.setWorkingHoursEnd(endTime);
-        return doctorRepository.save(doctor);
+        return patchAndIndex(doctorId, FieldPatch.create()
+            .set("workingDays", workingDays)
+            .set("workingHoursStart", startTime)
+            .set("workingHoursEnd", endTime));
+    }
+
+    @Override
+    public Doctor updateLocation(String doctorId, double latitude, double longitude) {
+        validateCoordinates(latitude, longitude);
+        return patchAndIndex(doctorId, FieldPatch.create()
+            .set("location", new GeoJsonPoint(longitude, latitude)));
     }
 
     @Override
     public Doctor updateConsultationInfo(String doctorId, BigDecimal fee, Integer duration) {
-        Doctor doctor = findByIdOrThrow(doctorId);
-        doctor.setConsultationFee(fee);
-        doctor.setConsultationDurationMinutes(duration);
-        return doctorRepository.save(doctor);
+        return patchAndIndex(doctorId, FieldPatch.create()
+            .set("consultationFee", fee)
+            .set("consultationDurationMinutes", duration));
     }
 
     @Override
     public Doctor addCertification(String doctorId, Doctor.Certification certification) {
-        Doctor doctor = findByIdOrThrow(doctorId);
-        List<Doctor.Certification> certifications = doctor.getCertifications();
-        if (certifications != null) {
-            certifications.add(certification);
-        }
-        return doctorRepository.save(doctor);
+        return patchAndIndex(doctorId, FieldPatch.create()
+            .push("certifications", certification));
     }
 
     @Override
     public Doctor updateVerificationStatus(String doctorId, Doctor.VerificationStatus status) {
-        Doctor doctor = findByIdOrThrow(doctorId);
-        doctor.setVerificationStatus(status);
-        if (status == Doctor.VerificationStatus.VERIFIED) {
-            doctor.setVerificationDate(LocalDate.now());
-        }
-        return doctorRepository.save(doctor);
+        return patchAndIndex(doctorId, verificationPatch(status));
+    }
+
+    @Override
+    public BulkWriteReport updateVerificationStatuses(List<String> doctorIds, Doctor.VerificationStatus status) {
+        log.debug("Bulk updating verification status of {} doctors to {}", doctorIds.size(), status);
+        // Toplu yazılar kayıt dinleyicilerini tetiklemez; güncellenen parça tek sorguyla okunup indekslenir
+        return bulkUpdater.update(Doctor.class, doctorIds, verificationPatch(status),
+            updatedIds -> doctorRepository.findAllById(updatedIds).forEach(this::syncIndexes));
     }
 
     // === SEARCH & FILTER ===
@@ -131,19 +184,48 @@ public class DoctorServiceImpl implements DoctorService {
     @Override
     @Transactional(readOnly = true)
     public Page<Doctor> searchDoctors(String searchTerm, Pageable pageable) {
-        return doctorRepository.searchDoctors(searchTerm, pageable);
+        // Eşleştirme bellekte yapılır, Mongo'dan sadece sonuç sayfası yüklenir
+        DoctorSearchIndex.SearchResult result =
+            doctorSearchIndex.search(searchTerm, pageable.getOffset(), pageable.getPageSize());
+        return new PageImpl<>(findAllByIdInOrder(result.ids()), pageable, result.total());
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<Doctor> findBySpecialty(String specialty) {
-        return doctorRepository.findBySpecialtyContaining(specialty);
+        return doctorRepository.findBySpecialtyPrefix(TextUtils.prefixRegex(specialty));
+    }
+
+    @Override
+    public Stream<Doctor> streamAllForExport() {
+        return doctorRepository.streamAllForExport();
+    }
+
+    @Override
+    public Stream<Doctor> streamBySpecialtyForExport(String specialty) {
+        return doctorRepository.streamBySpecialtyPrefixForExport(TextUtils.prefixRegex(specialty));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<Doctor> findByLocation(String province, String district) {
-        return doctorRepository.findByProvinceAndDistrictAndDeletedFalse(province, district);
+    public Page<Doctor> findByLocation(String province, String district, Pageable pageable) {
+        if (district == null || district.isBlank()) {
+            return doctorRepository.findByProvinceAndDeletedFalse(province, pageable);
+        }
+        return doctorRepository.findByProvinceAndDistrictAndDeletedFalse(province, district, pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<GeoResult<Doctor>> findNearbyDoctors(double latitude, double longitude, double radiusKm,
+                                                     DoctorSearchCriteria criteria, Pageable pageable) {
+        validateCoordinates(latitude, longitude);
+        if (radiusKm <= 0 || radiusKm > MAX_NEARBY_RADIUS_KM) {
+            throw new BusinessException(ErrorCodes.INVALID_LOCATION);
+        }
+
+        return doctorRepository.findNearbyDoctors(new GeoJsonPoint(longitude, latitude),
+            new Distance(radiusKm, Metrics.KILOMETERS), criteria, pageable);
     }
 
     @Override
@@ -160,9 +242,13 @@ public class DoctorServiceImpl implements DoctorService {
 
     @Override
     @Transactional(readOnly = true)
-    public Page<Doctor> findDoctorsWithFilters(String specialty, String province, 
-                                             Double minRating, BigDecimal maxFee, Pageable pageable) {
-        return doctorRepository.findDoctorsWithFilters(specialty, province, minRating, maxFee, pageable);
+    public Page<Doctor> findDoctorsWithFilters(DoctorSearchCriteria criteria, Pageable pageable) {
+        return doctorRepository.findDoctorsWithFilters(criteria, pageable);
+    }
+
+    @Override
+    public DoctorSearchFacets getSearchFacets(DoctorSearchCriteria criteria) {
+        return doctorFacetCache.get(criteria, () -> doctorRepository.findSearchFacets(criteria));
     }
 
     // === APPOINTMENT MANAGEMENT ===
@@ -170,11 +256,15 @@ public class DoctorServiceImpl implements DoctorService {
     @Override
     public Doctor updateAppointmentStatistics(String doctorId, int totalAppointments, 
                                              int completedAppointments, int cancelledAppointments) {
-        Doctor doctor = findByIdOrThrow(doctorId);
-        doctor.setTotalAppointments(totalAppointments);
-        doctor.setCompletedAppointments(completedAppointments);
-        doctor.setCancelledAppointments(cancelledAppointments);
-        return doctorRepository.save(doctor);
+        return syncIndexes(partialUpdater.patchWithPipeline(Doctor.class, doctorId,
+            AppointmentCounterUpdates.set(totalAppointments, completedAppointments, cancelledAppointments)));
+    }
+
+    @Override
+    public Doctor incrementAppointmentStatistics(String doctorId, int totalDelta,
+                                                int completedDelta, int cancelledDelta) {
+        return syncIndexes(partialUpdater.patchWithPipeline(Doctor.class, doctorId,
+            AppointmentCounterUpdates.increment(totalDelta, completedDelta, cancelledDelta)));
     }
 
     @Override
@@ -183,6 +273,11 @@ public class DoctorServiceImpl implements DoctorService {
         return doctorRepository.findDoctorsWithHighCompletionRate(minRate);
     }
 
+    @Override
+    public List<DailySlotsDto> findFreeSlots(String doctorId, LocalDate from, LocalDate to) {
+        return doctorSlotEngine.findFreeSlots(doctorId, from, to);
+    }
+
     // === VALIDATION ===
 
     @Override
@@ -216,18 +311,80 @@ public class DoctorServiceImpl implements DoctorService {
     @Override
     @Transactional(readOnly = true)
     public long countDoctorsBySpecialty(String specialty) {
-        return doctorRepository.countByPrimarySpecialtyAndDeletedFalse(specialty);
+        return doctorRepository.countByPrimarySpecialtyNormalizedAndDeletedFalse(TextUtils.foldTurkish(specialty));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<Doctor> findTopRatedDoctors(int limit) {
-        return doctorRepository.findAllOrderByAverageRatingDesc(
-            org.springframework.data.domain.PageRequest.of(0, limit));
+    public List<DoctorDto> findTopRatedDoctors(int limit, String specialty, String province) {
+        int boundedLimit = Math.max(1, Math.min(limit, AppConstants.MAX_PAGE_SIZE));
+        return doctorLeaderboard.top(boundedLimit, specialty, province);
+    }
+
+    @Override
+    public CacheStats getProfileCacheStats() {
+        return doctorProfileCache.stats();
     }
 
     // === HELPER METHODS ===
 
+    /**
+     * Tüm doktor yazmaları buradan geçer: arama indeksi, slot şablonu,
+     * profil önbelleği ve liderlik tabloları kaydedilen haliyle senkron tutulur
+     */
+    private Doctor saveAndIndex(Doctor doctor) {
+        Doctor savedDoctor = doctorRepository.save(doctor);
+        doctorSearchIndex.index(savedDoctor);
+        doctorSlotEngine.onDoctorChanged(savedDoctor);
+        doctorProfileCache.evict(savedDoctor.getId());
+        doctorLeaderboard.update(savedDoctor);
+        return savedDoctor;
+    }
+
+    /**
+     * Alan bazlı güncelleme; saveAndIndex ile aynı senkronizasyonu güncel belge
+     * üzerinden yapar
+     */
+    private Doctor patchAndIndex(String doctorId, FieldPatch patch) {
+        return patchAndIndex(doctorId, null, patch);
+    }
+
+    private Doctor patchAndIndex(String doctorId, Long expectedVersion, FieldPatch patch) {
+        return syncIndexes(partialUpdater.patch(Doctor.class, doctorId, expectedVersion, patch));
+    }
+
+    private FieldPatch verificationPatch(Doctor.VerificationStatus status) {
+        FieldPatch patch = FieldPatch.create().set("verificationStatus", status);
+        if (status == Doctor.VerificationStatus.VERIFIED) {
+            patch.set("verificationDate", LocalDate.now());
+        }
+        return patch;
+    }
+
+    private Doctor syncIndexes(Doctor updatedDoctor) {
+        doctorSearchIndex.index(updatedDoctor);
+        doctorSlotEngine.onDoctorChanged(updatedDoctor);
+        doctorProfileCache.evict(updatedDoctor.getId());
+        doctorLeaderboard.update(updatedDoctor);
+        return updatedDoctor;
+    }
+
+    private List<Doctor> findAllByIdInOrder(List<String> ids) {
+        Map<String, Doctor> doctorsById = doctorRepository.findAllById(ids).stream()
+            .filter(doctor -> !doctor.isDeleted())
+            .collect(Collectors.toMap(Doctor::getId, Function.identity()));
+        return ids.stream()
+            .map(doctorsById::get)
+            .filter(Objects::nonNull)
+            .toList();
+    }
+
+    private void validateCoordinates(double latitude, double longitude) {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new BusinessException(ErrorCodes.INVALID_LOCATION);
+        }
+    }
+
     private Doctor findByIdOrThrow(String id) {
         return doctorRepository.findById(id)
             .filter(doctor -> !doctor.isDeleted())
@@ -246,43 +403,27 @@ public class DoctorServiceImpl implements DoctorService {
         }
     }
 
-    private void updateDoctorFields(Doctor existingDoctor, Doctor newDoctor) {
-        // Professional info
-        if (newDoctor.getBiography() != null) {
-            existingDoctor.setBiography(newDoctor.getBiography());
-        }
-        if (newDoctor.getCurriculum() != null) {
-            existingDoctor.setCurriculum(newDoctor.getCurriculum());
-        }
-        if (newDoctor.getPrimarySpecialty() != null) {
-            existingDoctor.setPrimarySpecialty(newDoctor.getPrimarySpecialty());
-        }
+    private FieldPatch doctorFieldsPatch(Doctor newDoctor) {
+        FieldPatch patch = FieldPatch.create()
+            // Professional info
+            .setIfNotNull("biography", newDoctor.getBiography())
+            .setIfNotNull("curriculum", newDoctor.getCurriculum())
+            // Working hours
+            .setIfNotNull("workingDays", newDoctor.getWorkingDays())
+            .setIfNotNull("workingHoursStart", newDoctor.getWorkingHoursStart())
+            .setIfNotNull("workingHoursEnd", newDoctor.getWorkingHoursEnd())
+            // Consultation info
+            .setIfNotNull("consultationFee", newDoctor.getConsultationFee())
+            .setIfNotNull("consultationDurationMinutes", newDoctor.getConsultationDurationMinutes())
+            // Availability
+            .setIfNotNull("isAcceptingNewPatients", newDoctor.getIsAcceptingNewPatients())
+            .setIfNotNull("isAvailableForEmergencies", newDoctor.getIsAvailableForEmergencies());
         
-        // Working hours
-        if (newDoctor.getWorkingDays() != null) {
-            existingDoctor.setWorkingDays(newDoctor.getWorkingDays());
-        }
-        if (newDoctor.getWorkingHoursStart() != null) {
-            existingDoctor.setWorkingHoursStart(newDoctor.getWorkingHoursStart());
-        }
-        if (newDoctor.getWorkingHoursEnd() != null) {
-            existingDoctor.setWorkingHoursEnd(newDoctor.getWorkingHoursEnd());
-        }
-        
-        // Consultation info
-        if (newDoctor.getConsultationFee() != null) {
-            existingDoctor.setConsultationFee(newDoctor.getConsultationFee());
-        }
-        if (newDoctor.getConsultationDurationMinutes() != null) {
-            existingDoctor.setConsultationDurationMinutes(newDoctor.getConsultationDurationMinutes());
-        }
-        
-        // Availability
-        if (newDoctor.getIsAcceptingNewPatients() != null) {
-            existingDoctor.setIsAcceptingNewPatients(newDoctor.getIsAcceptingNewPatients());
-        }
-        if (newDoctor.getIsAvailableForEmergencies() != null) {
-            existingDoctor.setIsAvailableForEmergencies(newDoctor.getIsAvailableForEmergencies());
+        // Normalize kopya BeforeConvertCallback'e uğramadığı için burada yazılır
+        if (newDoctor.getPrimarySpecialty() != null) {
+            patch.set("primarySpecialty", newDoctor.getPrimarySpecialty())
+                .set("primarySpecialtyNormalized", TextUtils.foldTurkish(newDoctor.getPrimarySpecialty()));
         }
+        return patch;
     }
 }
\ No newline at end of file
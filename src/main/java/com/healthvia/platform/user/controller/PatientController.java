@@ -1,12 +1,17 @@
 // user/controller/PatientController.java
 package com.healthvia.platform.user.controller;
 
+import java.io.IOException;
 import java.time.LocalDate;
 import java.util.List;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -17,13 +22,23 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.healthvia.platform.common.dto.ApiResponse;
+import com.healthvia.platform.common.dto.BulkWriteReport;
+import com.healthvia.platform.common.export.ExportFormat;
+import com.healthvia.platform.common.export.StreamingExporter;
 import com.healthvia.platform.common.util.SecurityUtils;
+import com.healthvia.platform.user.dto.PatientDto;
+import com.healthvia.platform.user.dto.PatientImportReport;
 import com.healthvia.platform.user.entity.Patient;
+import com.healthvia.platform.user.entity.PatientImportJob;
+import com.healthvia.platform.user.entity.PatientImportJob.ImportFormat;
 import com.healthvia.platform.user.entity.User;
+import com.healthvia.platform.user.service.PatientImportService;
 import com.healthvia.platform.user.service.PatientService;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
@@ -33,6 +48,8 @@ import lombok.RequiredArgsConstructor;
 public class PatientController {
 
     private final PatientService patientService;
+    private final PatientImportService patientImportService;
+    private final StreamingExporter streamingExporter;
 
     // === PUBLIC ENDPOINTS ===
     
@@ -215,6 +232,104 @@ public class PatientController {
         return ApiResponse.success("Patient deleted successfully");
     }
 
+    // === BULK OPERATIONS ===
+    
+    @PostMapping("/bulk/health-info")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ApiResponse<BulkWriteReport> updatePatientsHealthInfo(
+            @RequestBody List<String> patientIds,
+            @RequestParam String allergies) {
+        BulkWriteReport report = patientService.updatePatientsHealthInfo(patientIds, allergies);
+        return ApiResponse.success(report, "Bulk health info update completed");
+    }
+    
+    @PostMapping("/bulk/insurance-status")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ApiResponse<BulkWriteReport> updatePatientsInsuranceStatus(
+            @RequestBody List<String> patientIds,
+            @RequestParam boolean hasInsurance) {
+        BulkWriteReport report = patientService.updatePatientsInsuranceStatus(patientIds, hasInsurance);
+        return ApiResponse.success(report, "Bulk insurance status update completed");
+    }
+    
+    // === IMPORT ===
+    
+    /**
+     * Gövde akış halinde okunur (NDJSON: satır başına bir JSON nesnesi,
+     * CSV: alan adlarını içeren başlık satırı). Yarıda kalan aktarım resumeJobId
+     * ile aynı dosya tekrar gönderilerek sürdürülür.
+     */
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_NDJSON_VALUE, "text/csv"})
+    @PreAuthorize("hasRole('ADMIN')")
+    public ApiResponse<PatientImportReport> importPatients(
+            HttpServletRequest request,
+            @RequestParam(required = false) String resumeJobId) throws IOException {
+        ImportFormat format = MediaType.parseMediaType(request.getContentType()).isCompatibleWith(MediaType.APPLICATION_NDJSON)
+            ? ImportFormat.NDJSON
+            : ImportFormat.CSV;
+        String startedBy = SecurityUtils.getCurrentUserId();
+        PatientImportReport report = patientImportService.importPatients(
+            request.getInputStream(), format, resumeJobId, startedBy);
+        return ApiResponse.success(report, "Patient import " + report.getStatus().toLowerCase());
+    }
+    
+    @GetMapping("/import/{jobId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ApiResponse<PatientImportJob> getImportJob(@PathVariable String jobId) {
+        return patientImportService.findJob(jobId)
+            .map(ApiResponse::success)
+            .orElse(ApiResponse.error("Import job not found"));
+    }
+
+    // === EXPORT ENDPOINTS ===
+    // Kayıtlar cursor'dan yanıt gövdesine akıtılır; filtreler liste uçlarıyla aynıdır
+
+    @GetMapping("/me/export")
+    @PreAuthorize("hasRole('PATIENT')")
+    public ResponseEntity<String> exportMyData() {
+        String patientId = SecurityUtils.getCurrentUserId();
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("patient-data.json")
+                .build()
+                .toString())
+            .body(patientService.exportPatientData(patientId));
+    }
+
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportPatients(
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format) {
+        return streamingExporter.export("patients", format, PatientDto.EXPORT_COLUMNS,
+            patientService::streamAllForExport);
+    }
+
+    @GetMapping("/by-blood-type/{bloodType}/export")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('DOCTOR')")
+    public ResponseEntity<StreamingResponseBody> exportPatientsByBloodType(
+            @PathVariable String bloodType,
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format) {
+        return streamingExporter.export("patients-blood-type", format, PatientDto.EXPORT_COLUMNS,
+            () -> patientService.streamByBloodTypeForExport(bloodType));
+    }
+
+    @GetMapping("/with-allergies/export")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('DOCTOR')")
+    public ResponseEntity<StreamingResponseBody> exportPatientsWithAllergies(
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format) {
+        return streamingExporter.export("patients-with-allergies", format, PatientDto.EXPORT_COLUMNS,
+            patientService::streamPatientsWithAllergiesForExport);
+    }
+
+    @GetMapping("/with-chronic-diseases/export")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('DOCTOR')")
+    public ResponseEntity<StreamingResponseBody> exportPatientsWithChronicDiseases(
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format) {
+        return streamingExporter.export("patients-with-chronic-diseases", format, PatientDto.EXPORT_COLUMNS,
+            patientService::streamPatientsWithChronicDiseasesForExport);
+    }
+
     // === SEARCH & FILTER ENDPOINTS ===
     
     @GetMapping("/by-blood-type/{bloodType}")
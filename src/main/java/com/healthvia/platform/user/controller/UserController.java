@@ -1,6 +1,8 @@
 // user/controller/UserController.java
 package com.healthvia.platform.user.controller;
 
+import java.util.List;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
@@ -15,7 +17,10 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.healthvia.platform.auth.identity.UserIdentityIndex;
+import com.healthvia.platform.auth.security.UserPrincipal;
 import com.healthvia.platform.common.dto.ApiResponse;
+import com.healthvia.platform.common.dto.BulkWriteReport;
 import com.healthvia.platform.common.enums.UserRole;
 import com.healthvia.platform.common.enums.UserStatus;
 import com.healthvia.platform.common.util.SecurityUtils;
@@ -31,14 +36,18 @@ import lombok.RequiredArgsConstructor;
 public class UserController {
 
     private final UserService userService;
+    private final UserIdentityIndex userIdentityIndex;
 
     // === PUBLIC ENDPOINTS ===
     
     @GetMapping("/me")
     @PreAuthorize("isAuthenticated()")
     public ApiResponse<User> getCurrentUser() {
-        String userId = SecurityUtils.getCurrentUserId();
-        return userService.findById(userId)
+        // Rol token'dan bilindiği için kullanıcı doğrudan kendi koleksiyonundan okunur
+        UserPrincipal principal = SecurityUtils.getCurrentUser()
+            .orElseThrow(() -> new IllegalStateException("User not authenticated"));
+        return userIdentityIndex.loadUser(principal.getId(), principal.getRole())
+            .filter(user -> !user.isDeleted())
             .map(ApiResponse::success)
             .orElse(ApiResponse.error("User not found"));
     }
@@ -107,7 +116,7 @@ public class UserController {
     }
     
     @DeleteMapping("/{id}")
-    @PreAuthorize("hasRole('ADMIN')")
+    @PreAuthorize("hasRole('ADMIN') and @principalFreshness.isCurrent()")
     public ApiResponse<Void> deleteUser(@PathVariable String id) {
         String deletedBy = SecurityUtils.getCurrentUserId();
         userService.deleteUser(id, deletedBy);
@@ -117,7 +126,7 @@ public class UserController {
     // === USER STATUS MANAGEMENT ===
     
     @PostMapping("/{id}/activate")
-    @PreAuthorize("hasRole('ADMIN')")
+    @PreAuthorize("hasRole('ADMIN') and @principalFreshness.isCurrent()")
     public ApiResponse<User> activateUser(@PathVariable String id) {
         String activatedBy = SecurityUtils.getCurrentUserId();
         User activatedUser = userService.activateUser(id, activatedBy);
@@ -125,7 +134,7 @@ public class UserController {
     }
     
     @PostMapping("/{id}/suspend")
-    @PreAuthorize("hasRole('ADMIN')")
+    @PreAuthorize("hasRole('ADMIN') and @principalFreshness.isCurrent()")
     public ApiResponse<User> suspendUser(
             @PathVariable String id,
             @RequestParam String reason) {
@@ -133,6 +142,16 @@ public class UserController {
         User suspendedUser = userService.suspendUser(id, reason, suspendedBy);
         return ApiResponse.success(suspendedUser, "User suspended successfully");
     }
+    
+    @PostMapping("/bulk/status")
+    @PreAuthorize("hasRole('ADMIN') and @principalFreshness.isCurrent()")
+    public ApiResponse<BulkWriteReport> updateUsersStatus(
+            @RequestBody List<String> userIds,
+            @RequestParam UserStatus status) {
+        String updatedBy = SecurityUtils.getCurrentUserId();
+        BulkWriteReport report = userService.updateUsersStatus(userIds, status, updatedBy);
+        return ApiResponse.success(report, "Bulk status update completed");
+    }
 
     // === EMAIL/PHONE VERIFICATION ===
     
@@ -224,7 +243,7 @@ public class UserController {
     }
     
     @PostMapping("/{id}/restore")
-    @PreAuthorize("hasRole('ADMIN')")
+    @PreAuthorize("hasRole('ADMIN') and @principalFreshness.isCurrent()")
     public ApiResponse<User> restoreDeletedUser(@PathVariable String id) {
         String restoredBy = SecurityUtils.getCurrentUserId();
         User restoredUser = userService.restoreDeletedUser(id, restoredBy);
@@ -232,7 +251,7 @@ public class UserController {
     }
     
     @DeleteMapping("/{id}/permanent")
-    @PreAuthorize("hasRole('ADMIN')")
+    @PreAuthorize("hasRole('ADMIN') and @principalFreshness.isCurrent()")
     public ApiResponse<Void> permanentlyDeleteUser(@PathVariable String id) {
         String deletedBy = SecurityUtils.getCurrentUserId();
         userService.permanentlyDeleteUser(id, deletedBy);
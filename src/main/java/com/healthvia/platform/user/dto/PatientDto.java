@@ -7,6 +7,7 @@ import java.time.LocalDateTime;
 import com.healthvia.platform.common.enums.Language;
 import com.healthvia.platform.common.enums.UserRole;
 import com.healthvia.platform.common.enums.UserStatus;
+import com.healthvia.platform.common.export.ExportColumns;
 import com.healthvia.platform.user.entity.Patient;
 import com.healthvia.platform.user.entity.User;
 
@@ -127,6 +128,41 @@ public class PatientDto {
         return (completedAppointments != null ? completedAppointments : 0) * 100.0 / totalAppointments;
     }
     
+    // === EXPORT ===
+    
+    /**
+     * Toplu export kolonları. Adlar PatientImportRow alanlarıyla aynıdır; CSV/NDJSON
+     * çıktısı içe aktarmaya geri verilebilir (CSV'de satır sonları boşluğa çevrilir, formül
+     * önekini içe aktarma kaldırır). Okunan alanlar PatientRepository.EXPORT_FIELDS ile sınırlıdır.
+     */
+    public static final ExportColumns<Patient> EXPORT_COLUMNS = ExportColumns.of(Patient.class)
+        .add("id", Patient::getId)
+        .add("firstName", Patient::getFirstName)
+        .add("lastName", Patient::getLastName)
+        .add("email", Patient::getEmail)
+        .add("phone", Patient::getPhone)
+        .add("gender", Patient::getGender)
+        .add("birthDate", Patient::getBirthDate)
+        .add("tcKimlikNo", Patient::getTcKimlikNo)
+        .add("passportNo", Patient::getPassportNo)
+        .add("province", Patient::getProvince)
+        .add("district", Patient::getDistrict)
+        .add("bloodType", Patient::getBloodType)
+        .add("heightCm", Patient::getHeightCm)
+        .add("weightKg", Patient::getWeightKg)
+        .add("allergies", Patient::getAllergies)
+        .add("chronicDiseases", Patient::getChronicDiseases)
+        .add("currentMedications", Patient::getCurrentMedications)
+        .add("hasInsurance", Patient::isHasInsurance)
+        .add("insuranceCompany", Patient::getInsuranceCompany)
+        .add("insuranceExpiryDate", Patient::getInsuranceExpiryDate)
+        .add("emergencyContactName", Patient::getEmergencyContactName)
+        .add("emergencyContactPhone", Patient::getEmergencyContactPhone)
+        .add("totalAppointments", Patient::getTotalAppointments)
+        .add("lastAppointmentDate", Patient::getLastAppointmentDate)
+        .add("status", Patient::getStatus)
+        .add("createdAt", Patient::getCreatedAt);
+    
     // === FACTORY METHODS ===
     
     public static PatientDto fromEntity(Patient patient) {
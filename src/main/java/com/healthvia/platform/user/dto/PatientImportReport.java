@@ -0,0 +1,44 @@
+// user/dto/PatientImportReport.java
+package com.healthvia.platform.user.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Hasta aktarımının sonucu. lastCommittedLine'a kadarki tüm satırlar yazılmış
+ * veya reddedilmiştir; aktarım jobId ile bu satırdan sonrası için sürdürülebilir.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PatientImportReport {
+
+    private String jobId;
+    private String status;
+    private long rowsRead;
+    private long rowsSkipped;
+    private long imported;
+    private long rejected;
+    private long lastCommittedLine;
+    private long durationMillis;
+    private double rowsPerSecond;
+
+    // Yanıtı sınırlı tutmak için yalnızca ilk reddedilen satırlar listelenir
+    @Builder.Default
+    private List<RejectedRow> rejects = new ArrayList<>();
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RejectedRow {
+        private long line;
+        private String reason;
+    }
+}
@@ -0,0 +1,54 @@
+// user/dto/PatientImportRow.java
+package com.healthvia.platform.user.dto;
+
+import java.time.LocalDate;
+
+import com.healthvia.platform.user.entity.User;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Toplu hasta aktarımında tek bir satır (NDJSON nesnesi veya CSV satırı).
+ * CSV başlıkları bu alanların adlarıyla eşleşir.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PatientImportRow {
+
+    // === KİMLİK ===
+    private String tcKimlikNo;
+    private String passportNo;
+
+    // === KİŞİSEL BİLGİLER ===
+    private String firstName;
+    private String lastName;
+    private String email;
+    private String phone;
+    private User.Gender gender;
+    private LocalDate birthDate;
+    private String birthPlace;
+
+    // === ADRES ===
+    private String province;
+    private String district;
+    private String address;
+    private String postalCode;
+
+    // === SAĞLIK BİLGİLERİ ===
+    private String bloodType;
+    private Integer heightCm;
+    private Double weightKg;
+    private String allergies;
+    private String chronicDiseases;
+    private String currentMedications;
+
+    // === ACİL DURUM ===
+    private String emergencyContactName;
+    private String emergencyContactPhone;
+    private String emergencyContactRelationship;
+}
@@ -132,6 +132,11 @@ public class Patient extends User {
     @Field("cancelled_appointments")
     private Integer cancelledAppointments = 0;
 
+    // completed / total (0-1); sayaçlarla aynı atomik update'te yazılır
+    @Indexed(sparse = true)
+    @Field("appointment_completion_ratio")
+    private Double appointmentCompletionRatio;
+
     @Field("last_appointment_date")
     private LocalDate lastAppointmentDate;
 
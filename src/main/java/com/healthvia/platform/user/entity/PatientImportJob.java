@@ -0,0 +1,70 @@
+// user/entity/PatientImportJob.java
+package com.healthvia.platform.user.entity;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Toplu hasta aktarımının ilerleme kaydı (checkpoint).
+ *
+ * Her batch yazıldıktan sonra lastCommittedLine güncellenir; bağlantı koparsa
+ * veya istek yarıda kalırsa aktarım aynı dosya ile bu satırdan sonrasından
+ * sürdürülür.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "patient_import_jobs")
+public class PatientImportJob {
+
+    @Id
+    private String id;
+
+    private ImportStatus status;
+
+    private ImportFormat format;
+
+    @Field("last_committed_line")
+    private long lastCommittedLine;
+
+    private long imported;
+
+    private long rejected;
+
+    @Field("started_by")
+    private String startedBy;
+
+    @Field("started_at")
+    private LocalDateTime startedAt;
+
+    @Field("updated_at")
+    private LocalDateTime updatedAt;
+
+    @Field("finished_at")
+    private LocalDateTime finishedAt;
+
+    @Field("failure_reason")
+    private String failureReason;
+
+    // === NESTED ENUMS ===
+
+    public enum ImportStatus {
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    public enum ImportFormat {
+        NDJSON,
+        CSV
+    }
+}
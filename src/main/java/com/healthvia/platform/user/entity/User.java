@@ -5,6 +5,9 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Set;
 
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+import org.springframework.data.mongodb.core.index.GeoSpatialIndexType;
+import org.springframework.data.mongodb.core.index.GeoSpatialIndexed;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
@@ -71,6 +74,9 @@ public class User extends BaseEntity {
     @Size(max = 50, message = "İlçe adı en fazla 50 karakter olabilir") 
     private String district;
 
+    @GeoSpatialIndexed(type = GeoSpatialIndexType.GEO_2DSPHERE)
+    private GeoJsonPoint location; // [boylam, enlem]
+
     // === SİSTEM BİLGİLERİ ===
     @NotNull(message = "Kullanıcı rolü belirtilmelidir")
     private UserRole role;
@@ -93,6 +99,7 @@ public class User extends BaseEntity {
     @Field("failed_login_attempts")
     private Integer failedLoginAttempts;
 
+    @Indexed(sparse = true)
     @Field("account_locked_until")
     private LocalDateTime accountLockedUntil;
 
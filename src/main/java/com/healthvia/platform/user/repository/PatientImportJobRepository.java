@@ -0,0 +1,11 @@
+// user/repository/PatientImportJobRepository.java
+package com.healthvia.platform.user.repository;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import com.healthvia.platform.user.entity.PatientImportJob;
+
+@Repository
+public interface PatientImportJobRepository extends MongoRepository<PatientImportJob, String> {
+}
@@ -4,9 +4,11 @@ package com.healthvia.platform.user.repository;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.Meta;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -17,6 +19,24 @@ import com.healthvia.platform.user.entity.User;
 @Repository
 public interface PatientRepository extends MongoRepository<Patient, String> {
 
+    // Liste uçları ve export aynı filtreyi kullanır
+    String WITH_ALLERGIES_FILTER = "{ 'allergies': { $nin: [null, ''] }, 'deleted': false }";
+    String WITH_CHRONIC_DISEASES_FILTER = "{ 'chronicDiseases': { $nin: [null, ''] }, 'deleted': false }";
+
+    /**
+     * Export'un (PatientDto.EXPORT_COLUMNS) ihtiyaç duyduğu alanlar; cursor'dan
+     * yalnızca bunlar okunur
+     */
+    String EXPORT_FIELDS = "{ 'firstName': 1, 'lastName': 1, 'email': 1, 'phone': 1, 'gender': 1, "
+        + "'birthDate': 1, 'tcKimlikNo': 1, 'passportNo': 1, 'province': 1, 'district': 1, "
+        + "'bloodType': 1, 'heightCm': 1, 'weightKg': 1, 'allergies': 1, 'chronicDiseases': 1, "
+        + "'currentMedications': 1, 'hasInsurance': 1, 'insuranceCompany': 1, 'insuranceExpiryDate': 1, "
+        + "'emergencyContactName': 1, 'emergencyContactPhone': 1, 'totalAppointments': 1, "
+        + "'lastAppointmentDate': 1, 'status': 1, 'createdAt': 1 }";
+
+    // Export cursor'unun getMore başına getirdiği belge sayısı
+    int EXPORT_CURSOR_BATCH_SIZE = 500;
+
     // === IDENTITY BASED QUERIES ===
     
     /**
@@ -61,13 +81,13 @@ public interface PatientRepository extends MongoRepository<Patient, String> {
     /**
      * Alerjisi olan hastalar
      */
-    @Query("{ 'allergies': { $ne: null, $ne: '' }, 'deleted': false }")
+    @Query(WITH_ALLERGIES_FILTER)
     List<Patient> findPatientsWithAllergies();
     
     /**
      * Kronik hastalığı olan hastalar
      */
-    @Query("{ 'chronicDiseases': { $ne: null, $ne: '' }, 'deleted': false }")
+    @Query(WITH_CHRONIC_DISEASES_FILTER)
     List<Patient> findPatientsWithChronicDiseases();
     
     /**
@@ -159,7 +179,7 @@ public interface PatientRepository extends MongoRepository<Patient, String> {
     /**
      * Randevu tamamlama oranı yüksek hastalar
      */
-    @Query("{ $expr: { $gte: [ { $divide: ['$completedAppointments', '$totalAppointments'] }, ?0 ] }, 'deleted': false }")
+    @Query("{ 'appointmentCompletionRatio': { $gte: ?0 }, 'deleted': false }")
     List<Patient> findPatientsWithHighCompletionRate(double minCompletionRate);
     
     /**
@@ -196,7 +216,7 @@ public interface PatientRepository extends MongoRepository<Patient, String> {
     /**
      * Acil durum iletişimi olan hastalar
      */
-    @Query("{ 'emergencyContactName': { $ne: null, $ne: '' }, 'emergencyContactPhone': { $ne: null, $ne: '' }, 'deleted': false }")
+    @Query("{ 'emergencyContactName': { $nin: [null, ''] }, 'emergencyContactPhone': { $nin: [null, ''] }, 'deleted': false }")
     List<Patient> findPatientsWithEmergencyContact();
     
     /**
@@ -263,8 +283,8 @@ public interface PatientRepository extends MongoRepository<Patient, String> {
      * Sağlık sorunu olan hasta sayısı
      */
     @Query("{ $or: [ " +
-           "{'allergies': { $ne: null, $ne: '' }}, " +
-           "{'chronicDiseases': { $ne: null, $ne: '' }} " +
+           "{'allergies': { $nin: [null, ''] }}, " +
+           "{'chronicDiseases': { $nin: [null, ''] }} " +
            "], 'deleted': false }")
     long countPatientsWithHealthIssues();
 
@@ -281,4 +301,23 @@ public interface PatientRepository extends MongoRepository<Patient, String> {
      */
     @Query("{ 'deleted': false }")
     List<Patient> findTopPatientsByAppointmentCount(Pageable pageable);
-}
\ No newline at end of file
+
+    // === EXPORT (CURSOR) ===
+    // Dönen Stream açık bir cursor'dır; çağıran kapatmalıdır
+
+    @Query(value = "{ 'deleted': false }", fields = EXPORT_FIELDS)
+    @Meta(cursorBatchSize = EXPORT_CURSOR_BATCH_SIZE)
+    Stream<Patient> streamAllForExport();
+
+    @Query(value = "{ 'bloodType': ?0, 'deleted': false }", fields = EXPORT_FIELDS)
+    @Meta(cursorBatchSize = EXPORT_CURSOR_BATCH_SIZE)
+    Stream<Patient> streamByBloodTypeForExport(String bloodType);
+
+    @Query(value = WITH_ALLERGIES_FILTER, fields = EXPORT_FIELDS)
+    @Meta(cursorBatchSize = EXPORT_CURSOR_BATCH_SIZE)
+    Stream<Patient> streamPatientsWithAllergies();
+
+    @Query(value = WITH_CHRONIC_DISEASES_FILTER, fields = EXPORT_FIELDS)
+    @Meta(cursorBatchSize = EXPORT_CURSOR_BATCH_SIZE)
+    Stream<Patient> streamPatientsWithChronicDiseases();
+}
@@ -0,0 +1,27 @@
+// user/service/PatientImportService.java
+package com.healthvia.platform.user.service;
+
+import java.io.InputStream;
+import java.util.Optional;
+
+import com.healthvia.platform.user.dto.PatientImportReport;
+import com.healthvia.platform.user.entity.PatientImportJob;
+
+/**
+ * Hastane geçişlerinde toplu hasta aktarımı (NDJSON/CSV)
+ */
+public interface PatientImportService {
+
+    /**
+     * Girdiyi satır satır okuyarak hastaları batch'ler halinde ekler.
+     * resumeJobId verilirse aynı dosyanın o aktarımda yazılmış satırları atlanır
+     * ve aktarımın kendi formatı kullanılır.
+     */
+    PatientImportReport importPatients(InputStream input, PatientImportJob.ImportFormat format,
+                                       String resumeJobId, String startedBy);
+
+    /**
+     * Aktarım ilerleme kaydı (checkpoint)
+     */
+    Optional<PatientImportJob> findJob(String jobId);
+}
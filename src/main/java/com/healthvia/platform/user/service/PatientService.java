@@ -4,10 +4,12 @@ package com.healthvia.platform.user.service;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import com.healthvia.platform.common.dto.BulkWriteReport;
 import com.healthvia.platform.user.entity.Patient;
 import com.healthvia.platform.user.entity.User;
 
@@ -181,6 +183,29 @@ public interface PatientService {
      * Belirli kronik hastalığı olan hastalar
      */
     List<Patient> findByChronicDisease(String disease);
+
+    // === EXPORT (STREAMING) ===
+    // Dönen Stream açık bir veritabanı cursor'ıdır; çağıran kapatmalıdır
+
+    /**
+     * Tüm aktif hastalar (export alanlarıyla)
+     */
+    Stream<Patient> streamAllForExport();
+
+    /**
+     * findByBloodType ile aynı filtre
+     */
+    Stream<Patient> streamByBloodTypeForExport(String bloodType);
+
+    /**
+     * findPatientsWithAllergies ile aynı filtre
+     */
+    Stream<Patient> streamPatientsWithAllergiesForExport();
+
+    /**
+     * findPatientsWithChronicDiseases ile aynı filtre
+     */
+    Stream<Patient> streamPatientsWithChronicDiseasesForExport();
     
     /**
      * Sağlık durumu arama
@@ -229,6 +254,12 @@ public interface PatientService {
     Patient updateAppointmentStatistics(String patientId, int totalAppointments, 
                                        int completedAppointments, int cancelledAppointments);
     
+    /**
+     * Randevu sayaçlarını atomik olarak artır; tamamlama oranı aynı update'te hesaplanır
+     */
+    Patient incrementAppointmentStatistics(String patientId, int totalDelta, 
+                                          int completedDelta, int cancelledDelta);
+    
     /**
      * Son randevu tarihini güncelle
      */
@@ -313,14 +344,14 @@ public interface PatientService {
     List<Patient> createPatients(List<Patient> patients);
     
     /**
-     * Toplu sağlık bilgisi güncelleme
+     * Toplu sağlık bilgisi güncelleme; kayıt bazında sonuç döner
      */
-    void updatePatientsHealthInfo(List<String> patientIds, String healthInfo);
+    BulkWriteReport updatePatientsHealthInfo(List<String> patientIds, String healthInfo);
     
     /**
-     * Toplu sigorta durumu güncelleme
+     * Toplu sigorta durumu güncelleme; kayıt bazında sonuç döner
      */
-    void updatePatientsInsuranceStatus(List<String> patientIds, boolean hasInsurance);
+    BulkWriteReport updatePatientsInsuranceStatus(List<String> patientIds, boolean hasInsurance);
 
     // === VALIDATION METHODS ===
     
@@ -7,6 +7,7 @@ import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import com.healthvia.platform.common.dto.BulkWriteReport;
 import com.healthvia.platform.common.enums.Language;
 import com.healthvia.platform.common.enums.UserRole;
 import com.healthvia.platform.common.enums.UserStatus;
@@ -156,6 +157,12 @@ public interface UserService {
      */
     User suspendUser(String userId, String reason, String suspendedBy);
     
+    /**
+     * Birden çok kullanıcının durumunu toplu güncelle (admin).
+     * Kullanıcılar hangi koleksiyonda tutuluyorsa orada güncellenir.
+     */
+    BulkWriteReport updateUsersStatus(List<String> userIds, UserStatus status, String updatedBy);
+    
     /**
      * Kullanıcı hesabını kalıcı sil (admin - hard delete)
      */
@@ -0,0 +1,523 @@
+// user/service/impl/PatientImportServiceImpl.java
+package com.healthvia.platform.user.service.impl;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.healthvia.platform.auth.entity.UniquenessClaim.ClaimType;
+import com.healthvia.platform.auth.identity.UniquenessClaimRegistry;
+import com.healthvia.platform.auth.identity.UserIdentityIndex;
+import com.healthvia.platform.common.constants.AppConstants;
+import com.healthvia.platform.common.constants.ErrorCodes;
+import com.healthvia.platform.common.enums.UserRole;
+import com.healthvia.platform.common.enums.UserStatus;
+import com.healthvia.platform.common.exception.BusinessException;
+import com.healthvia.platform.common.exception.ResourceNotFoundException;
+import com.healthvia.platform.common.util.CsvUtils;
+import com.healthvia.platform.user.dto.PatientImportReport;
+import com.healthvia.platform.user.dto.PatientImportRow;
+import com.healthvia.platform.user.entity.Patient;
+import com.healthvia.platform.user.entity.PatientImportJob;
+import com.healthvia.platform.user.entity.PatientImportJob.ImportFormat;
+import com.healthvia.platform.user.entity.PatientImportJob.ImportStatus;
+import com.healthvia.platform.user.repository.PatientImportJobRepository;
+import com.healthvia.platform.user.service.PatientImportService;
+import com.healthvia.platform.user.service.PatientService;
+import com.mongodb.ErrorCategory;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.client.model.InsertManyOptions;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Akış halinde hasta aktarımı.
+ *
+ * İstek gövdesi satır satır okunur; bellekte en fazla bir batch tutulur. Her
+ * batch için benzersiz değerler (email, telefon, TC kimlik no) tek bir bulk
+ * insert ile uniqueness_claims'e sahiplenilir, pasaport numaraları tek bir
+ * indeksli sorgu ile kontrol edilir ve kalan hastalar tek bir sırasız
+ * insertMany ile yazılır. Kimlik kayıtları da batch halinde eklenir. Her
+ * batch'ten sonra ilerleme patient_import_jobs'a yazılır.
+ *
+ * Hasta id'leri job id ve satır numarasından türetilir. Checkpoint'ten önce
+ * kesilen bir batch sürdürüldüğünde aynı satırlar aynı id'leri alır: önceki
+ * denemenin claim'leri aynı sahibe ait olduğundan çakışma sayılmaz, zaten
+ * yazılmış hastalar da aktarılmış kabul edilir.
+ */
+@Service
+@Slf4j
+public class PatientImportServiceImpl implements PatientImportService {
+
+    private static final int MAX_REPORTED_REJECTS = 1000;
+    private static final Pattern PHONE_PATTERN = Pattern.compile(AppConstants.PHONE_REGEX);
+
+    private final PatientService patientService;
+    private final PatientImportJobRepository patientImportJobRepository;
+    private final UniquenessClaimRegistry uniquenessClaimRegistry;
+    private final UserIdentityIndex userIdentityIndex;
+    private final MongoTemplate mongoTemplate;
+    private final AuditorAware<String> auditorAware;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+
+    public PatientImportServiceImpl(PatientService patientService,
+                                    PatientImportJobRepository patientImportJobRepository,
+                                    UniquenessClaimRegistry uniquenessClaimRegistry,
+                                    UserIdentityIndex userIdentityIndex,
+                                    MongoTemplate mongoTemplate,
+                                    AuditorAware<String> auditorAware,
+                                    ObjectMapper objectMapper,
+                                    @Value("${patient-import.batch-size:1000}") int batchSize) {
+        this.patientService = patientService;
+        this.patientImportJobRepository = patientImportJobRepository;
+        this.uniquenessClaimRegistry = uniquenessClaimRegistry;
+        this.userIdentityIndex = userIdentityIndex;
+        this.mongoTemplate = mongoTemplate;
+        this.auditorAware = auditorAware;
+        this.objectMapper = objectMapper;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    @Override
+    public PatientImportReport importPatients(InputStream input, ImportFormat format,
+                                              String resumeJobId, String startedBy) {
+        PatientImportJob job = resumeJobId != null ? resumableJob(resumeJobId) : newJob(format, startedBy);
+        ImportRun run = new ImportRun(job);
+        log.info("Patient import {} started ({}), resuming after line {}",
+            job.getId(), job.getFormat(), job.getLastCommittedLine());
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            List<String> header = null;
+            List<PendingPatient> batch = new ArrayList<>(batchSize);
+            long lineNumber = 0;
+            String line;
+
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (job.getFormat() == ImportFormat.CSV && header == null) {
+                    header = CsvUtils.parseLine(stripBom(line));
+                    continue;
+                }
+                if (lineNumber <= job.getLastCommittedLine()) {
+                    run.skipped++;
+                    continue;
+                }
+                if (line.isBlank()) continue;
+
+                run.rowsRead++;
+                readRow(line, header, lineNumber, batch, run);
+                if (batch.size() >= batchSize) {
+                    writeBatch(batch, run);
+                    commit(run, lineNumber);
+                }
+            }
+
+            writeBatch(batch, run);
+            commit(run, lineNumber);
+            job.setStatus(ImportStatus.COMPLETED);
+        } catch (IOException | RuntimeException e) {
+            // Yazılmış batch'ler kalır; aktarım son checkpoint'ten sürdürülebilir
+            log.error("Patient import {} stopped at line {}: {}", job.getId(), job.getLastCommittedLine(), e.getMessage());
+            job.setStatus(ImportStatus.FAILED);
+            job.setFailureReason(e.getMessage());
+        }
+
+        job.setFinishedAt(LocalDateTime.now());
+        job.setUpdatedAt(job.getFinishedAt());
+        patientImportJobRepository.save(job);
+
+        PatientImportReport report = run.toReport();
+        log.info("Patient import {} {}: {} imported, {} rejected, {} rows/s",
+            job.getId(), job.getStatus(), report.getImported(), report.getRejected(),
+            String.format("%.0f", report.getRowsPerSecond()));
+        return report;
+    }
+
+    @Override
+    public Optional<PatientImportJob> findJob(String jobId) {
+        return patientImportJobRepository.findById(jobId);
+    }
+
+    // === ROW HANDLING ===
+
+    private void readRow(String line, List<String> header, long lineNumber,
+                         List<PendingPatient> batch, ImportRun run) {
+        PatientImportRow row;
+        try {
+            row = header != null ? fromCsv(line, header) : objectMapper.readValue(line, PatientImportRow.class);
+        } catch (JsonProcessingException e) {
+            // Orijinal mesaj satır içeriğini tekrar etmez
+            run.reject(lineNumber, "Unreadable row: " + e.getOriginalMessage());
+            return;
+        } catch (IllegalArgumentException e) {
+            run.reject(lineNumber, "Unreadable row: " + e.getMessage());
+            return;
+        }
+
+        String invalidReason = validate(row);
+        if (invalidReason != null) {
+            run.reject(lineNumber, invalidReason);
+            return;
+        }
+        Patient patient = toPatient(row, run.startedAt);
+        patient.setId(importedPatientId(run.job.getId(), lineNumber));
+        batch.add(new PendingPatient(lineNumber, patient));
+    }
+
+    private PatientImportRow fromCsv(String line, List<String> header) {
+        List<String> values = CsvUtils.parseLine(line);
+        if (values.size() != header.size()) {
+            throw new IllegalArgumentException("expected " + header.size() + " columns, found " + values.size());
+        }
+
+        Map<String, String> fields = new LinkedHashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String value = CsvUtils.stripFormulaGuard(values.get(i).trim());
+            if (!value.isEmpty()) {
+                fields.put(header.get(i).trim(), value);
+            }
+        }
+        return objectMapper.convertValue(fields, PatientImportRow.class);
+    }
+
+    /**
+     * Satırı mevcut hasta kurallarına göre doğrular; geçerliyse null döner
+     */
+    private String validate(PatientImportRow row) {
+        if (isBlank(row.getFirstName()) || isBlank(row.getLastName())) {
+            return "First name and last name are required";
+        }
+        if (isBlank(row.getEmail()) || !row.getEmail().contains("@")) {
+            return "Valid email is required";
+        }
+        if (isBlank(row.getPhone()) || !PHONE_PATTERN.matcher(row.getPhone().trim()).matches()) {
+            return "Valid phone is required";
+        }
+        if (isBlank(row.getTcKimlikNo()) && isBlank(row.getPassportNo())) {
+            return "TC kimlik number or passport number is required";
+        }
+        if (!isBlank(row.getTcKimlikNo()) && !patientService.isValidTcKimlikNo(row.getTcKimlikNo().trim())) {
+            return "Invalid TC kimlik number";
+        }
+        if (!isBlank(row.getBloodType()) && !patientService.isValidBloodType(row.getBloodType().trim())) {
+            return "Invalid blood type";
+        }
+        return null;
+    }
+
+    private Patient toPatient(PatientImportRow row, LocalDateTime now) {
+        String auditor = auditorAware.getCurrentAuditor().orElse("system");
+
+        // No-arg constructor, alan varsayılanlarını (sayaçlar, sigorta) korur
+        Patient patient = new Patient();
+        patient.setTcKimlikNo(trimToNull(row.getTcKimlikNo()));
+        patient.setPassportNo(trimToNull(row.getPassportNo()));
+        patient.setFirstName(row.getFirstName().trim());
+        patient.setLastName(row.getLastName().trim());
+        patient.setEmail(row.getEmail().trim());
+        patient.setPhone(row.getPhone().trim());
+        patient.setGender(row.getGender());
+        patient.setBirthDate(row.getBirthDate());
+        patient.setBirthPlace(trimToNull(row.getBirthPlace()));
+        patient.setProvince(trimToNull(row.getProvince()));
+        patient.setDistrict(trimToNull(row.getDistrict()));
+        patient.setAddress(trimToNull(row.getAddress()));
+        patient.setPostalCode(trimToNull(row.getPostalCode()));
+        patient.setBloodType(trimToNull(row.getBloodType()));
+        patient.setHeightCm(row.getHeightCm());
+        patient.setWeightKg(row.getWeightKg());
+        patient.setAllergies(trimToNull(row.getAllergies()));
+        patient.setChronicDiseases(trimToNull(row.getChronicDiseases()));
+        patient.setCurrentMedications(trimToNull(row.getCurrentMedications()));
+        patient.setEmergencyContactName(trimToNull(row.getEmergencyContactName()));
+        patient.setEmergencyContactPhone(trimToNull(row.getEmergencyContactPhone()));
+        patient.setEmergencyContactRelationship(trimToNull(row.getEmergencyContactRelationship()));
+
+        // Aktarılan hastaların şifresi yoktur; şifre sıfırlama ile hesaplarını etkinleştirirler
+        patient.setRole(UserRole.PATIENT);
+        patient.setStatus(UserStatus.PENDING_VERIFICATION);
+        patient.setEmailVerified(false);
+        patient.setPhoneVerified(false);
+        patient.setFailedLoginAttempts(0);
+
+        // Ham insert auditing'i tetiklemediğinden alanlar burada doldurulur
+        patient.setCreatedAt(now);
+        patient.setUpdatedAt(now);
+        patient.setCreatedBy(auditor);
+        patient.setUpdatedBy(auditor);
+        patient.setVersion(0L);
+        return patient;
+    }
+
+    // === BATCH WRITE ===
+
+    private void writeBatch(List<PendingPatient> batch, ImportRun run) {
+        if (batch.isEmpty()) return;
+
+        List<PendingPatient> candidates = rejectKnownDuplicates(batch, run);
+
+        // Email, telefon ve TC kimlik no tüm kullanıcı koleksiyonlarında benzersizdir
+        Map<String, Map<ClaimType, String>> claimValues = new LinkedHashMap<>();
+        for (PendingPatient pending : candidates) {
+            Map<ClaimType, String> values = new EnumMap<>(ClaimType.class);
+            values.put(ClaimType.EMAIL, pending.patient().getEmail());
+            values.put(ClaimType.PHONE, pending.patient().getPhone());
+            values.put(ClaimType.TC_KIMLIK_NO, pending.patient().getTcKimlikNo());
+            claimValues.put(pending.patient().getId(), values);
+        }
+        Map<String, String> conflicts = uniquenessClaimRegistry.claimAll(claimValues);
+
+        List<PendingPatient> claimed = new ArrayList<>(candidates.size());
+        for (PendingPatient pending : candidates) {
+            String conflict = conflicts.get(pending.patient().getId());
+            if (conflict != null) {
+                run.reject(pending.line(), conflict);
+            } else {
+                claimed.add(pending);
+            }
+        }
+
+        List<Patient> inserted = insertPatients(claimed, claimValues, run);
+        userIdentityIndex.syncAll(inserted);
+        run.imported += inserted.size();
+        run.uncommittedImported += inserted.size();
+        batch.clear();
+    }
+
+    /**
+     * Aynı batch içinde tekrarlanan TC kimlik/pasaport numaralarını ve veritabanında
+     * başka bir hastada kayıtlı pasaport numaralarını eler (TC kimlik no claim ile
+     * kontrol edilir). Pasaport aynı satırın önceki denemede yazılmış hastasına
+     * aitse satır elenmez.
+     */
+    private List<PendingPatient> rejectKnownDuplicates(List<PendingPatient> batch, ImportRun run) {
+        Set<String> passports = new HashSet<>();
+        batch.forEach(pending -> {
+            if (pending.patient().getPassportNo() != null) passports.add(pending.patient().getPassportNo());
+        });
+
+        Map<String, String> existingPassports = new HashMap<>();
+        if (!passports.isEmpty()) {
+            Query query = new Query(Criteria.where("passportNo").in(passports));
+            query.fields().include("passportNo");
+            mongoTemplate.find(query, Patient.class)
+                .forEach(patient -> existingPassports.put(patient.getPassportNo(), patient.getId()));
+        }
+
+        Set<String> seenKeys = new HashSet<>();
+        List<PendingPatient> candidates = new ArrayList<>(batch.size());
+        for (PendingPatient pending : batch) {
+            Patient patient = pending.patient();
+            String passportOwner = patient.getPassportNo() != null ? existingPassports.get(patient.getPassportNo()) : null;
+            if (passportOwner != null && !passportOwner.equals(patient.getId())) {
+                run.reject(pending.line(), "Passport number already exists: " + patient.getPassportNo());
+            } else if (patient.getTcKimlikNo() != null && !seenKeys.add("TC:" + patient.getTcKimlikNo())
+                || patient.getPassportNo() != null && !seenKeys.add("PASSPORT:" + patient.getPassportNo())) {
+                run.reject(pending.line(), "Duplicate TC kimlik/passport number in import");
+            } else {
+                candidates.add(pending);
+            }
+        }
+        return candidates;
+    }
+
+    private List<Patient> insertPatients(List<PendingPatient> claimed,
+                                         Map<String, Map<ClaimType, String>> claimValues, ImportRun run) {
+        if (claimed.isEmpty()) return List.of();
+
+        List<Document> documents = new ArrayList<>(claimed.size());
+        for (PendingPatient pending : claimed) {
+            Document document = new Document();
+            mongoTemplate.getConverter().write(pending.patient(), document);
+            documents.add(document);
+        }
+
+        // Ham insertMany kayıt dinleyicilerini tetiklemez; kimlikler batch halinde eklenir
+        Set<Integer> failedIndexes = new HashSet<>();
+        try {
+            mongoTemplate.getCollection(mongoTemplate.getCollectionName(Patient.class))
+                .insertMany(documents, new InsertManyOptions().ordered(false));
+        } catch (MongoBulkWriteException e) {
+            // Önceki denemede yazılmış satırlar (_id çakışması) aktarılmış sayılır
+            Set<String> alreadyImported = existingIds(e.getWriteErrors().stream()
+                .filter(error -> ErrorCategory.fromErrorCode(error.getCode()) == ErrorCategory.DUPLICATE_KEY)
+                .map(error -> claimed.get(error.getIndex()).patient().getId())
+                .toList());
+
+            Map<String, Map<ClaimType, String>> released = new LinkedHashMap<>();
+            e.getWriteErrors().forEach(error -> {
+                PendingPatient pending = claimed.get(error.getIndex());
+                if (alreadyImported.contains(pending.patient().getId())) return;
+
+                failedIndexes.add(error.getIndex());
+                released.put(pending.patient().getId(), claimValues.get(pending.patient().getId()));
+                run.reject(pending.line(), ErrorCategory.fromErrorCode(error.getCode()) == ErrorCategory.DUPLICATE_KEY
+                    ? "Patient already exists (TC kimlik/passport/email/phone)"
+                    : error.getMessage());
+            });
+            uniquenessClaimRegistry.releaseAll(released);
+        }
+
+        List<Patient> inserted = new ArrayList<>(claimed.size());
+        for (int i = 0; i < claimed.size(); i++) {
+            if (!failedIndexes.contains(i)) {
+                inserted.add(claimed.get(i).patient());
+            }
+        }
+        return inserted;
+    }
+
+    private Set<String> existingIds(List<String> patientIds) {
+        Set<String> existing = new HashSet<>();
+        if (patientIds.isEmpty()) return existing;
+
+        Query query = new Query(Criteria.where("id").in(patientIds));
+        query.fields().include("id");
+        mongoTemplate.find(query, Patient.class).forEach(patient -> existing.add(patient.getId()));
+        return existing;
+    }
+
+    // === JOB CHECKPOINT ===
+
+    private PatientImportJob newJob(ImportFormat format, String startedBy) {
+        LocalDateTime now = LocalDateTime.now();
+        return patientImportJobRepository.save(PatientImportJob.builder()
+            .status(ImportStatus.RUNNING)
+            .format(format)
+            .startedBy(startedBy)
+            .startedAt(now)
+            .updatedAt(now)
+            .build());
+    }
+
+    private PatientImportJob resumableJob(String jobId) {
+        PatientImportJob job = patientImportJobRepository.findById(jobId)
+            .orElseThrow(() -> new ResourceNotFoundException("PatientImportJob", "id", jobId));
+        if (job.getStatus() == ImportStatus.COMPLETED) {
+            throw new BusinessException(ErrorCodes.IMPORT_ALREADY_COMPLETED);
+        }
+
+        job.setStatus(ImportStatus.RUNNING);
+        job.setFailureReason(null);
+        job.setFinishedAt(null);
+        job.setUpdatedAt(LocalDateTime.now());
+        return patientImportJobRepository.save(job);
+    }
+
+    /**
+     * Yazılmış batch'i ve o satıra kadar reddedilenleri checkpoint olarak kaydeder
+     */
+    private void commit(ImportRun run, long lineNumber) {
+        PatientImportJob job = run.job;
+        job.setLastCommittedLine(Math.max(job.getLastCommittedLine(), lineNumber));
+        job.setImported(job.getImported() + run.uncommittedImported);
+        job.setRejected(job.getRejected() + run.uncommittedRejected);
+        job.setUpdatedAt(LocalDateTime.now());
+        patientImportJobRepository.save(job);
+
+        run.uncommittedImported = 0;
+        run.uncommittedRejected = 0;
+    }
+
+    // === PRIVATE HELPERS ===
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private static String trimToNull(String value) {
+        return isBlank(value) ? null : value.trim();
+    }
+
+    /**
+     * Job id ve satır numarasından türetilen, ObjectId biçiminde (24 hex) hasta id'si
+     */
+    private static String importedPatientId(String jobId, long lineNumber) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                .digest((jobId + ":" + lineNumber).getBytes(StandardCharsets.UTF_8));
+            return new ObjectId(Arrays.copyOf(hash, 12)).toHexString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static String stripBom(String line) {
+        return !line.isEmpty() && line.charAt(0) == '\uFEFF' ? line.substring(1) : line;
+    }
+
+    private record PendingPatient(long line, Patient patient) {
+    }
+
+    /**
+     * Tek bir istek içindeki sayaçlar; job yalnızca commit'te güncellenir
+     */
+    private static final class ImportRun {
+        private final PatientImportJob job;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final long startedNanos = System.nanoTime();
+        private final List<PatientImportReport.RejectedRow> rejects = new ArrayList<>();
+        private long rowsRead;
+        private long skipped;
+        private long imported;
+        private long rejected;
+        private long uncommittedImported;
+        private long uncommittedRejected;
+
+        private ImportRun(PatientImportJob job) {
+            this.job = job;
+        }
+
+        private void reject(long line, String reason) {
+            rejected++;
+            uncommittedRejected++;
+            if (rejects.size() < MAX_REPORTED_REJECTS) {
+                rejects.add(new PatientImportReport.RejectedRow(line, reason));
+            }
+        }
+
+        private PatientImportReport toReport() {
+            long durationMillis = (System.nanoTime() - startedNanos) / 1_000_000;
+            return PatientImportReport.builder()
+                .jobId(job.getId())
+                .status(job.getStatus().name())
+                .rowsRead(rowsRead)
+                .rowsSkipped(skipped)
+                .imported(imported)
+                .rejected(rejected)
+                .lastCommittedLine(job.getLastCommittedLine())
+                .durationMillis(durationMillis)
+                .rowsPerSecond(durationMillis > 0 ? rowsRead * 1000.0 / durationMillis : rowsRead)
+                .rejects(rejects)
+                .build();
+        }
+    }
+}
@@ -4,14 +4,25 @@ package com.healthvia.platform.user.service.impl;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.healthvia.platform.auth.identity.UniquenessClaimRegistry;
+import com.healthvia.platform.common.constants.ErrorCodes;
+import com.healthvia.platform.common.dto.BulkWriteReport;
 import com.healthvia.platform.common.exception.BusinessException;
 import com.healthvia.platform.common.exception.ResourceNotFoundException;
+import com.healthvia.platform.common.persistence.AppointmentCounterUpdates;
+import com.healthvia.platform.common.persistence.BulkUpdater;
+import com.healthvia.platform.common.persistence.FieldPatch;
+import com.healthvia.platform.common.persistence.PartialUpdater;
+import com.healthvia.platform.user.dto.PatientDto;
 import com.healthvia.platform.user.entity.Patient;
 import com.healthvia.platform.user.entity.User;
 import com.healthvia.platform.user.repository.PatientRepository;
@@ -27,6 +38,10 @@ import lombok.extern.slf4j.Slf4j;
 public class PatientServiceImpl implements PatientService {
 
     private final PatientRepository patientRepository;
+    private final UniquenessClaimRegistry uniquenessClaimRegistry;
+    private final PartialUpdater partialUpdater;
+    private final BulkUpdater bulkUpdater;
+    private final ObjectMapper objectMapper;
 
     // === BASIC CRUD OPERATIONS ===
     
@@ -44,14 +59,15 @@ public class PatientServiceImpl implements PatientService {
             throw new BusinessException(null, "Pasaport No zaten kullanımda");
         }
         
-        return patientRepository.save(patient);
+        // Email/telefon/TC kimlik no yazmadan önce sahiplenilir; kimlik kaydı kayıttan sonra çakışmaz
+        return uniquenessClaimRegistry.saveClaimed(UniquenessClaimRegistry.uniqueValuesOf(patient),
+            () -> patientRepository.save(patient));
     }
 
     @Override
     public Patient updatePatient(String id, Patient patient) {
-        Patient existingPatient = findByIdOrThrow(id);
-        updatePatientFields(existingPatient, patient);
-        return patientRepository.save(existingPatient);
+        // İstek version taşıyorsa okunan kopya üzerinden optimistic kontrol yapılır
+        return partialUpdater.patch(Patient.class, id, patient.getVersion(), patientFieldsPatch(patient));
     }
 
     @Override
@@ -65,6 +81,7 @@ public class PatientServiceImpl implements PatientService {
         Patient patient = findByIdOrThrow(id);
         patient.markAsDeleted(deletedBy);
         patientRepository.save(patient);
+        uniquenessClaimRegistry.releaseOwner(id);
     }
 
     @Override
@@ -110,12 +127,11 @@ public class PatientServiceImpl implements PatientService {
     @Override
     public Patient updateHealthInformation(String patientId, String allergies, String chronicDiseases, 
                                          String currentMedications, String familyMedicalHistory) {
-        Patient patient = findByIdOrThrow(patientId);
-        patient.setAllergies(allergies);
-        patient.setChronicDiseases(chronicDiseases);
-        patient.setCurrentMedications(currentMedications);
-        patient.setFamilyMedicalHistory(familyMedicalHistory);
-        return patientRepository.save(patient);
+        return partialUpdater.patch(Patient.class, patientId, FieldPatch.create()
+            .set("allergies", allergies)
+            .set("chronicDiseases", chronicDiseases)
+            .set("currentMedications", currentMedications)
+            .set("familyMedicalHistory", familyMedicalHistory));
     }
 
     @Override
@@ -123,17 +139,15 @@ public class PatientServiceImpl implements PatientService {
         if (!isValidBloodType(bloodType)) {
             throw new BusinessException(null, "Geçersiz kan grubu");
         }
-        Patient patient = findByIdOrThrow(patientId);
-        patient.setBloodType(bloodType);
-        return patientRepository.save(patient);
+        return partialUpdater.patch(Patient.class, patientId, FieldPatch.create()
+            .set("bloodType", bloodType));
     }
 
     @Override
     public Patient updatePhysicalMeasurements(String patientId, Integer heightCm, Double weightKg) {
-        Patient patient = findByIdOrThrow(patientId);
-        patient.setHeightCm(heightCm);
-        patient.setWeightKg(weightKg);
-        return patientRepository.save(patient);
+        return partialUpdater.patch(Patient.class, patientId, FieldPatch.create()
+            .set("heightCm", heightCm)
+            .set("weightKg", weightKg));
     }
 
     @Override
@@ -155,24 +169,16 @@ public class PatientServiceImpl implements PatientService {
     @Override
     public Patient updateInsuranceInformation(String patientId, String insuranceCompany, 
                                             String policyNumber, LocalDate expiryDate) {
-        Patient patient = findByIdOrThrow(patientId);
-        patient.setInsuranceCompany(insuranceCompany);
-        patient.setInsurancePolicyNumber(policyNumber);
-        patient.setInsuranceExpiryDate(expiryDate);
-        patient.setHasInsurance(true);
-        return patientRepository.save(patient);
+        return partialUpdater.patch(Patient.class, patientId, FieldPatch.create()
+            .set("insuranceCompany", insuranceCompany)
+            .set("insurancePolicyNumber", policyNumber)
+            .set("insuranceExpiryDate", expiryDate)
+            .set("hasInsurance", true));
     }
 
     @Override
     public Patient updateInsuranceStatus(String patientId, boolean hasInsurance) {
-        Patient patient = findByIdOrThrow(patientId);
-        patient.setHasInsurance(hasInsurance);
-        if (!hasInsurance) {
-            patient.setInsuranceCompany(null);
-            patient.setInsurancePolicyNumber(null);
-            patient.setInsuranceExpiryDate(null);
-        }
-        return patientRepository.save(patient);
+        return partialUpdater.patch(Patient.class, patientId, insuranceStatusPatch(hasInsurance));
     }
 
     @Override
@@ -194,11 +200,10 @@ public class PatientServiceImpl implements PatientService {
     @Override
     public Patient updateEmergencyContact(String patientId, String contactName, 
                                         String contactPhone, String relationship) {
-        Patient patient = findByIdOrThrow(patientId);
-        patient.setEmergencyContactName(contactName);
-        patient.setEmergencyContactPhone(contactPhone);
-        patient.setEmergencyContactRelationship(relationship);
-        return patientRepository.save(patient);
+        return partialUpdater.patch(Patient.class, patientId, FieldPatch.create()
+            .set("emergencyContactName", contactName)
+            .set("emergencyContactPhone", contactPhone)
+            .set("emergencyContactRelationship", relationship));
     }
 
     @Override
@@ -219,18 +224,16 @@ public class PatientServiceImpl implements PatientService {
     public Patient updateLifestyleInformation(String patientId, Patient.SmokingStatus smokingStatus,
                                             Patient.AlcoholConsumption alcoholConsumption,
                                             Patient.ExerciseFrequency exerciseFrequency) {
-        Patient patient = findByIdOrThrow(patientId);
-        patient.setSmokingStatus(smokingStatus);
-        patient.setAlcoholConsumption(alcoholConsumption);
-        patient.setExerciseFrequency(exerciseFrequency);
-        return patientRepository.save(patient);
+        return partialUpdater.patch(Patient.class, patientId, FieldPatch.create()
+            .set("smokingStatus", smokingStatus)
+            .set("alcoholConsumption", alcoholConsumption)
+            .set("exerciseFrequency", exerciseFrequency));
     }
 
     @Override
     public Patient updatePreferredDoctorGender(String patientId, User.Gender preferredGender) {
-        Patient patient = findByIdOrThrow(patientId);
-        patient.setPreferredDoctorGender(preferredGender);
-        return patientRepository.save(patient);
+        return partialUpdater.patch(Patient.class, patientId, FieldPatch.create()
+            .set("preferredDoctorGender", preferredGender));
     }
 
     // === SEARCH & FILTER OPERATIONS ===
@@ -271,6 +274,26 @@ public class PatientServiceImpl implements PatientService {
         return patientRepository.findByChronicDiseasesContaining(disease);
     }
 
+    @Override
+    public Stream<Patient> streamAllForExport() {
+        return patientRepository.streamAllForExport();
+    }
+
+    @Override
+    public Stream<Patient> streamByBloodTypeForExport(String bloodType) {
+        return patientRepository.streamByBloodTypeForExport(bloodType);
+    }
+
+    @Override
+    public Stream<Patient> streamPatientsWithAllergiesForExport() {
+        return patientRepository.streamPatientsWithAllergies();
+    }
+
+    @Override
+    public Stream<Patient> streamPatientsWithChronicDiseasesForExport() {
+        return patientRepository.streamPatientsWithChronicDiseases();
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<Patient> searchByHealthConditions(String condition) {
@@ -327,18 +350,21 @@ public class PatientServiceImpl implements PatientService {
     @Override
     public Patient updateAppointmentStatistics(String patientId, int totalAppointments, 
                                              int completedAppointments, int cancelledAppointments) {
-        Patient patient = findByIdOrThrow(patientId);
-        patient.setTotalAppointments(totalAppointments);
-        patient.setCompletedAppointments(completedAppointments);
-        patient.setCancelledAppointments(cancelledAppointments);
-        return patientRepository.save(patient);
+        return partialUpdater.patchWithPipeline(Patient.class, patientId,
+            AppointmentCounterUpdates.set(totalAppointments, completedAppointments, cancelledAppointments));
+    }
+
+    @Override
+    public Patient incrementAppointmentStatistics(String patientId, int totalDelta,
+                                                 int completedDelta, int cancelledDelta) {
+        return partialUpdater.patchWithPipeline(Patient.class, patientId,
+            AppointmentCounterUpdates.increment(totalDelta, completedDelta, cancelledDelta));
     }
 
     @Override
     public Patient updateLastAppointmentDate(String patientId, LocalDate lastAppointmentDate) {
-        Patient patient = findByIdOrThrow(patientId);
-        patient.setLastAppointmentDate(lastAppointmentDate);
-        return patientRepository.save(patient);
+        return partialUpdater.patch(Patient.class, patientId, FieldPatch.create()
+            .set("lastAppointmentDate", lastAppointmentDate));
     }
 
     @Override
@@ -447,7 +473,7 @@ public class PatientServiceImpl implements PatientService {
         return bloodType.matches("^(A|B|AB|0)[+-]$");
     }
 
-    // === BULK OPERATIONS - Basit implementasyon ===
+    // === BULK OPERATIONS ===
     
     @Override
     public List<Patient> createPatients(List<Patient> patients) {
@@ -455,28 +481,15 @@ public class PatientServiceImpl implements PatientService {
     }
 
     @Override
-    public void updatePatientsHealthInfo(List<String> patientIds, String healthInfo) {
-        // Toplu güncelleme - gerçek projede daha optimize edilebilir
-        patientIds.forEach(id -> {
-            try {
-                Patient patient = findByIdOrThrow(id);
-                patient.setAllergies(healthInfo);
-                patientRepository.save(patient);
-            } catch (Exception e) {
-                log.warn("Failed to update health info for patient {}: {}", id, e.getMessage());
-            }
-        });
+    public BulkWriteReport updatePatientsHealthInfo(List<String> patientIds, String healthInfo) {
+        log.debug("Bulk updating health info of {} patients", patientIds.size());
+        return bulkUpdater.update(Patient.class, patientIds, FieldPatch.create().set("allergies", healthInfo));
     }
 
     @Override
-    public void updatePatientsInsuranceStatus(List<String> patientIds, boolean hasInsurance) {
-        patientIds.forEach(id -> {
-            try {
-                updateInsuranceStatus(id, hasInsurance);
-            } catch (Exception e) {
-                log.warn("Failed to update insurance status for patient {}: {}", id, e.getMessage());
-            }
-        });
+    public BulkWriteReport updatePatientsInsuranceStatus(List<String> patientIds, boolean hasInsurance) {
+        log.debug("Bulk updating insurance status of {} patients to {}", patientIds.size(), hasInsurance);
+        return bulkUpdater.update(Patient.class, patientIds, insuranceStatusPatch(hasInsurance));
     }
 
     // === Placeholder implementations - İleride gerçek implement edilecek ===
@@ -517,8 +530,14 @@ public class PatientServiceImpl implements PatientService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public String exportPatientData(String patientId) {
-        throw new UnsupportedOperationException("Not implemented yet");
+        Patient patient = findByIdOrThrow(patientId);
+        try {
+            return objectMapper.writeValueAsString(PatientDto.fromEntity(patient));
+        } catch (JsonProcessingException e) {
+            throw new BusinessException(ErrorCodes.INTERNAL_SERVER_ERROR, e);
+        }
     }
 
     @Override
@@ -555,46 +574,32 @@ public class PatientServiceImpl implements PatientService {
         }
     }
     
-    private void updatePatientFields(Patient existingPatient, Patient newPatient) {
-        // Sağlık bilgileri
-        if (newPatient.getAllergies() != null) {
-            existingPatient.setAllergies(newPatient.getAllergies());
-        }
-        if (newPatient.getChronicDiseases() != null) {
-            existingPatient.setChronicDiseases(newPatient.getChronicDiseases());
-        }
-        if (newPatient.getCurrentMedications() != null) {
-            existingPatient.setCurrentMedications(newPatient.getCurrentMedications());
-        }
-        if (newPatient.getBloodType() != null) {
-            existingPatient.setBloodType(newPatient.getBloodType());
-        }
-        
-        // Fiziksel ölçümler
-        if (newPatient.getHeightCm() != null) {
-            existingPatient.setHeightCm(newPatient.getHeightCm());
-        }
-        if (newPatient.getWeightKg() != null) {
-            existingPatient.setWeightKg(newPatient.getWeightKg());
-        }
-        
-        // Sigorta bilgileri
-        if (newPatient.getInsuranceCompany() != null) {
-            existingPatient.setInsuranceCompany(newPatient.getInsuranceCompany());
-        }
-        if (newPatient.getInsurancePolicyNumber() != null) {
-            existingPatient.setInsurancePolicyNumber(newPatient.getInsurancePolicyNumber());
-        }
-        
-        // Lifestyle
-        if (newPatient.getSmokingStatus() != null) {
-            existingPatient.setSmokingStatus(newPatient.getSmokingStatus());
-        }
-        if (newPatient.getAlcoholConsumption() != null) {
-            existingPatient.setAlcoholConsumption(newPatient.getAlcoholConsumption());
-        }
-        if (newPatient.getExerciseFrequency() != null) {
-            existingPatient.setExerciseFrequency(newPatient.getExerciseFrequency());
+    private FieldPatch patientFieldsPatch(Patient newPatient) {
+        return FieldPatch.create()
+            // Sağlık bilgileri
+            .setIfNotNull("allergies", newPatient.getAllergies())
+            .setIfNotNull("chronicDiseases", newPatient.getChronicDiseases())
+            .setIfNotNull("currentMedications", newPatient.getCurrentMedications())
+            .setIfNotNull("bloodType", newPatient.getBloodType())
+            // Fiziksel ölçümler
+            .setIfNotNull("heightCm", newPatient.getHeightCm())
+            .setIfNotNull("weightKg", newPatient.getWeightKg())
+            // Sigorta bilgileri
+            .setIfNotNull("insuranceCompany", newPatient.getInsuranceCompany())
+            .setIfNotNull("insurancePolicyNumber", newPatient.getInsurancePolicyNumber())
+            // Lifestyle
+            .setIfNotNull("smokingStatus", newPatient.getSmokingStatus())
+            .setIfNotNull("alcoholConsumption", newPatient.getAlcoholConsumption())
+            .setIfNotNull("exerciseFrequency", newPatient.getExerciseFrequency());
+    }
+    
+    private FieldPatch insuranceStatusPatch(boolean hasInsurance) {
+        FieldPatch patch = FieldPatch.create().set("hasInsurance", hasInsurance);
+        if (!hasInsurance) {
+            patch.unset("insuranceCompany")
+                .unset("insurancePolicyNumber")
+                .unset("insuranceExpiryDate");
         }
+        return patch;
     }
-}
\ No newline at end of file
+}
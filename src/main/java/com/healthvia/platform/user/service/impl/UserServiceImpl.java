@@ -1,24 +1,44 @@
 package com.healthvia.platform.user.service.impl;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.regex.Pattern;
 
+import org.bson.Document;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
+import com.healthvia.platform.auth.entity.UniquenessClaim.ClaimType;
+import com.healthvia.platform.auth.entity.UserIdentity;
+import com.healthvia.platform.auth.identity.UniquenessClaimRegistry;
+import com.healthvia.platform.auth.identity.UserIdentityIndex;
+import com.healthvia.platform.auth.security.PasswordHashingExecutor;
+import com.healthvia.platform.common.constants.AppConstants;
 import com.healthvia.platform.common.constants.ErrorCodes;
+import com.healthvia.platform.common.dto.BulkWriteReport;
 import com.healthvia.platform.common.enums.Language;
 import com.healthvia.platform.common.enums.UserRole;
 import com.healthvia.platform.common.enums.UserStatus;
 import com.healthvia.platform.common.exception.BusinessException;
 import com.healthvia.platform.common.exception.ResourceNotFoundException;
+import com.healthvia.platform.common.persistence.BulkUpdater;
+import com.healthvia.platform.common.persistence.FieldPatch;
+import com.healthvia.platform.common.persistence.PartialUpdater;
+import com.healthvia.platform.doctor.cache.DoctorProfileCache;
 import com.healthvia.platform.user.entity.User;
 import com.healthvia.platform.user.repository.UserRepository;
 import com.healthvia.platform.user.service.UserService;
@@ -33,7 +53,12 @@ import lombok.extern.slf4j.Slf4j;
 public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final UniquenessClaimRegistry uniquenessClaimRegistry;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final MongoTemplate mongoTemplate;
+    private final PartialUpdater partialUpdater;
+    private final BulkUpdater bulkUpdater;
+    private final DoctorProfileCache doctorProfileCache;
 
     // Şifre pattern'i - en az 8 karakter, büyük harf, küçük harf, rakam, özel karakter
     private static final Pattern PASSWORD_PATTERN = Pattern.compile(
@@ -48,18 +73,8 @@ public class UserServiceImpl implements UserService {
         
         validateUserForCreation(user);
         
-        // Email benzersizlik kontrolü
-        if (!isEmailAvailable(user.getEmail())) {
-            throw new BusinessException(ErrorCodes.USER_ALREADY_EXISTS, "Email already exists: " + user.getEmail());
-        }
-        
-        // Telefon benzersizlik kontrolü
-        if (!isPhoneAvailable(user.getPhone())) {
-            throw new BusinessException(ErrorCodes.USER_ALREADY_EXISTS, "Phone already exists: " + user.getPhone());
-        }
-        
-        // Şifreyi encode et
-        user.setPassword(passwordEncoder.encode(user.getPassword()));
+        // Şifre sınırlı hash havuzunda encode edilir (istek thread'i yerine; bkz. PasswordHashingExecutor)
+        user.setPassword(passwordHashingExecutor.encode(user.getPassword()));
         
         // Varsayılan değerler
         if (user.getStatus() == null) {
@@ -75,7 +90,9 @@ public class UserServiceImpl implements UserService {
             user.setFailedLoginAttempts(0);
         }
         
-        User savedUser = userRepository.save(user);
+        // Email ve telefon yazmadan önce atomik olarak sahiplenilir; başkasına aitse USER_ALREADY_EXISTS
+        User savedUser = uniquenessClaimRegistry.saveClaimed(UniquenessClaimRegistry.uniqueValuesOf(user),
+            () -> userRepository.save(user));
         log.info("User created successfully with ID: {}", savedUser.getId());
         
         return savedUser;
@@ -86,23 +103,14 @@ public class UserServiceImpl implements UserService {
         log.debug("Updating user with ID: {}", id);
         
         User existingUser = findByIdOrThrow(id);
-        
-        // Email değişmişse benzersizlik kontrolü
-        if (!existingUser.getEmail().equals(user.getEmail()) && 
-            !isEmailAvailableForUpdate(id, user.getEmail())) {
-            throw new BusinessException(ErrorCodes.USER_ALREADY_EXISTS, "Email already exists: " + user.getEmail());
-        }
-        
-        // Telefon değişmişse benzersizlik kontrolü
-        if (!existingUser.getPhone().equals(user.getPhone()) && 
-            !isPhoneAvailableForUpdate(id, user.getPhone())) {
-            throw new BusinessException(ErrorCodes.USER_ALREADY_EXISTS, "Phone already exists: " + user.getPhone());
-        }
+        Map<ClaimType, String> previousValues = UniquenessClaimRegistry.uniqueValuesOf(existingUser);
         
         // Güncellenebilir alanları güncelle
         updateUserFields(existingUser, user);
         
-        User updatedUser = userRepository.save(existingUser);
+        // Değişen email/telefon yazmadan önce sahiplenilir, eskisi yazmadan sonra bırakılır
+        User updatedUser = uniquenessClaimRegistry.saveWithChangedValues(id, previousValues,
+            UniquenessClaimRegistry.uniqueValuesOf(existingUser), () -> userRepository.save(existingUser));
         log.info("User updated successfully: {}", updatedUser.getId());
         
         return updatedUser;
@@ -122,6 +130,7 @@ public class UserServiceImpl implements UserService {
         User user = findByIdOrThrow(id);
         user.markAsDeleted(deletedBy);
         userRepository.save(user);
+        uniquenessClaimRegistry.releaseOwner(id);
         
         log.info("User soft deleted: {}", id);
     }
@@ -153,10 +162,8 @@ public class UserServiceImpl implements UserService {
     public User updateUserStatus(String userId, UserStatus status, String updatedBy) {
         log.debug("Updating user status: {} to {}", userId, status);
         
-        User user = findByIdOrThrow(userId);
-        user.setStatus(status);
-        
-        User updatedUser = userRepository.save(user);
+        User updatedUser = partialUpdater.patch(User.class, userId, FieldPatch.create()
+            .set("status", status));
         log.info("User status updated: {} -> {}", userId, status);
         
         return updatedUser;
@@ -166,15 +173,16 @@ public class UserServiceImpl implements UserService {
     public void verifyEmail(String userId) {
         log.debug("Verifying email for user: {}", userId);
         
-        User user = findByIdOrThrow(userId);
-        user.setEmailVerified(true);
-        
-        // Eğer kullanıcı PENDING_VERIFICATION durumundaysa, ACTIVE yap
-        if (UserStatus.PENDING_VERIFICATION.equals(user.getStatus())) {
-            user.setStatus(UserStatus.ACTIVE);
-        }
+        // Tek yazma: PENDING_VERIFICATION durumundaki kullanıcı aynı güncellemede ACTIVE olur.
+        // Durum okunup ikinci bir version kontrollü yazma yapılmadığı için eşzamanlı
+        // güncellemeler geçerli bir doğrulamayı CONCURRENT_MODIFICATION ile reddetmez.
+        partialUpdater.patchWithPipeline(User.class, userId, List.of(new Document("$set", new Document()
+            .append("email_verified", true)
+            .append("status", new Document("$cond", List.of(
+                new Document("$eq", List.of("$status", UserStatus.PENDING_VERIFICATION.name())),
+                UserStatus.ACTIVE.name(),
+                "$status"))))));
         
-        userRepository.save(user);
         log.info("Email verified for user: {}", userId);
     }
 
@@ -182,10 +190,8 @@ public class UserServiceImpl implements UserService {
     public void verifyPhone(String userId) {
         log.debug("Verifying phone for user: {}", userId);
         
-        User user = findByIdOrThrow(userId);
-        user.setPhoneVerified(true);
-        
-        userRepository.save(user);
+        partialUpdater.patch(User.class, userId, FieldPatch.create()
+            .set("phoneVerified", true));
         log.info("Phone verified for user: {}", userId);
     }
 
@@ -195,13 +201,11 @@ public class UserServiceImpl implements UserService {
     public User updateNotificationPreferences(String userId, List<String> preferences) {
         log.debug("Updating notification preferences for user: {}", userId);
         
-        User user = findByIdOrThrow(userId);
-        
         // List'i Set'e çevir (User entity'de Set<String> kullanıyor)
         Set<String> preferenceSet = preferences != null ? Set.copyOf(preferences) : Set.of();
-        user.setNotificationPreferences(preferenceSet);
         
-        User updatedUser = userRepository.save(user);
+        User updatedUser = partialUpdater.patch(User.class, userId, FieldPatch.create()
+            .set("notificationPreferences", preferenceSet));
         log.info("Notification preferences updated for user: {}", userId);
         
         return updatedUser;
@@ -211,10 +215,8 @@ public class UserServiceImpl implements UserService {
     public User updateAvatar(String userId, String avatarUrl) {
         log.debug("Updating avatar for user: {}", userId);
         
-        User user = findByIdOrThrow(userId);
-        user.setAvatarUrl(avatarUrl);
-        
-        User updatedUser = userRepository.save(user);
+        User updatedUser = partialUpdater.patch(User.class, userId, FieldPatch.create()
+            .set("avatarUrl", avatarUrl));
         log.info("Avatar updated for user: {}", userId);
         
         return updatedUser;
@@ -224,10 +226,8 @@ public class UserServiceImpl implements UserService {
     public User updateLanguagePreference(String userId, Language language) {
         log.debug("Updating language preference for user: {} to: {}", userId, language);
         
-        User user = findByIdOrThrow(userId);
-        user.setPreferredLanguage(language);
-        
-        User updatedUser = userRepository.save(user);
+        User updatedUser = partialUpdater.patch(User.class, userId, FieldPatch.create()
+            .set("preferredLanguage", language));
         log.info("Language preference updated for user: {} to: {}", userId, language);
         
         return updatedUser;
@@ -324,12 +324,47 @@ public class UserServiceImpl implements UserService {
         return updateUserStatus(userId, UserStatus.SUSPENDED, suspendedBy);
     }
 
+    @Override
+    public BulkWriteReport updateUsersStatus(List<String> userIds, UserStatus status, String updatedBy) {
+        log.debug("Bulk updating status of {} users to {} by: {}", userIds.size(), status, updatedBy);
+        if (userIds.size() > AppConstants.MAX_BULK_ITEMS) {
+            throw new BusinessException(ErrorCodes.BULK_LIMIT_EXCEEDED, AppConstants.MAX_BULK_ITEMS);
+        }
+
+        // Kullanıcılar dört koleksiyona dağılmış olduğundan id'ler kimlik kaydındaki kaynak koleksiyona göre gruplanır
+        Query identityQuery = new Query(Criteria.where("id").in(userIds));
+        identityQuery.fields().include("id").include("sourceCollection");
+        Map<String, List<String>> idsByCollection = new LinkedHashMap<>();
+        Set<String> knownIds = new HashSet<>();
+        for (UserIdentity identity : mongoTemplate.find(identityQuery, UserIdentity.class)) {
+            idsByCollection.computeIfAbsent(identity.getSourceCollection(), key -> new ArrayList<>())
+                .add(identity.getId());
+            knownIds.add(identity.getId());
+        }
+
+        BulkWriteReport report = BulkWriteReport.empty();
+        FieldPatch patch = FieldPatch.create().set("status", status);
+        idsByCollection.forEach((collection, ids) -> report.merge(
+            bulkUpdater.update(UserIdentityIndex.sourceType(collection), ids, patch,
+                updatedIds -> onUsersStatusChanged(collection, updatedIds, status))));
+
+        userIds.stream().distinct().filter(id -> !knownIds.contains(id)).forEach(id -> {
+            report.setRequested(report.getRequested() + 1);
+            report.addFailure(id, ErrorCodes.USER_NOT_FOUND.getCode(), ErrorCodes.USER_NOT_FOUND.getMessage());
+        });
+
+        log.info("Bulk status update to {} by {}: {} succeeded, {} failed",
+            status, updatedBy, report.getSucceeded(), report.getFailed());
+        return report;
+    }
+
     @Override
     public void permanentlyDeleteUser(String userId, String deletedBy) {
         log.debug("Permanently deleting user: {} by: {}", userId, deletedBy);
         
         User user = findByIdOrThrow(userId);
         userRepository.delete(user);
+        uniquenessClaimRegistry.releaseOwner(userId);
         
         log.warn("User permanently deleted: {}", userId);
     }
@@ -354,7 +389,15 @@ public class UserServiceImpl implements UserService {
         user.setDeletedBy(null);
         user.setStatus(UserStatus.ACTIVE);
         
-        User restoredUser = userRepository.save(user);
+        // Silinirken bırakılan değerler yeniden sahiplenilir; bu arada başkası aldıysa USER_ALREADY_EXISTS
+        List<String> claims = uniquenessClaimRegistry.claim(userId, UniquenessClaimRegistry.uniqueValuesOf(user));
+        User restoredUser;
+        try {
+            restoredUser = userRepository.save(user);
+        } catch (RuntimeException e) {
+            uniquenessClaimRegistry.release(claims);
+            throw e;
+        }
         log.info("User restored: {}", userId);
         
         return restoredUser;
@@ -369,23 +412,25 @@ public class UserServiceImpl implements UserService {
     // === MAINTENANCE METHODS ===
 
     @Override
+    @Scheduled(fixedDelayString = "${security.login.lock-cleanup-interval-ms:300000}")
     public void cleanupExpiredAccountLocks() {
         log.debug("Cleaning up expired account locks");
         
-        List<User> lockedUsers = userRepository.findLockedUsers(LocalDateTime.now());
+        // Kilit okuma anında accountLockedUntil'den türetilir; temizlik yalnızca
+        // süresi dolmuş kilitleri ve sayaçları sunucu tarafında sıfırlar
+        Query expired = new Query(Criteria.where("account_locked_until").lte(LocalDateTime.now()));
+        Update reset = new Update()
+            .unset("account_locked_until")
+            .set("failed_login_attempts", 0);
         
-        List<User> usersToUpdate = lockedUsers.stream()
-            .filter(user -> user.getAccountLockedUntil() != null && 
-                           user.getAccountLockedUntil().isBefore(LocalDateTime.now()))
-            .peek(user -> {
-                user.setAccountLockedUntil(null);
-                user.resetFailedLoginAttempts();
-            })
-            .toList();
+        long cleaned = 0;
+        for (String collection : UserIdentityIndex.sourceCollections()) {
+            cleaned += mongoTemplate.updateMulti(expired, reset, collection).getModifiedCount();
+        }
+        mongoTemplate.updateMulti(expired, reset, UserIdentityIndex.IDENTITY_COLLECTION);
         
-        if (!usersToUpdate.isEmpty()) {
-            userRepository.saveAll(usersToUpdate);
-            log.info("Cleaned up {} expired account locks", usersToUpdate.size());
+        if (cleaned > 0) {
+            log.info("Cleaned up {} expired account locks", cleaned);
         }
     }
 
@@ -421,6 +466,15 @@ public class UserServiceImpl implements UserService {
 
     // === PRIVATE HELPER METHODS ===
 
+    // Toplu yazılar kayıt dinleyicisini tetiklemez; kimlik kaydı ve doktor profil önbelleği burada güncellenir
+    private void onUsersStatusChanged(String collection, List<String> userIds, UserStatus status) {
+        mongoTemplate.updateMulti(new Query(Criteria.where("id").in(userIds)),
+            new Update().set("status", status), UserIdentity.class);
+        if ("doctors".equals(collection)) {
+            userIds.forEach(doctorProfileCache::evict);
+        }
+    }
+
     private User findByIdOrThrow(String id) {
         return userRepository.findById(id)
             .filter(user -> !user.isDeleted())
@@ -0,0 +1,219 @@
+package com.healthvia.platform.appointment.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.healthvia.platform.appointment.dto.BookAppointmentRequest;
+import com.healthvia.platform.appointment.entity.Appointment;
+import com.healthvia.platform.appointment.repository.AppointmentRepository;
+import com.healthvia.platform.appointment.repository.AppointmentSlotOccupancySource;
+import com.healthvia.platform.common.constants.ErrorCodes;
+import com.healthvia.platform.common.enums.AppointmentStatus;
+import com.healthvia.platform.common.exception.BusinessException;
+import com.healthvia.platform.doctor.entity.Doctor;
+import com.healthvia.platform.doctor.schedule.DoctorSlotEngine;
+import com.healthvia.platform.doctor.schedule.SlotOccupancySource;
+import com.healthvia.platform.doctor.service.DoctorService;
+import com.healthvia.platform.user.service.PatientService;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+
+/**
+ * Aynı slotlara eşzamanlı yüklenen rezervasyon denemelerinde çift randevu
+ * oluşmadığını gerçek bir mongod üzerinde doğrular (Testcontainers; Docker
+ * yoksa atlanır).
+ *
+ * Birden çok uygulama örneğini taklit etmek için her "düğüm" kendi slot
+ * motoruna sahiptir; bir düğümün bellekteki bitset'i diğerinin rezervasyonunu
+ * görmez, bu yüzden yarışan denemeler doctor_slot_unique_idx indeksine ulaşır.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class AppointmentBookingConcurrencyTest {
+
+    private static final int DOCTORS = 5;
+    private static final int SLOTS_PER_DOCTOR = 10;
+    private static final int SLOTS = DOCTORS * SLOTS_PER_DOCTOR;
+    private static final int ATTEMPTS_PER_SLOT = 40;
+    private static final int NODES = 4;
+    private static final int THREADS = 32;
+
+    @Container
+    private static final MongoDBContainer MONGO = new MongoDBContainer("mongo:7.0");
+
+    private static MongoClient mongoClient;
+    private static MongoTemplate mongoTemplate;
+
+    private AppointmentRepository appointmentRepository;
+    private List<String> doctorIds;
+    private LocalDateTime firstSlot;
+
+    @BeforeAll
+    static void connect() {
+        mongoClient = MongoClients.create(MONGO.getConnectionString());
+        mongoTemplate = new MongoTemplate(mongoClient, "healthvia_booking_test");
+    }
+
+    @AfterAll
+    static void disconnect() {
+        mongoClient.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate.dropCollection(Appointment.class);
+        mongoTemplate.dropCollection(Doctor.class);
+        IndexResolver.create(mongoTemplate.getConverter().getMappingContext())
+            .resolveIndexFor(Appointment.class)
+            .forEach(index -> mongoTemplate.indexOps(Appointment.class).createIndex(index));
+
+        appointmentRepository = new MongoRepositoryFactory(mongoTemplate).getRepository(AppointmentRepository.class);
+
+        doctorIds = new ArrayList<>();
+        for (int i = 0; i < DOCTORS; i++) {
+            Doctor doctor = Doctor.builder()
+                .workingDays(Arrays.stream(DayOfWeek.values()).map(DayOfWeek::name).collect(Collectors.toSet()))
+                .workingHoursStart(LocalTime.of(9, 0))
+                .workingHoursEnd(LocalTime.of(17, 0))
+                .consultationDurationMinutes(30)
+                .appointmentBufferMinutes(0)
+                .build();
+            doctor.setId(new ObjectId().toHexString());
+            doctorIds.add(mongoTemplate.insert(doctor).getId());
+        }
+        firstSlot = LocalDateTime.now().plusDays(7).with(LocalTime.of(9, 0));
+    }
+
+    @Test
+    void concurrentBookingsNeverDoubleBookASlot() throws Exception {
+        List<AppointmentServiceImpl> nodes = new ArrayList<>();
+        for (int i = 0; i < NODES; i++) {
+            nodes.add(newNode());
+        }
+
+        List<BookAppointmentRequest> requests = new ArrayList<>();
+        for (int attempt = 0; attempt < ATTEMPTS_PER_SLOT; attempt++) {
+            for (String doctorId : doctorIds) {
+                for (int slot = 0; slot < SLOTS_PER_DOCTOR; slot++) {
+                    requests.add(BookAppointmentRequest.builder()
+                        .doctorId(doctorId)
+                        .slotStart(firstSlot.plusMinutes(30L * slot))
+                        .build());
+                }
+            }
+        }
+
+        AtomicInteger booked = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        Map<String, AtomicInteger> winnersPerSlot = new ConcurrentHashMap<>();
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            BookAppointmentRequest request = requests.get(i);
+            AppointmentServiceImpl node = nodes.get(i % NODES);
+            String patientId = "patient-" + i;
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    Appointment appointment = node.bookAppointment(patientId, request);
+                    booked.incrementAndGet();
+                    winnersPerSlot
+                        .computeIfAbsent(appointment.getDoctorId() + "|" + appointment.getSlotStart(),
+                            key -> new AtomicInteger())
+                        .incrementAndGet();
+                } catch (BusinessException e) {
+                    assertThat(e.getErrorCode()).isEqualTo(ErrorCodes.APPOINTMENT_ALREADY_BOOKED);
+                    rejected.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertThat(booked.get()).isEqualTo(SLOTS);
+        assertThat(rejected.get()).isEqualTo(requests.size() - SLOTS);
+        assertThat(winnersPerSlot).hasSize(SLOTS);
+        assertThat(winnersPerSlot.values()).allSatisfy(winners -> assertThat(winners.get()).isEqualTo(1));
+        assertThat(mongoTemplate.count(new Query(Criteria.where("slotHeld").is(true)), Appointment.class))
+            .isEqualTo(SLOTS);
+    }
+
+    @Test
+    void partialUniqueIndexRejectsOnlyHeldDuplicates() {
+        String doctorId = doctorIds.get(0);
+        Appointment first = appointmentRepository.insert(heldAppointment(doctorId, "patient-1"));
+
+        assertThatThrownBy(() -> appointmentRepository.insert(heldAppointment(doctorId, "patient-2")))
+            .isInstanceOf(DuplicateKeyException.class);
+
+        // İptal edilen randevu indeksten düşer; slot yeniden rezerve edilebilir
+        first.setSlotHeld(false);
+        first.setStatus(AppointmentStatus.CANCELLED);
+        appointmentRepository.save(first);
+
+        assertThat(appointmentRepository.insert(heldAppointment(doctorId, "patient-2")).getId()).isNotNull();
+        assertThat(appointmentRepository.count()).isEqualTo(2);
+    }
+
+    // === HELPERS ===
+
+    private AppointmentServiceImpl newNode() {
+        StaticListableBeanFactory beans = new StaticListableBeanFactory(
+            Map.of("slotOccupancySource", new AppointmentSlotOccupancySource(appointmentRepository)));
+        DoctorSlotEngine slotEngine = new DoctorSlotEngine(mongoTemplate,
+            beans.getBeanProvider(SlotOccupancySource.class));
+
+        return new AppointmentServiceImpl(appointmentRepository, slotEngine,
+            mock(DoctorService.class), mock(PatientService.class));
+    }
+
+    private Appointment heldAppointment(String doctorId, String patientId) {
+        return Appointment.builder()
+            .doctorId(doctorId)
+            .patientId(patientId)
+            .slotStart(firstSlot)
+            .slotEnd(firstSlot.plusMinutes(30))
+            .slotHeld(true)
+            .status(AppointmentStatus.PENDING)
+            .build();
+    }
+}
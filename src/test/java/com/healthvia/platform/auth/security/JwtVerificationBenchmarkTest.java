@@ -0,0 +1,98 @@
+package com.healthvia.platform.auth.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.security.Key;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import com.healthvia.platform.common.enums.UserRole;
+import com.healthvia.platform.common.enums.UserStatus;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * Filtredeki token doğrulama yolu.
+ *
+ * Doğruluk testleri her build'de çalışır. Eski yol (her çağrıda yeni parser ile
+ * iki imza doğrulaması) ile tek parse'ın karşılaştırması bir ölçümdür; yalnızca
+ * -Dbenchmarks=true ile çalışır, sonuçları JUnit rapor kayıtlarına yazar ve süre
+ * oranı doğrulamaz.
+ */
+class JwtVerificationBenchmarkTest {
+
+    private static final int WARMUP = 5_000;
+    private static final int ITERATIONS = 20_000;
+
+    // application.properties ile aynı uzunlukta (HS512 için >= 512 bit)
+    private static final String SECRET =
+        "404E635266556A586E3272357538782F413F4428472B4B6250645367566B59703373367639792442264529482B4D6251655468576D5A7134743777217A25432A";
+
+    private JwtTokenProvider tokenProvider;
+    private Key key;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setSecret(SECRET);
+        tokenProvider = new JwtTokenProvider(jwtProperties);
+        tokenProvider.init();
+        key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtProperties.getSecret()));
+
+        token = tokenProvider.generateAccessToken(UserPrincipal.builder()
+            .id("user-1")
+            .email("ayse@example.com")
+            .firstName("Ayşe")
+            .lastName("Yılmaz")
+            .role(UserRole.PATIENT)
+            .status(UserStatus.ACTIVE)
+            .build());
+    }
+
+    @Test
+    void tamperedTokenIsRejected() {
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertThat(tokenProvider.verifyAccessToken(tampered)).isEmpty();
+        assertThat(tokenProvider.verifyAccessToken(token)).map(claims -> claims.getSubject()).contains("user-1");
+    }
+
+    @Test
+    @Tag("benchmark")
+    @EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+    void measureSingleParseAgainstLegacyPath(TestReporter reporter) {
+        double legacyNanos = measure(() -> {
+            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+            return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody().getSubject();
+        });
+        double singleParseNanos = measure(() -> tokenProvider.verifyAccessToken(token).orElseThrow().getSubject());
+
+        reporter.publishEntry("legacyNanosPerRequest", String.format("%.0f", legacyNanos));
+        reporter.publishEntry("singleParseNanosPerRequest", String.format("%.0f", singleParseNanos));
+    }
+
+    private static double measure(Supplier<String> verification) {
+        for (int i = 0; i < WARMUP; i++) {
+            verification.get();
+        }
+        int mismatches = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            if (!"user-1".equals(verification.get())) {
+                mismatches++;
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+
+        assertThat(mismatches).isZero();
+        return (double) elapsed / ITERATIONS;
+    }
+}
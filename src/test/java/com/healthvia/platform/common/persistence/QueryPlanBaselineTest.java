@@ -0,0 +1,161 @@
+package com.healthvia.platform.common.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.bson.Document;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.SimpleMongoClientDatabaseFactory;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.healthvia.platform.common.persistence.QueryPlanVerifier.Violation;
+import com.healthvia.platform.common.persistence.QueryPlanVerifier.ViolationType;
+import com.healthvia.platform.config.QueryPlanStartupCheck;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+
+/**
+ * Repository sorgularının planlarını gerçek bir mongod üzerinde (Testcontainers;
+ * Docker yoksa atlanır) query-plan-baseline.txt ile karşılaştırır.
+ *
+ * Listede olmayan yeni bir COLLSCAN da, artık taramayan veya silinmiş bir
+ * metodun satırı da testi kırar; liste yalnızca küçülebilir. Liste
+ * -Dquery-plan.update-baseline=true ile explain çıktısından yeniden yazılır.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class QueryPlanBaselineTest {
+
+    private static final String DATABASE = "healthvia_query_plan";
+    private static final String BASELINE = "/query-plan-baseline.txt";
+    private static final Path BASELINE_SOURCE = Path.of("src/test/resources/query-plan-baseline.txt");
+    private static final boolean UPDATE_BASELINE = Boolean.getBoolean("query-plan.update-baseline");
+
+    private static final List<String> BASELINE_HEADER = List.of(
+        "# Bugün tam koleksiyon taraması (COLLSCAN) yapan repository sorguları.",
+        "# QueryPlanBaselineTest listede olmayan yeni bir taramada ve artık taramayan",
+        "# veya silinmiş bir metodun satırında kırılır; bir sorgu indekse kavuştuğunda",
+        "# satırını silin.",
+        "#",
+        "# Liste mongod explain çıktısından üretilir:",
+        "#   mvn test -Dtest=QueryPlanBaselineTest -Dquery-plan.update-baseline=true");
+
+    @Container
+    private static final MongoDBContainer MONGO = new MongoDBContainer("mongo:7.0");
+
+    private static MongoClient mongoClient;
+    private static MongoTemplate mongoTemplate;
+    private static QueryPlanVerifier verifier;
+
+    @BeforeAll
+    static void connect() {
+        mongoClient = MongoClients.create(MONGO.getConnectionString());
+        mongoTemplate = new MongoTemplate(new SimpleMongoClientDatabaseFactory(mongoClient, DATABASE),
+            QueryPlanVerifierTest.converter());
+        verifier = new QueryPlanVerifier(mongoTemplate);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        mongoClient.close();
+    }
+
+    @Test
+    void collectionScansMatchBaseline() throws IOException {
+        Map<String, Set<String>> scansByRepository = new TreeMap<>();
+        List<Violation> otherViolations = new ArrayList<>();
+
+        for (Class<?> repository : QueryPlanStartupCheck.VERIFIED_REPOSITORIES) {
+            createCollectionWithIndexes(new DefaultRepositoryMetadata(repository).getDomainType());
+            Set<String> scans = scansByRepository.computeIfAbsent(repository.getSimpleName(), name -> new TreeSet<>());
+            for (Violation violation : verifier.verifyPlans(repository)) {
+                if (violation.type() == ViolationType.COLLECTION_SCAN) {
+                    scans.add(violation.method());
+                } else {
+                    otherViolations.add(violation);
+                }
+            }
+        }
+
+        Set<String> actual = new TreeSet<>();
+        scansByRepository.values().forEach(actual::addAll);
+
+        if (UPDATE_BASELINE) {
+            writeBaseline(scansByRepository);
+        }
+
+        Set<String> baseline = readBaseline();
+        Set<String> newScans = new TreeSet<>(actual);
+        newScans.removeAll(baseline);
+        Set<String> staleEntries = new TreeSet<>(baseline);
+        staleEntries.removeAll(actual);
+
+        assertThat(otherViolations).as("plan violations").isEmpty();
+        assertThat(newScans).as("collection scans missing from %s", BASELINE).isEmpty();
+        assertThat(staleEntries).as("entries in %s that no longer scan or no longer exist", BASELINE).isEmpty();
+    }
+
+    // === HELPERS ===
+
+    // Planlayıcı boş ama var olan koleksiyonda da indeks seçer; yok olan koleksiyon EOF döner
+    private static void createCollectionWithIndexes(Class<?> domainType) {
+        mongoTemplate.dropCollection(domainType);
+        mongoTemplate.createCollection(domainType);
+        IndexResolver.create(mongoTemplate.getConverter().getMappingContext())
+            .resolveIndexFor(domainType)
+            .forEach(index -> mongoTemplate.indexOps(domainType).createIndex(index));
+        mongoTemplate.getCollection(mongoTemplate.getCollectionName(domainType))
+            .insertOne(new Document("is_deleted", false));
+    }
+
+    private static Set<String> readBaseline() throws IOException {
+        Set<String> methods = new TreeSet<>();
+        try (InputStream input = UPDATE_BASELINE
+                ? Files.newInputStream(BASELINE_SOURCE)
+                : QueryPlanBaselineTest.class.getResourceAsStream(BASELINE)) {
+            if (input == null) {
+                return methods;
+            }
+            BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.strip();
+                if (!line.isEmpty() && !line.startsWith("#")) {
+                    methods.add(line);
+                }
+            }
+        }
+        return methods;
+    }
+
+    private static void writeBaseline(Map<String, Set<String>> scansByRepository) throws IOException {
+        List<String> lines = new ArrayList<>(BASELINE_HEADER);
+        scansByRepository.forEach((repository, methods) -> {
+            if (!methods.isEmpty()) {
+                lines.add("");
+                lines.add("# " + repository);
+                lines.addAll(methods);
+            }
+        });
+        Files.write(BASELINE_SOURCE, lines, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,121 @@
+package com.healthvia.platform.common.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.SimpleMongoClientDatabaseFactory;
+import org.springframework.data.mongodb.core.convert.DefaultMongoTypeMapper;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+
+import com.healthvia.platform.common.persistence.QueryPlanVerifier.Violation;
+import com.healthvia.platform.common.persistence.QueryPlanVerifier.ViolationType;
+import com.healthvia.platform.config.MongoConfig;
+import com.healthvia.platform.config.QueryPlanStartupCheck;
+import com.healthvia.platform.doctor.entity.Doctor;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+
+/**
+ * Repository sorgularının alan adlarını eşleme bilgisine karşı doğrular.
+ *
+ * Alan kontrolü sunucuya bağlanmaz; istemci yalnızca MongoTemplate kurmak için
+ * oluşturulur. Plan kontrolü QueryPlanBaselineTest'tedir.
+ */
+class QueryPlanVerifierTest {
+
+    private static final String DATABASE = "healthvia_query_plan";
+
+    private static MongoClient mongoClient;
+    private static MongoTemplate mongoTemplate;
+    private static QueryPlanVerifier verifier;
+
+    @BeforeAll
+    static void setUp() {
+        // İstemci ilk komutta bağlanır; alan kontrolü hiç komut göndermez
+        mongoClient = MongoClients.create();
+        mongoTemplate = new MongoTemplate(new SimpleMongoClientDatabaseFactory(mongoClient, DATABASE), converter());
+        verifier = new QueryPlanVerifier(mongoTemplate);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        mongoClient.close();
+    }
+
+    static Stream<Class<?>> repositories() {
+        return QueryPlanStartupCheck.VERIFIED_REPOSITORIES.stream();
+    }
+
+    @ParameterizedTest
+    @MethodSource("repositories")
+    void queryFieldsResolveToMappedFields(Class<?> repository) {
+        List<Violation> violations = verifier.verifyFields(repository);
+
+        assertThat(violations).as("field violations in %s", repository.getSimpleName()).isEmpty();
+    }
+
+    @Test
+    void reportsUnmappedFieldsAndCollapsedKeys() {
+        List<Violation> violations = verifier.verifyFields(BrokenDoctorQueries.class);
+
+        assertThat(violations)
+            .extracting(Violation::method, Violation::type)
+            .containsExactlyInAnyOrder(
+                tuple("BrokenDoctorQueries.findByIndexedArrayPath", ViolationType.UNKNOWN_FIELD),
+                tuple("BrokenDoctorQueries.findByMisspelledField", ViolationType.UNKNOWN_FIELD),
+                tuple("BrokenDoctorQueries.findByPropertyNameInExpression", ViolationType.UNKNOWN_FIELD),
+                tuple("BrokenDoctorQueries.findWithDuplicateOperator", ViolationType.DUPLICATE_KEY));
+    }
+
+    // === FIXTURES ===
+
+    interface BrokenDoctorQueries extends MongoRepository<Doctor, String> {
+
+        // QueryMapper dizi indeksli yolu eşlemez; saklanan ad 'languages_spoken'
+        @Query("{ 'languagesSpoken.1': { $exists: true } }")
+        List<Doctor> findByIndexedArrayPath();
+
+        @Query("{ 'specialty': ?0 }")
+        List<Doctor> findByMisspelledField(String specialty);
+
+        @Query("{ $expr: { $gt: ['$averageRating', ?0] } }")
+        List<Doctor> findByPropertyNameInExpression(Double rating);
+
+        @Query("{ 'currentHospital': { $ne: null, $ne: '' } }")
+        List<Doctor> findWithDuplicateOperator();
+
+        // Özellik adları QueryMapper ile saklanan adlara eşlenir; geçerli
+        @Query("{ 'primarySpecialty': ?0, 'isAcceptingNewPatients': true, 'deleted': false }")
+        List<Doctor> findByMappedPropertyNames(String primarySpecialty);
+    }
+
+    // === HELPERS ===
+
+    // Uygulamadaki dönüşümlerle aynı (BigDecimal -> Decimal128, _class yazılmaz)
+    static MappingMongoConverter converter() {
+        MongoCustomConversions conversions = MongoConfig.mongoCustomConversions();
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        mappingContext.afterPropertiesSet();
+
+        MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.setTypeMapper(new DefaultMongoTypeMapper(null));
+        converter.afterPropertiesSet();
+        return converter;
+    }
+}